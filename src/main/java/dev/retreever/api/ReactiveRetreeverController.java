@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.retreever.boot.RetreeverBootstrap;
+import dev.retreever.config.TestEnvironmentConfig;
+import dev.retreever.engine.DocumentSnapshot;
+import dev.retreever.view.dto.ApiDocument;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * WebFlux variant of {@link RetreeverController}, exposing the same endpoints.
+ * <p>
+ * Nothing blocks an event-loop thread: a published document is served directly, while
+ * loading an evicted document or resolving a lazy group runs on the bounded elastic
+ * scheduler. The document is serialized once per snapshot version and its bytes are
+ * handed out as a {@link DataBuffer} wrapping the cached array, without copying.
+ */
+@RestController
+@RequestMapping("/retreever")
+public class ReactiveRetreeverController {
+
+    private final RetreeverBootstrap bootstrap;
+    private final TestEnvironmentConfig environmentConfig;
+    private final ObjectMapper objectMapper;
+    private volatile SerializedDocument serialized;
+
+    public ReactiveRetreeverController(
+            RetreeverBootstrap bootstrap,
+            TestEnvironmentConfig environmentConfig,
+            ObjectMapper objectMapper) {
+        this.bootstrap = bootstrap;
+        this.environmentConfig = environmentConfig;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Simple health/ping endpoint for checking tool availability.
+     *
+     * @return basic status and uptime info
+     */
+    @GetMapping("/ping")
+    public Mono<ResponseEntity<Map<String, Object>>> ping() {
+        // Uptime is null until the first build or index completed
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("status", "OK");
+        response.put("uptime", bootstrap.getUptime());
+        return Mono.just(ResponseEntity.ok(response));
+    }
+
+    /**
+     * Returns the full API documentation snapshot as pre-serialized JSON.
+     *
+     * @return the assembled API document, or 503 before the first build or if an evicted
+     * document could not be loaded again
+     */
+    @GetMapping(value = "/doc", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<DataBuffer>> getDoc() {
+        DocumentSnapshot loaded = bootstrap.getLoadedSnapshot();
+        SerializedDocument cached = serialized;
+        if (loaded != null && cached != null && cached.version() == loaded.version()) {
+            return Mono.just(ResponseEntity.ok(cached.buffer()));
+        }
+
+        return offload(() -> {
+            DocumentSnapshot snapshot = loaded != null ? loaded : bootstrap.getSnapshot();
+            return snapshot != null ? serialize(snapshot).buffer() : null;
+        }).map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+    }
+
+    /**
+     * Lists the groups of the documentation without their endpoints.
+     *
+     * @return name, description and endpoint count of every group
+     */
+    @GetMapping("/groups")
+    public Mono<ResponseEntity<List<ApiDocument.GroupSummary>>> getGroups() {
+        return offload(bootstrap::getGroupIndex).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Returns a single group; with lazy groups enabled it is resolved on first request.
+     *
+     * @param name the group name, as listed by {@code /groups}
+     * @return the group, or 404 if there is none with that name
+     */
+    @GetMapping("/groups/{name}")
+    public Mono<ResponseEntity<ApiDocument.ApiGroup>> getGroup(@PathVariable("name") String name) {
+        return offload(() -> bootstrap.getGroup(name))
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Starts a background rebuild of the documentation. The current snapshot keeps
+     * being served until the new one is ready; concurrent requests share one rebuild.
+     *
+     * @return the version currently served and whether a rebuild is running
+     */
+    @PostMapping("/rebuild")
+    public Mono<ResponseEntity<Map<String, Object>>> rebuild() {
+        bootstrap.rebuild();
+
+        DocumentSnapshot snapshot = bootstrap.getLoadedSnapshot();
+        Map<String, Object> response = Map.of(
+                "status", bootstrap.isRebuilding() ? "REBUILDING" : "UP_TO_DATE",
+                "version", snapshot != null ? snapshot.version() : 0
+        );
+        return Mono.just(ResponseEntity.accepted().body(response));
+    }
+
+    @GetMapping("/environment")
+    public Mono<ResponseEntity<TestEnvironmentConfig>> getEnvironment() {
+        return Mono.just(ResponseEntity.ok(environmentConfig));
+    }
+
+    /**
+     * Runs work that may load or resolve documentation off the event loop.
+     */
+    private static <T> Mono<T> offload(Callable<T> work) {
+        return Mono.fromCallable(work).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private SerializedDocument serialize(DocumentSnapshot snapshot) {
+        SerializedDocument cached = serialized;
+        if (cached != null && cached.version() == snapshot.version()) {
+            return cached;
+        }
+        try {
+            cached = new SerializedDocument(snapshot.version(), objectMapper.writeValueAsBytes(snapshot.document()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize the Retreever document", e);
+        }
+        serialized = cached;
+        return cached;
+    }
+
+    /**
+     * The JSON of one snapshot version.
+     */
+    private record SerializedDocument(long version, byte[] json) {
+
+        /**
+         * A buffer over the cached bytes; wrapping does not copy them.
+         */
+        DataBuffer buffer() {
+            return DefaultDataBufferFactory.sharedInstance.wrap(json);
+        }
+    }
+}
@@ -11,11 +11,16 @@ package dev.retreever.api;
 import dev.retreever.config.TestEnvironmentConfig;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import dev.retreever.boot.RetreeverBootstrap;
+import dev.retreever.engine.DocumentSnapshot;
 import dev.retreever.view.dto.ApiDocument;
 
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -42,10 +47,10 @@ public class RetreeverController {
      */
     @GetMapping("/ping")
     public ResponseEntity<Map<String, Object>> ping() {
-        Map<String, Object> response = Map.of(
-                "status", "OK",
-                "uptime", bootstrap.getUptime()
-        );
+        // Uptime is null until the first build or index completed
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("status", "OK");
+        response.put("uptime", bootstrap.getUptime());
         return ResponseEntity.ok(response);
     }
 
@@ -59,6 +64,47 @@ public class RetreeverController {
         return ResponseEntity.ok(bootstrap.getDocument());
     }
 
+    /**
+     * Lists the groups of the documentation without their endpoints.
+     *
+     * @return name, description and endpoint count of every group
+     */
+    @GetMapping("/groups")
+    public ResponseEntity<List<ApiDocument.GroupSummary>> getGroups() {
+        return ResponseEntity.ok(bootstrap.getGroupIndex());
+    }
+
+    /**
+     * Returns a single group; with lazy groups enabled it is resolved on first request.
+     *
+     * @param name the group name, as listed by {@code /groups}
+     * @return the group, or 404 if there is none with that name
+     */
+    @GetMapping("/groups/{name}")
+    public ResponseEntity<ApiDocument.ApiGroup> getGroup(@PathVariable("name") String name) {
+        ApiDocument.ApiGroup group = bootstrap.getGroup(name);
+        return group != null ? ResponseEntity.ok(group) : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Starts a background rebuild of the documentation. The current snapshot keeps
+     * being served until the new one is ready; concurrent requests share one rebuild.
+     *
+     * @return the version currently served and whether a rebuild is running
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuild() {
+        bootstrap.rebuild();
+
+        // Never waits for an evicted document to load
+        DocumentSnapshot snapshot = bootstrap.getLoadedSnapshot();
+        Map<String, Object> response = Map.of(
+                "status", bootstrap.isRebuilding() ? "REBUILDING" : "UP_TO_DATE",
+                "version", snapshot != null ? snapshot.version() : 0
+        );
+        return ResponseEntity.accepted().body(response);
+    }
+
     @GetMapping("/environment")
     public ResponseEntity<TestEnvironmentConfig> getEnvironment() {
         return ResponseEntity.ok(environmentConfig);
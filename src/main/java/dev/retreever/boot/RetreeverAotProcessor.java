@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.boot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.retreever.config.RetreeverProperties;
+import dev.retreever.endpoint.model.ApiHeader;
+import dev.retreever.endpoint.model.MappedEndpoint;
+import dev.retreever.engine.ControllerScanner;
+import dev.retreever.engine.DocumentSnapshot;
+import dev.retreever.engine.MappingTracker;
+import dev.retreever.engine.RetreeverOrchestrator;
+import dev.retreever.engine.SnapshotStore;
+import dev.retreever.schema.resolver.TypeHandler;
+import dev.retreever.view.dto.ApiDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Precomputes the API document during Spring AOT processing ({@code process-aot}).
+ * <p>
+ * Controllers and advices are taken from the bean definitions, their request mappings are
+ * detected as the runtime handler mappings detect them, the orchestrator is created exactly
+ * as at runtime, and the built document is emitted as the generated resource
+ * {@value #DOCUMENT_RESOURCE}, together with the hints needed to read and serve it in a
+ * native image. The detected mappings are stored with it; at runtime in AOT mode,
+ * {@link RetreeverBootstrap} publishes this document instead of building one as long as the
+ * runtime mappings are the same.
+ * <p>
+ * No bean is instantiated. A document that depends on application beans, i.e. on
+ * {@link ApiHeader} or {@link TypeHandler} beans, or on the {@code ObjectMapper} through the
+ * {@code JACKSON} property source, is left to the runtime build. So is a document that
+ * cannot be built at AOT time; nothing is contributed when Retreever is disabled.
+ */
+public class RetreeverAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    /**
+     * Classpath location of the precomputed document.
+     */
+    public static final String DOCUMENT_RESOURCE = "META-INF/retreever/document.json";
+
+    private static final Logger log = LoggerFactory.getLogger(RetreeverAotProcessor.class);
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        if (beanFactory.getBeanNamesForType(RetreeverOrchestrator.class, false, false).length == 0) {
+            return null;
+        }
+
+        String dependency = beanDependency(beanFactory);
+        if (dependency != null) {
+            log.info("Retreever does not precompute the API document, which depends on {}; it will be built at runtime.",
+                    dependency);
+            return null;
+        }
+
+        byte[] document;
+        try {
+            document = buildDocument(beanFactory);
+        } catch (RuntimeException e) {
+            log.warn("Retreever could not precompute the API document; it will be built at runtime.", e);
+            return null;
+        }
+
+        return (generationContext, code) -> {
+            generationContext.getGeneratedFiles().addResourceFile(DOCUMENT_RESOURCE, () -> new ByteArrayInputStream(document));
+            registerHints(generationContext.getRuntimeHints());
+        };
+    }
+
+    /**
+     * Returns what the document depends on that would have to be instantiated, or null.
+     * Bean types are predicted from the definitions, without initializing any bean.
+     */
+    private static String beanDependency(ConfigurableListableBeanFactory beanFactory) {
+        if (beanFactory.getBeanNamesForType(ApiHeader.class, true, false).length > 0) {
+            return "ApiHeader beans";
+        }
+        if (beanFactory.getBeanNamesForType(TypeHandler.class, true, false).length > 0) {
+            return "TypeHandler beans";
+        }
+        if (bindProperties(beanFactory).getSchema().getPropertySource() == RetreeverProperties.PropertySource.JACKSON) {
+            return "the application's ObjectMapper";
+        }
+        return null;
+    }
+
+    private static RetreeverProperties bindProperties(ConfigurableListableBeanFactory beanFactory) {
+        Environment environment = beanFactory.getBean(Environment.class);
+        return Binder.get(environment)
+                .bind("retreever", RetreeverProperties.class)
+                .orElseGet(RetreeverProperties::new);
+    }
+
+    private byte[] buildDocument(ConfigurableListableBeanFactory beanFactory) {
+        RetreeverProperties properties = bindProperties(beanFactory);
+
+        Class<?> appClass = firstAnnotated(beanFactory, SpringBootApplication.class);
+        if (appClass == null) {
+            throw new IllegalStateException("No @SpringBootApplication class among the bean definitions");
+        }
+
+        // Guarded by beanDependency: no header or type handler bean exists, and no ObjectMapper is needed
+        RetreeverOrchestrator orchestrator = RetreeverAutoConfiguration.createOrchestrator(appClass,
+                List.of(),
+                properties,
+                beanFactory.getBeanProvider(ObjectMapper.class),
+                beanFactory.getBeanProvider(TypeHandler.class));
+
+        try (orchestrator) {
+            Map<Class<?>, List<MappedEndpoint>> mappings =
+                    ControllerScanner.scanMappings(annotated(beanFactory, RestController.class));
+            ApiDocument document = orchestrator.build(appClass, mappings,
+                    annotated(beanFactory, RestControllerAdvice.class));
+            // Compared with the runtime mappings at startup, which may be prefixed or registered programmatically
+            DocumentSnapshot snapshot = new DocumentSnapshot(1, document, orchestrator.getLastReport(), Instant.now(),
+                    MappingTracker.describe(mappings));
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            SnapshotStore.write(snapshot, out);
+            log.info("Retreever precomputed the API document: {} groups.", document.groups().size());
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the precomputed document and serves it as JSON without reflective resolution.
+     */
+    private static void registerHints(RuntimeHints hints) {
+        hints.resources().registerPattern(DOCUMENT_RESOURCE);
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                SnapshotStore.Stored.class, ApiDocument.class, ApiDocument.GroupSummary.class);
+    }
+
+    private static Class<?> firstAnnotated(ConfigurableListableBeanFactory beanFactory,
+                                           Class<? extends Annotation> annotation) {
+        Set<Class<?>> types = annotated(beanFactory, annotation);
+        return types.isEmpty() ? null : types.iterator().next();
+    }
+
+    /**
+     * Types of the bean definitions carrying the annotation, resolved without
+     * instantiating any bean.
+     */
+    private static Set<Class<?>> annotated(ConfigurableListableBeanFactory beanFactory,
+                                           Class<? extends Annotation> annotation) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (String name : beanFactory.getBeanDefinitionNames()) {
+            if (beanFactory.getBeanDefinition(name).isAbstract()) continue;
+
+            Class<?> type = beanFactory.getType(name, false);
+            if (type != null && AnnotatedElementUtils.hasAnnotation(type, annotation)) {
+                types.add(ClassUtils.getUserClass(type));
+            }
+        }
+        return types;
+    }
+}
@@ -8,46 +8,140 @@
 
 package dev.retreever.boot;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import dev.retreever.api.ReactiveRetreeverController;
+import dev.retreever.api.RetreeverController;
+import dev.retreever.config.RetreeverProperties;
+import dev.retreever.config.TestEnvironmentConfig;
 import dev.retreever.endpoint.model.ApiHeader;
 import dev.retreever.engine.RetreeverOrchestrator;
+import dev.retreever.schema.resolver.TypeHandler;
+import dev.retreever.schema.resolver.source.FieldPropertySource;
+import dev.retreever.schema.resolver.source.JacksonPropertySource;
+import dev.retreever.schema.resolver.source.SchemaPropertySource;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
 import java.util.List;
 import java.util.Map;
 
 /**
- * Auto-configures all Retreever components using component scanning.
+ * Auto-configures all Retreever components through explicit bean definitions; nothing is
+ * classpath-scanned. Only web applications with {@code retreever.enabled} (the default) get
+ * any bean at all; servlet and reactive applications each get their own controller.
  */
 @AutoConfiguration
+@ConditionalOnWebApplication
 @ConditionalOnProperty(prefix = "retreever", name = "enabled", havingValue = "true", matchIfMissing = true)
-@ComponentScan(basePackages = "dev.retreever")
+@EnableConfigurationProperties({RetreeverProperties.class, TestEnvironmentConfig.class})
 public class RetreeverAutoConfiguration {
 
     @Bean
-    public RetreeverOrchestrator orchestrator(ApplicationContext context) {
+    @ConditionalOnMissingBean
+    public RetreeverOrchestrator orchestrator(ApplicationContext context,
+                                              RetreeverProperties properties,
+                                              ObjectProvider<ObjectMapper> objectMapper,
+                                              ObjectProvider<TypeHandler> typeHandlers) {
 
         // Find the @SpringBootApplication class
         String[] appBeans = context.getBeanNamesForAnnotation(SpringBootApplication.class);
+        Class<?> appClass = appBeans.length > 0 ? context.getType(appBeans[0]) : null;
         Map<String, ApiHeader> headerBeans = context.getBeansOfType(ApiHeader.class);
         var headers = headerBeans.values().stream().toList();
 
-        if (appBeans.length == 0) {
-            // fallback — but extremely unlikely
-            return new RetreeverOrchestrator(List.of(), headers);
-        }
+        return createOrchestrator(appClass, headers, properties, objectMapper, typeHandlers);
+    }
+
+    /**
+     * Creates the orchestrator for the application; shared with AOT processing, so that the
+     * precomputed document matches a runtime build.
+     *
+     * @param appClass the {@code @SpringBootApplication} class, or null if unknown
+     */
+    static RetreeverOrchestrator createOrchestrator(Class<?> appClass,
+                                                    List<ApiHeader> headers,
+                                                    RetreeverProperties properties,
+                                                    ObjectProvider<ObjectMapper> objectMapper,
+                                                    ObjectProvider<TypeHandler> typeHandlers) {
+        SchemaPropertySource propertySource = propertySource(properties, objectMapper);
+
+        // Application type handlers take precedence over built-in classification
+        List<TypeHandler> handlers = typeHandlers.orderedStream().toList();
 
-        Class<?> appClass = context.getType(appBeans[0]);
         if (appClass == null || appClass.getPackage() == null) {
-            return new RetreeverOrchestrator(List.of(), headers);
+            // fallback — but extremely unlikely
+            return new RetreeverOrchestrator(List.of(), headers, propertySource, properties, handlers);
         }
 
         String basePackage = appClass.getPackage().getName();
 
-        return new RetreeverOrchestrator(List.of(basePackage, "java.util"), headers);
+        return new RetreeverOrchestrator(List.of(basePackage, "java.util"), headers, propertySource, properties, handlers);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public RetreeverBootstrap retreeverBootstrap(RetreeverOrchestrator orchestrator,
+                                                 RetreeverProperties properties) {
+        return new RetreeverBootstrap(orchestrator, properties);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class ServletControllerConfiguration {
+
+        /**
+         * Created on the first request to {@code /retreever/**}; its mappings are registered
+         * from the bean type alone.
+         */
+        @Bean
+        @Lazy
+        @ConditionalOnMissingBean
+        public RetreeverController retreeverController(RetreeverBootstrap bootstrap,
+                                                       TestEnvironmentConfig environmentConfig) {
+            return new RetreeverController(bootstrap, environmentConfig);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    @ConditionalOnClass(name = "reactor.core.publisher.Mono")
+    static class ReactiveControllerConfiguration {
+
+        /**
+         * Reactive counterpart of the servlet controller, likewise created on first request.
+         */
+        @Bean
+        @Lazy
+        @ConditionalOnMissingBean
+        public ReactiveRetreeverController reactiveRetreeverController(RetreeverBootstrap bootstrap,
+                                                                       TestEnvironmentConfig environmentConfig,
+                                                                       ObjectProvider<ObjectMapper> objectMapper) {
+            // The fallback must handle java.time, like the mapper Spring Boot would provide
+            return new ReactiveRetreeverController(bootstrap, environmentConfig,
+                    objectMapper.getIfAvailable(() -> JsonMapper.builder().findAndAddModules().build()));
+        }
+    }
+
+    /**
+     * Reads DTO properties through the application's ObjectMapper when
+     * {@code retreever.schema.property-source=jackson}, otherwise from declared fields.
+     */
+    private static SchemaPropertySource propertySource(RetreeverProperties properties,
+                                                       ObjectProvider<ObjectMapper> objectMapper) {
+        if (properties.getSchema().getPropertySource() == RetreeverProperties.PropertySource.JACKSON) {
+            return new JacksonPropertySource(objectMapper.getIfAvailable(ObjectMapper::new));
+        }
+        return new FieldPropertySource();
     }
 }
@@ -10,32 +10,99 @@ package dev.retreever.boot;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.event.EventListener;
-import org.springframework.stereotype.Component;
+import org.springframework.core.NativeDetector;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
+import dev.retreever.config.RetreeverProperties;
+import dev.retreever.endpoint.model.MappedEndpoint;
 import dev.retreever.engine.ControllerScanner;
+import dev.retreever.engine.DocumentSnapshot;
+import dev.retreever.engine.GroupIndex;
+import dev.retreever.engine.MappingTracker;
 import dev.retreever.engine.RetreeverOrchestrator;
+import dev.retreever.engine.SnapshotHolder;
+import dev.retreever.engine.SnapshotStore;
+import dev.retreever.view.DocumentFreezer;
 import dev.retreever.view.dto.ApiDocument;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 /**
  * Bootstrap component responsible for building and caching the API document
  * once the Spring application is fully initialized.
+ * <p>
+ * The document is published as a versioned {@link DocumentSnapshot}. {@link #rebuild()}
+ * refreshes it in the background while readers keep getting the previous snapshot;
+ * {@link #refreshMappings()} patches only the groups whose request mappings changed.
+ * <p>
+ * With {@code retreever.build.idle-ttl} set, a document that was not read for that long is
+ * dropped together with all build state. The next read loads it again, from the file at
+ * {@code retreever.build.snapshot-path} if present, else by rebuilding; concurrent readers
+ * share that single load.
+ * <p>
+ * With {@code retreever.build.lazy-groups}, startup only indexes the groups. Each group
+ * is resolved when it is first requested through {@link #getGroup(String)}, and the full
+ * document when it is first read; resolved groups are kept until evicted or changed.
+ * <p>
+ * In AOT mode, the document precomputed by {@link RetreeverAotProcessor} is published at
+ * startup, and again by rebuilds and reloads after eviction, instead of being built, as long
+ * as the request mappings are those seen at AOT processing. Otherwise, e.g. with path
+ * prefixes or programmatic registrations, the document is built as usual; a native image,
+ * whose hints only cover serving the precomputed document, keeps serving it and logs that
+ * the mappings changed.
  */
-@Component
-public class RetreeverBootstrap {
+public class RetreeverBootstrap implements DisposableBean {
 
     private final Logger log = LoggerFactory.getLogger(RetreeverBootstrap.class);
 
     private final RetreeverOrchestrator orchestrator;
-    private ApiDocument cached;
+    private final Duration mappingPollInterval;
+    private final Duration idleTtl;
+    private volatile boolean lazyGroups;
+    private final SnapshotStore store;
+    private final SnapshotHolder snapshots = new SnapshotHolder();
+    private final AtomicLong storedVersion = new AtomicLong();
+    private final MappingTracker mappings = new MappingTracker();
+    private final Executor rebuildExecutor = new SimpleAsyncTaskExecutor("retreever-rebuild-");
 
-    public RetreeverBootstrap(RetreeverOrchestrator orchestrator) {
+    private volatile ApplicationContext context;
+    private volatile Class<?> appClass;
+    private volatile long lastAccess = System.nanoTime();
+    private volatile Instant uptime;
+    private volatile boolean servingPrecomputed;
+    private volatile GroupIndex index = new GroupIndex(Map.of());
+    // Guards replacing the index, which the rebuild executor and the eviction scheduler both do
+    private final Object indexLock = new Object();
+    private ScheduledExecutorService scheduler;
+
+    public RetreeverBootstrap(RetreeverOrchestrator orchestrator, RetreeverProperties properties) {
         this.orchestrator = orchestrator;
+        this.mappingPollInterval = properties.getBuild().getMappingPollInterval();
+        this.idleTtl = properties.getBuild().getIdleTtl();
+        this.lazyGroups = properties.getBuild().isLazyGroups();
+        String snapshotPath = properties.getBuild().getSnapshotPath();
+        this.store = snapshotPath == null || snapshotPath.isBlank() ? null : new SnapshotStore(Path.of(snapshotPath));
     }
 
     /**
@@ -46,30 +113,368 @@ public class RetreeverBootstrap {
     public void init(ApplicationReadyEvent event) {
         log.info("Initializing Retreever. Resolving API Documentation.");
 
-        ApplicationContext context = event.getApplicationContext();
-        Class<?> appClass = event.getSpringApplication().getMainApplicationClass();
+        this.context = event.getApplicationContext();
+        this.appClass = event.getSpringApplication().getMainApplicationClass();
+
+        DocumentSnapshot precomputed = AotDetector.useGeneratedArtifacts() ? precomputed() : null;
+        if (precomputed != null) {
+            // Already complete; runtime changes are patched as usual
+            lazyGroups = false;
+            refresh(() -> precomputed, Runnable::run).join();
+        } else if (lazyGroups) {
+            // Groups are resolved on first access; the index is what is up at startup
+            reindex();
+            uptime = Instant.now();
+        } else {
+            // Build final documentation snapshot on the startup thread
+            refresh(this::build, Runnable::run).join();
+        }
+        startMappingPoller();
+        startIdleEviction();
+
+        log.info("Retreever initialized. API Document Ready.");
+    }
+
+    /**
+     * Checks the request mappings for changes since the last build, e.g. controllers
+     * registered or unregistered through {@code RequestMappingHandlerMapping} at runtime,
+     * and re-resolves only the affected groups. Call this after changing mappings
+     * programmatically; with {@code retreever.build.mapping-poll-interval} set it also
+     * runs periodically.
+     *
+     * @return completes with the current snapshot, which is unchanged when no mapping changed
+     */
+    public CompletableFuture<DocumentSnapshot> refreshMappings() {
+        if (context == null) {
+            return CompletableFuture.failedFuture(
+                    new IllegalStateException("Retreever has not been initialized yet"));
+        }
+        return refresh(this::patch, rebuildExecutor);
+    }
+
+    /**
+     * Rebuilds the API document in the background. Requests arriving while a rebuild
+     * is running share its result instead of starting another one; a rebuild requested
+     * while a patch or load is running starts once that is done.
+     *
+     * @return completes with the new snapshot once it is published
+     */
+    public CompletableFuture<DocumentSnapshot> rebuild() {
+        if (context == null) {
+            return CompletableFuture.failedFuture(
+                    new IllegalStateException("Retreever has not been initialized yet"));
+        }
+        return track(snapshots.rebuild(this::build, rebuildExecutor))
+                .whenComplete((snapshot, failure) -> {
+                    if (failure != null) {
+                        log.warn("Retreever rebuild failed; keeping the previous document.", failure);
+                    }
+                });
+    }
+
+    /**
+     * Publishes through the holder and writes every newly published snapshot to the store.
+     */
+    private CompletableFuture<DocumentSnapshot> refresh(Supplier<DocumentSnapshot> build, Executor executor) {
+        return track(snapshots.refresh(build, executor));
+    }
 
-        // Scan for @RestController-annotated classes
-        Set<Class<?>> controllers = ControllerScanner.scanControllers(context);
+    private CompletableFuture<DocumentSnapshot> track(CompletableFuture<DocumentSnapshot> refresh) {
+        return refresh.whenComplete((snapshot, failure) -> {
+            if (snapshot == null) return;
+            uptime = snapshot.document().upTime();
+            // Callers joining the same build all get here; only the first writes
+            if (store != null && storedVersion.getAndAccumulate(snapshot.version(), Math::max) < snapshot.version()) {
+                store.save(snapshot);
+            }
+        });
+    }
+
+    private DocumentSnapshot build() {
+        if (AotDetector.useGeneratedArtifacts()) {
+            DocumentSnapshot precomputed = precomputed();
+            if (precomputed != null) return precomputed;
+        }
+        servingPrecomputed = false;
+        if (lazyGroups) {
+            reindex();
+            return assembleIndexed();
+        }
+
+        // Controllers and their endpoints are rediscovered on every build
+        Map<Class<?>, List<MappedEndpoint>> current = ControllerScanner.scanMappings(context);
         Set<Class<?>> controllerAdvices = ControllerScanner.scanControllerAdvices(context);
+        mappings.reset(current);
 
-        // Build final documentation snapshot
-        this.cached = orchestrator.build(appClass, controllers, controllerAdvices);
+        ApiDocument document = orchestrator.build(appClass, current, controllerAdvices);
+        return new DocumentSnapshot(0, document, orchestrator.getLastReport(), Instant.now());
+    }
 
-        log.info("Retreever initialized. API Document Ready.");
+    /**
+     * Returns the precomputed document, stamped with the current time as its uptime, if it
+     * documents the current request mappings; also records those as the baseline for patches.
+     *
+     * @return the document to publish, or null to build one
+     */
+    private DocumentSnapshot precomputed() {
+        DocumentSnapshot precomputed = loadPrecomputed();
+        if (precomputed == null) return null;
+
+        Map<Class<?>, List<MappedEndpoint>> current = ControllerScanner.scanMappings(context);
+        if (!MappingTracker.describe(current).equals(precomputed.mappings())) {
+            if (!NativeDetector.inNativeImage()) {
+                log.info("Request mappings differ from those seen at AOT processing; building the Retreever documentation.");
+                return null;
+            }
+            log.warn("Request mappings differ from those seen at AOT processing; the precomputed Retreever "
+                    + "documentation is served as is, since a native image cannot build it.");
+        }
+        mappings.reset(current);
+        servingPrecomputed = true;
+
+        // Its uptime is when it is published, not when AOT processing ran
+        ApiDocument doc = precomputed.document();
+        ApiDocument document = DocumentFreezer.freezeDocument(new ApiDocument(doc.name(), doc.description(),
+                doc.version(), doc.uriPrefix(), Instant.now(), doc.groups()));
+        return new DocumentSnapshot(0, document, precomputed.report(), precomputed.builtAt(), precomputed.mappings());
+    }
+
+    private DocumentSnapshot loadPrecomputed() {
+        Resource resource = context.getResource("classpath:" + RetreeverAotProcessor.DOCUMENT_RESOURCE);
+        if (!resource.exists()) return null;
+        try (InputStream in = resource.getInputStream()) {
+            return SnapshotStore.read(in);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not read the precomputed Retreever document; building it instead.", e);
+            return null;
+        }
+    }
+
+    /**
+     * Brings back an evicted document: from the store if it has one, else by building.
+     */
+    private DocumentSnapshot load() {
+        DocumentSnapshot stored = store != null ? store.load() : null;
+        if (stored == null) {
+            // The lazy index is kept current while evicted; only its groups were dropped
+            return lazyGroups ? assembleIndexed() : build();
+        }
+        if (!lazyGroups) {
+            mappings.reset(ControllerScanner.scanMappings(context));
+        }
+        log.info("Retreever documentation v{} reloaded from the snapshot store.", stored.version());
+        return stored;
+    }
+
+    private DocumentSnapshot patch() {
+        // An evicted document is rebuilt from the current mappings when next read
+        if (!lazyGroups && snapshots.get() == null) {
+            return null;
+        }
+
+        Map<Class<?>, List<MappedEndpoint>> current = ControllerScanner.scanMappings(context);
+        Set<Class<?>> changed = mappings.update(current);
+        if (changed.isEmpty()) {
+            return snapshots.get();
+        }
+
+        if (servingPrecomputed && NativeDetector.inNativeImage()) {
+            // Reflection hints only cover serving the precomputed document, not building one
+            log.warn("Request mappings changed for {}; the precomputed Retreever documentation is served as is, "
+                            + "since a native image cannot build it.",
+                    changed.stream().map(Class::getSimpleName).toList());
+            return snapshots.get();
+        }
+
+        log.info("Request mappings changed for {}; updating Retreever documentation.",
+                changed.stream().map(Class::getSimpleName).toList());
+        if (lazyGroups) {
+            GroupIndex next = orchestrator.index(current);
+            synchronized (indexLock) {
+                index = index.carryOver(next, changed);
+            }
+            return snapshots.get() == null ? null : assembleIndexed();
+        }
+
+        Set<Class<?>> controllerAdvices = ControllerScanner.scanControllerAdvices(context);
+
+        ApiDocument document = orchestrator.update(appClass, current, controllerAdvices, changed);
+        servingPrecomputed = false;
+        return new DocumentSnapshot(0, document, orchestrator.getLastReport(), Instant.now());
+    }
+
+    /**
+     * Replaces the group index with one scanned from the current mappings.
+     */
+    private void reindex() {
+        Map<Class<?>, List<MappedEndpoint>> current = ControllerScanner.scanMappings(context);
+        mappings.reset(current);
+        GroupIndex next = orchestrator.index(current);
+        synchronized (indexLock) {
+            index = next;
+        }
+        log.debug("Retreever indexed {} groups.", index.getSummaries().size());
+    }
+
+    /**
+     * Assembles the document from the indexed groups, resolving those not resolved yet.
+     */
+    private DocumentSnapshot assembleIndexed() {
+        List<ApiDocument.ApiGroup> groups = index.groups(this::resolveGroup);
+        ApiDocument document = orchestrator.assemble(appClass, groups);
+        return new DocumentSnapshot(0, document, orchestrator.getLastReport(), Instant.now());
+    }
+
+    private ApiDocument.ApiGroup resolveGroup(Class<?> controller) {
+        // The endpoints the group was indexed with, so that its endpoint count holds
+        return orchestrator.resolveGroup(controller, mappings.get(controller),
+                ControllerScanner.scanControllerAdvices(context));
+    }
+
+    private synchronized void startMappingPoller() {
+        if (!isPositive(mappingPollInterval)) return;
+
+        long millis = mappingPollInterval.toMillis();
+        scheduler().scheduleWithFixedDelay(() -> refreshMappings().exceptionally(failure -> {
+            log.debug("Retreever mapping check failed", failure);
+            return null;
+        }), millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void startIdleEviction() {
+        if (!isPositive(idleTtl)) return;
+
+        // Checking at half the TTL evicts at most 1.5 TTLs after the last read
+        long millis = Math.max(1000, idleTtl.toMillis() / 2);
+        scheduler().scheduleWithFixedDelay(this::evictIfIdle, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    private void evictIfIdle() {
+        if (System.nanoTime() - lastAccess < idleTtl.toNanos()) return;
+
+        boolean evicted = snapshots.evict();
+        if (lazyGroups) {
+            synchronized (indexLock) {
+                if (index.resolvedCount() > 0) {
+                    index = index.withoutGroups();
+                    evicted = true;
+                }
+            }
+        }
+        if (evicted) {
+            orchestrator.release();
+            log.info("Retreever documentation idle for {}; evicted until next read.", idleTtl);
+        }
+    }
+
+    private ScheduledExecutorService scheduler() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "retreever-scheduler");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return scheduler;
+    }
+
+    private static boolean isPositive(Duration duration) {
+        return duration != null && !duration.isZero() && !duration.isNegative();
+    }
+
+    /**
+     * Stops polling for mapping changes and idle eviction when the application context shuts down.
+     */
+    @Override
+    public synchronized void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Returns the currently published snapshot, or null before the first build. An
+     * evicted snapshot is loaded again first; concurrent callers share that load.
+     */
+    public DocumentSnapshot getSnapshot() {
+        lastAccess = System.nanoTime();
+        DocumentSnapshot snapshot = snapshots.get();
+        if (snapshot != null || context == null) {
+            return snapshot;
+        }
+
+        try {
+            return refresh(this::load, Runnable::run).join();
+        } catch (CompletionException e) {
+            log.warn("Retreever could not reload the evicted documentation.", e.getCause());
+            return null;
+        }
+    }
+
+    /**
+     * Returns true while a rebuild is running or queued.
+     */
+    public boolean isRebuilding() {
+        return snapshots.isRefreshing();
+    }
+
+    /**
+     * Returns the published snapshot without ever loading one, so it never blocks; counts
+     * as a read. Null before the first build and while the document is evicted.
+     */
+    public DocumentSnapshot getLoadedSnapshot() {
+        lastAccess = System.nanoTime();
+        return snapshots.get();
+    }
+
+    /**
+     * Returns name, description and endpoint count of every group. In lazy mode this
+     * needs no group to be resolved.
+     */
+    public List<ApiDocument.GroupSummary> getGroupIndex() {
+        if (lazyGroups) {
+            return index.getSummaries();
+        }
+        ApiDocument document = getDocument();
+        return document == null ? List.of() : document.groups().stream()
+                .map(group -> new ApiDocument.GroupSummary(group.name(), group.description(),
+                        group.deprecated(), group.endpoints().size()))
+                .toList();
+    }
+
+    /**
+     * Returns the group with the given name, resolving it first if it was not yet.
+     *
+     * @return the group, or null if there is none with that name
+     */
+    public ApiDocument.ApiGroup getGroup(String name) {
+        if (lazyGroups) {
+            lastAccess = System.nanoTime();
+            GroupIndex current = index;
+            Class<?> controller = current.findController(name);
+            return controller != null ? current.group(controller, this::resolveGroup) : null;
+        }
+        ApiDocument document = getDocument();
+        return document == null ? null : document.groups().stream()
+                .filter(group -> group.name().equals(name))
+                .findFirst()
+                .orElse(null);
     }
 
     /**
      * Returns the cached API document.
      */
     public ApiDocument getDocument() {
-        return cached;
+        DocumentSnapshot snapshot = getSnapshot();
+        return snapshot != null ? snapshot.document() : null;
     }
 
     /**
-     * Returns the timestamp when the API document was built.
+     * Returns the timestamp when the API document was built. Does not count as a read,
+     * so it neither keeps the document from being evicted nor reloads it.
      */
     public Instant getUptime() {
-        return cached.upTime();
+        return uptime;
     }
 }
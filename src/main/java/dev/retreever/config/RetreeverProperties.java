@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Top-level {@code retreever.*} settings controlling how documentation is resolved.
+ * Environment variables live separately under {@code retreever.env}
+ * (see {@link TestEnvironmentConfig}).
+ */
+@ConfigurationProperties(prefix = "retreever")
+public class RetreeverProperties {
+
+    private boolean enabled = true;
+    private Schema schema = new Schema();
+    private Build build = new Build();
+    private Scan scan = new Scan();
+    private Errors errors = new Errors();
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public Schema getSchema() { return schema; }
+    public void setSchema(Schema schema) { this.schema = schema; }
+
+    public Build getBuild() { return build; }
+    public void setBuild(Build build) { this.build = build; }
+
+    public Scan getScan() { return scan; }
+    public void setScan(Scan scan) { this.scan = scan; }
+
+    public Errors getErrors() { return errors; }
+    public void setErrors(Errors errors) { this.errors = errors; }
+
+    // -------------------------------------- DATA MODELS -------------------------------------
+
+    public static class Schema {
+        private PropertySource propertySource = PropertySource.FIELDS;
+        private int maxDepth = SchemaLimits.DEFAULTS.maxDepth();
+        private int maxProperties = SchemaLimits.DEFAULTS.maxProperties();
+        private int maxNodes = SchemaLimits.DEFAULTS.maxNodes();
+        private int maxEnumValues = SchemaLimits.DEFAULTS.maxEnumValues();
+
+        public PropertySource getPropertySource() { return propertySource; }
+        public void setPropertySource(PropertySource propertySource) { this.propertySource = propertySource; }
+
+        public int getMaxDepth() { return maxDepth; }
+        public void setMaxDepth(int maxDepth) { this.maxDepth = maxDepth; }
+
+        public int getMaxProperties() { return maxProperties; }
+        public void setMaxProperties(int maxProperties) { this.maxProperties = maxProperties; }
+
+        public int getMaxNodes() { return maxNodes; }
+        public void setMaxNodes(int maxNodes) { this.maxNodes = maxNodes; }
+
+        public int getMaxEnumValues() { return maxEnumValues; }
+        public void setMaxEnumValues(int maxEnumValues) { this.maxEnumValues = maxEnumValues; }
+
+        public SchemaLimits toLimits() {
+            return new SchemaLimits(maxDepth, maxProperties, maxNodes, maxEnumValues);
+        }
+    }
+
+    public static class Build {
+        private Duration timeout = Duration.ofSeconds(30);
+        private Duration typeTimeout = Duration.ofSeconds(5);
+        private boolean incremental = false;
+        private Duration mappingPollInterval = Duration.ZERO;
+        private int parallelism = 0;
+        private Duration idleTtl = Duration.ZERO;
+        private String snapshotPath;
+        private boolean lazyGroups = false;
+
+        /** Overall budget of a documentation build; zero disables it. */
+        public Duration getTimeout() { return timeout; }
+        public void setTimeout(Duration timeout) { this.timeout = timeout; }
+
+        /** Budget for resolving a single schema; zero disables it. */
+        public Duration getTypeTimeout() { return typeTimeout; }
+        public void setTypeTimeout(Duration typeTimeout) { this.typeTimeout = typeTimeout; }
+
+        /**
+         * Reuses groups whose classes did not change since the previous build of the same
+         * application in this JVM, e.g. across DevTools restarts or rebuilds.
+         */
+        public boolean isIncremental() { return incremental; }
+        public void setIncremental(boolean incremental) { this.incremental = incremental; }
+
+        /**
+         * How often request mappings are checked for runtime registrations, patching the
+         * document when they changed; zero disables polling.
+         */
+        public Duration getMappingPollInterval() { return mappingPollInterval; }
+        public void setMappingPollInterval(Duration mappingPollInterval) { this.mappingPollInterval = mappingPollInterval; }
+
+        /**
+         * Threads running independent build stages in parallel; zero uses one per available
+         * processor, one runs every stage on the calling thread.
+         */
+        public int getParallelism() { return parallelism; }
+        public void setParallelism(int parallelism) { this.parallelism = parallelism; }
+
+        /**
+         * Drops the document and all build state after it was not read for this long; the
+         * next read rebuilds it, or reloads it from {@link #getSnapshotPath()}. Zero keeps
+         * the document in memory for good.
+         */
+        public Duration getIdleTtl() { return idleTtl; }
+        public void setIdleTtl(Duration idleTtl) { this.idleTtl = idleTtl; }
+
+        /** File every published document is written to, for reloading after idle eviction; unset disables it. */
+        public String getSnapshotPath() { return snapshotPath; }
+        public void setSnapshotPath(String snapshotPath) { this.snapshotPath = snapshotPath; }
+
+        /**
+         * Only indexes the groups at startup; a group is resolved when it is first
+         * requested, and the full document when it is first read.
+         */
+        public boolean isLazyGroups() { return lazyGroups; }
+        public void setLazyGroups(boolean lazyGroups) { this.lazyGroups = lazyGroups; }
+    }
+
+    /**
+     * Scope rules, compiled into a {@link ScopeFilter}. Package rules accept globs
+     * ({@code com.acme.**}, {@code com.*.api}); the application package and java.util
+     * are always included unless excluded.
+     */
+    public static class Scan {
+        private List<String> includePackages = new ArrayList<>();
+        private List<String> excludePackages = new ArrayList<>();
+        private List<String> includeAnnotations = new ArrayList<>();
+        private List<String> excludeAnnotations = new ArrayList<>();
+        private List<String> excludeControllers = new ArrayList<>();
+        private List<String> excludeGroups = new ArrayList<>();
+
+        public List<String> getIncludePackages() { return includePackages; }
+        public void setIncludePackages(List<String> includePackages) { this.includePackages = includePackages; }
+
+        public List<String> getExcludePackages() { return excludePackages; }
+        public void setExcludePackages(List<String> excludePackages) { this.excludePackages = excludePackages; }
+
+        /** Fully qualified annotation names; annotated types are in scope wherever they live. */
+        public List<String> getIncludeAnnotations() { return includeAnnotations; }
+        public void setIncludeAnnotations(List<String> includeAnnotations) { this.includeAnnotations = includeAnnotations; }
+
+        /** Fully qualified annotation names; annotated types and controllers are never walked. */
+        public List<String> getExcludeAnnotations() { return excludeAnnotations; }
+        public void setExcludeAnnotations(List<String> excludeAnnotations) { this.excludeAnnotations = excludeAnnotations; }
+
+        /** Controller simple or qualified name globs, e.g. {@code *InternalController}. */
+        public List<String> getExcludeControllers() { return excludeControllers; }
+        public void setExcludeControllers(List<String> excludeControllers) { this.excludeControllers = excludeControllers; }
+
+        /** Group names as documented ({@code @ApiGroup} name, else e.g. {@code Order APIs}); controller simple names also match. */
+        public List<String> getExcludeGroups() { return excludeGroups; }
+        public void setExcludeGroups(List<String> excludeGroups) { this.excludeGroups = excludeGroups; }
+    }
+
+    public static class Errors {
+        private boolean inferThrown = false;
+        private int inferCallDepth = 1;
+
+        /**
+         * Adds exceptions found in endpoint bytecode ({@code throw new X(..)}, {@code X::new},
+         * declared {@code throws}) to the endpoint's errors, next to {@code @ApiEndpoint(errors)}.
+         */
+        public boolean isInferThrown() { return inferThrown; }
+        public void setInferThrown(boolean inferThrown) { this.inferThrown = inferThrown; }
+
+        /** Call levels into in-scope classes followed below the endpoint method; zero stays in the method. */
+        public int getInferCallDepth() { return inferCallDepth; }
+        public void setInferCallDepth(int inferCallDepth) { this.inferCallDepth = inferCallDepth; }
+    }
+
+    /**
+     * Where schema properties of DTOs are read from.
+     */
+    public enum PropertySource {
+        /** Declared instance fields, under their Java names. */
+        FIELDS,
+        /** The application's ObjectMapper, matching the serialized wire format. */
+        JACKSON
+    }
+}
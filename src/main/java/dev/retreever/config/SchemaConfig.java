@@ -1,16 +1,60 @@
 package dev.retreever.config;
 
+import dev.retreever.schema.resolver.TypeHandler;
+import dev.retreever.schema.resolver.source.FieldPropertySource;
+import dev.retreever.schema.resolver.source.SchemaPropertySource;
+
 import java.util.List;
 
+/**
+ * Immutable schema resolution settings of one {@code RetreeverOrchestrator}.
+ * Each application context builds its own instance, so concurrently running
+ * contexts never observe each other's scope, property source or type handlers.
+ */
 public final class SchemaConfig {
 
-    private static List<String> basePackages;
+    /**
+     * Settings used when no resolution context is bound: nothing in scope, declared
+     * fields, default limits and only the built-in type rules.
+     */
+    public static final SchemaConfig DEFAULT = new SchemaConfig(
+            ScopeFilter.ofPackages(List.of()), new FieldPropertySource(), SchemaLimits.DEFAULTS, List.of());
+
+    private final ScopeFilter scope;
+    private final SchemaPropertySource propertySource;
+    private final SchemaLimits limits;
+    private final List<TypeHandler> typeHandlers;
+
+    public SchemaConfig(List<String> packages) {
+        this(ScopeFilter.ofPackages(packages), null, null, List.of());
+    }
+
+    /**
+     * @param typeHandlers application handlers consulted before the built-in type rules, in order
+     */
+    public SchemaConfig(ScopeFilter scope,
+                        SchemaPropertySource propertySource,
+                        SchemaLimits limits,
+                        List<TypeHandler> typeHandlers) {
+        this.scope = scope != null ? scope : ScopeFilter.ofPackages(List.of());
+        this.propertySource = propertySource != null ? propertySource : new FieldPropertySource();
+        this.limits = limits != null ? limits : SchemaLimits.DEFAULTS;
+        this.typeHandlers = typeHandlers != null ? List.copyOf(typeHandlers) : List.of();
+    }
+
+    public ScopeFilter getScope() {
+        return scope;
+    }
+
+    public SchemaPropertySource getPropertySource() {
+        return propertySource;
+    }
 
-    public static void init(List<String> packages) {
-        basePackages = packages;
+    public SchemaLimits getLimits() {
+        return limits;
     }
 
-    public static List<String> getBasePackages() {
-        return basePackages;
+    public List<TypeHandler> getTypeHandlers() {
+        return typeHandlers;
     }
 }
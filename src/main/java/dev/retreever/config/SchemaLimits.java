@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.config;
+
+/**
+ * Upper bounds applied while resolving a single schema (one request body,
+ * response or error body). Anything beyond a limit is cut off and marked as truncated.
+ *
+ * @param maxDepth      maximum nesting depth of object/array/map nodes
+ * @param maxProperties maximum properties documented per object
+ * @param maxNodes      maximum schema nodes resolved per schema
+ * @param maxEnumValues maximum enum constants listed in an ALLOWED_VALUES constraint
+ */
+public record SchemaLimits(int maxDepth, int maxProperties, int maxNodes, int maxEnumValues) {
+
+    public static final SchemaLimits DEFAULTS = new SchemaLimits(32, 256, 10_000, 100);
+}
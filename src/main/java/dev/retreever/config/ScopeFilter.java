@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.config;
+
+import dev.retreever.group.resolver.ApiGroupResolver;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled include/exclude rules deciding which classes Retreever documents and walks.
+ * <p>
+ * Package rules that are plain prefixes ({@code com.acme} or {@code com.acme.**}) are compiled
+ * into a package-segment trie where the most specific rule wins; other globs
+ * ({@code com.*.api}) fall back to regular expressions. Annotation rules and controller
+ * name/group exclusions are applied on top. Verdicts are cached per class in a
+ * {@link ClassValue}, so repeated checks are O(1).
+ */
+public final class ScopeFilter {
+
+    private enum Verdict { INCLUDE, EXCLUDE }
+
+    private final PackageNode packages = new PackageNode();
+    private final List<Pattern> includeGlobs = new ArrayList<>();
+    private final List<Pattern> excludeGlobs = new ArrayList<>();
+    private final Set<String> includeAnnotations;
+    private final Set<String> excludeAnnotations;
+    private final List<Pattern> excludeControllers = new ArrayList<>();
+    private final Set<String> excludeGroups;
+
+    private final ClassValue<Boolean> typeVerdicts = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return computeIncludesType(type);
+        }
+    };
+
+    private final ClassValue<Boolean> controllerVerdicts = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return computeIncludesController(type);
+        }
+    };
+
+    private ScopeFilter(Collection<String> includePackages,
+                        Collection<String> excludePackages,
+                        Collection<String> includeAnnotations,
+                        Collection<String> excludeAnnotations,
+                        Collection<String> excludeControllers,
+                        Collection<String> excludeGroups) {
+        includePackages.forEach(p -> addPackageRule(p, Verdict.INCLUDE));
+        excludePackages.forEach(p -> addPackageRule(p, Verdict.EXCLUDE));
+        this.includeAnnotations = Set.copyOf(includeAnnotations);
+        this.excludeAnnotations = Set.copyOf(excludeAnnotations);
+        excludeControllers.forEach(p -> this.excludeControllers.add(glob(p, ".*")));
+        this.excludeGroups = Set.copyOf(excludeGroups);
+    }
+
+    /**
+     * Filter including the given packages and their subpackages, nothing else.
+     */
+    public static ScopeFilter ofPackages(Collection<String> packages) {
+        return new ScopeFilter(packages, List.of(), List.of(), List.of(), List.of(), List.of());
+    }
+
+    /**
+     * Compiles the {@code retreever.scan.*} rules on top of the default packages.
+     *
+     * @param defaultPackages packages always in scope unless excluded (application package, java.util)
+     * @param scan            configured rules
+     */
+    public static ScopeFilter compile(Collection<String> defaultPackages, RetreeverProperties.Scan scan) {
+        List<String> includes = new ArrayList<>(defaultPackages);
+        includes.addAll(scan.getIncludePackages());
+        return new ScopeFilter(includes, scan.getExcludePackages(),
+                scan.getIncludeAnnotations(), scan.getExcludeAnnotations(),
+                scan.getExcludeControllers(), scan.getExcludeGroups());
+    }
+
+    /**
+     * Returns true if the type's schema should be resolved: it lies in an included package
+     * (or carries an included annotation) and is not excluded.
+     */
+    public boolean includesType(Class<?> type) {
+        return type != null && typeVerdicts.get(type);
+    }
+
+    /**
+     * Returns true unless the controller is explicitly excluded by package, annotation,
+     * name pattern or group name.
+     */
+    public boolean includesController(Class<?> controller) {
+        return controller != null && controllerVerdicts.get(controller);
+    }
+
+    // === VERDICTS ===
+
+    private boolean computeIncludesType(Class<?> type) {
+        if (hasAnnotation(type, excludeAnnotations)) return false;
+
+        Verdict verdict = packageVerdict(type.getPackageName());
+        if (verdict == Verdict.EXCLUDE) return false;
+        if (verdict == Verdict.INCLUDE) return true;
+
+        return hasAnnotation(type, includeAnnotations);
+    }
+
+    private boolean computeIncludesController(Class<?> controller) {
+        if (hasAnnotation(controller, excludeAnnotations)) return false;
+        if (packageVerdict(controller.getPackageName()) == Verdict.EXCLUDE) return false;
+
+        for (Pattern pattern : excludeControllers) {
+            if (pattern.matcher(controller.getSimpleName()).matches()
+                    || pattern.matcher(controller.getName()).matches()) {
+                return false;
+            }
+        }
+
+        if (!excludeGroups.isEmpty()) {
+            // The documented name, e.g. "Order APIs"; the simple class name is accepted as well
+            return !excludeGroups.contains(ApiGroupResolver.groupName(controller))
+                    && !excludeGroups.contains(controller.getSimpleName());
+        }
+        return true;
+    }
+
+    /**
+     * Exclusion globs win over everything; otherwise the most specific trie rule decides,
+     * then inclusion globs.
+     */
+    private Verdict packageVerdict(String packageName) {
+        for (Pattern pattern : excludeGlobs) {
+            if (pattern.matcher(packageName).matches()) return Verdict.EXCLUDE;
+        }
+
+        Verdict verdict = packages.lookup(packageName);
+        if (verdict != null) return verdict;
+
+        for (Pattern pattern : includeGlobs) {
+            if (pattern.matcher(packageName).matches()) return Verdict.INCLUDE;
+        }
+        return null;
+    }
+
+    private static boolean hasAnnotation(Class<?> type, Set<String> annotationNames) {
+        if (annotationNames.isEmpty()) return false;
+        for (Annotation annotation : type.getAnnotations()) {
+            if (annotationNames.contains(annotation.annotationType().getName())) return true;
+        }
+        return false;
+    }
+
+    // === COMPILATION ===
+
+    private void addPackageRule(String rule, Verdict verdict) {
+        if (rule == null || rule.isBlank()) return;
+        String trimmed = rule.trim();
+
+        String prefix = trimmed.endsWith(".**") ? trimmed.substring(0, trimmed.length() - 3) : trimmed;
+        if (!prefix.contains("*")) {
+            packages.insert(prefix, verdict);
+        } else {
+            // Package globs match the package itself and its subpackages
+            (verdict == Verdict.INCLUDE ? includeGlobs : excludeGlobs).add(glob(trimmed, "(\\..*)?"));
+        }
+    }
+
+    /**
+     * Converts a glob into a regex: {@code **} spans segments, {@code *} stays within one.
+     */
+    private static Pattern glob(String glob, String suffix) {
+        StringBuilder regex = new StringBuilder();
+        String g = glob.trim();
+        for (int i = 0; i < g.length(); i++) {
+            char c = g.charAt(i);
+            if (c == '*') {
+                if (i + 1 < g.length() && g.charAt(i + 1) == '*') {
+                    regex.append(".*");
+                    i++;
+                } else {
+                    regex.append("[^.]*");
+                }
+            } else if (c == '.' || c == '$') {
+                regex.append('\\').append(c);
+            } else {
+                regex.append(c);
+            }
+        }
+        return Pattern.compile(regex + suffix);
+    }
+
+    /**
+     * Package-segment trie node. A verdict on a node applies to that package and all
+     * subpackages unless a deeper node overrides it.
+     */
+    private static final class PackageNode {
+        private final Map<String, PackageNode> children = new HashMap<>();
+        private Verdict verdict;
+
+        void insert(String packageName, Verdict rule) {
+            PackageNode node = this;
+            if (!packageName.isEmpty()) {
+                for (String segment : packageName.split("\\.")) {
+                    node = node.children.computeIfAbsent(segment, s -> new PackageNode());
+                }
+            }
+            // Exclusion wins over inclusion of the same package
+            if (node.verdict != Verdict.EXCLUDE) {
+                node.verdict = rule;
+            }
+        }
+
+        Verdict lookup(String packageName) {
+            PackageNode node = this;
+            Verdict found = verdict;
+            int start = 0;
+            while (start <= packageName.length() && !packageName.isEmpty()) {
+                int end = packageName.indexOf('.', start);
+                if (end < 0) end = packageName.length();
+
+                node = node.children.get(packageName.substring(start, end));
+                if (node == null) break;
+                if (node.verdict != null) found = node.verdict;
+                start = end + 1;
+            }
+            return found;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ScopeFilter{globs+=" + includeGlobs + ", globs-=" + excludeGlobs
+                + ", annotations+=" + includeAnnotations + ", annotations-=" + excludeAnnotations
+                + ", controllers-=" + excludeControllers + ", groups-=" + excludeGroups + "}";
+    }
+}
@@ -3,13 +3,11 @@ package dev.retreever.config;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.boot.context.properties.ConfigurationProperties;
-import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Set;
 
 @ConfigurationProperties(prefix = "retreever.env")
-@Component
 public class TestEnvironmentConfig implements InitializingBean {
 
     private List<Variable> variables;
@@ -11,6 +11,7 @@ package dev.retreever.doc.resolver;
 import dev.retreever.annotation.ApiDoc;
 import org.springframework.web.bind.annotation.RestController;
 import dev.retreever.endpoint.model.ApiGroup;
+import dev.retreever.endpoint.model.MappedEndpoint;
 import dev.retreever.group.resolver.ApiGroupResolver;
 
 import java.util.ArrayList;
@@ -51,6 +52,20 @@ public class ApiDocResolver {
         return doc;
     }
 
+    /**
+     * Produces an {@link dev.retreever.endpoint.model.ApiDoc} with application metadata only
+     * and no groups, for documents assembled from separately resolved groups.
+     *
+     * @param applicationClass the @SpringBootApplication class
+     * @return ApiDoc carrying name, description and version
+     */
+    public dev.retreever.endpoint.model.ApiDoc resolveMetadata(Class<?> applicationClass) {
+        dev.retreever.endpoint.model.ApiDoc doc = new dev.retreever.endpoint.model.ApiDoc();
+        resolveAppMetadata(doc, applicationClass);
+        doc.setGroups(new ArrayList<>());
+        return doc;
+    }
+
     /**
      * Loads application-level metadata from {@code @ApiDoc} or
      * derives sensible defaults when absent.
@@ -83,8 +98,8 @@ public class ApiDocResolver {
         for (Class<?> controller : controllers) {
             if (!controller.isAnnotationPresent(RestController.class)) continue;
 
-            ApiGroup group = groupResolver.resolve(controller);
-            if (group != null && !group.getEndpoints().isEmpty()) {
+            ApiGroup group = resolveGroup(controller);
+            if (group != null) {
                 groups.add(group);
             }
         }
@@ -92,6 +107,27 @@ public class ApiDocResolver {
         doc.setGroups(groups);
     }
 
+    /**
+     * Resolves the group of a single controller.
+     *
+     * @return the group, or null if the class is not a {@code @RestController} or has no endpoints
+     */
+    public ApiGroup resolveGroup(Class<?> controller) {
+        return resolveGroup(controller, MappedEndpoint.declared(controller));
+    }
+
+    /**
+     * Resolves the group of a single controller with exactly the given endpoints.
+     *
+     * @return the group, or null if the class is not a {@code @RestController} or has no endpoints
+     */
+    public ApiGroup resolveGroup(Class<?> controller, List<MappedEndpoint> endpoints) {
+        if (!controller.isAnnotationPresent(RestController.class)) return null;
+
+        ApiGroup group = groupResolver.resolve(controller, endpoints);
+        return group != null && !group.getEndpoints().isEmpty() ? group : null;
+    }
+
     /**
      * Creates a user-friendly name from the application class name.
      * Example: "RetreeverApplication" → "Retreever"
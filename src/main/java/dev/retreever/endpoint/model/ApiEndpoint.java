@@ -1,5 +1,6 @@
 package dev.retreever.endpoint.model;
 
+import org.springframework.core.ResolvableType;
 import org.springframework.http.HttpStatus;
 
 import java.lang.reflect.Type;
@@ -37,14 +38,14 @@ public class ApiEndpoint {
     private List<ApiHeader> headers;
 
     /**
-     * NEW — actual Java Type to be resolved by SchemaResolver
+     * NEW — actual Java Type to be resolved by SchemaResolver, bound against the controller
      */
-    private Type requestBodyType;
+    private ResolvableType requestBodyType;
 
     /**
-     * NEW — actual Java Type to be resolved by SchemaResolver
+     * NEW — actual Java Type to be resolved by SchemaResolver, bound against the controller
      */
-    private Type responseBodyType;
+    private ResolvableType responseBodyType;
 
     /**
      * NEW — each exception handler return type corresponds to one entry
@@ -53,6 +54,8 @@ public class ApiEndpoint {
 
     private boolean deprecated;
 
+    private ExecutionModel executionModel = ExecutionModel.SYNC;
+
     // ───────────────────────────────
     // Getters
     // ───────────────────────────────
@@ -101,11 +104,11 @@ public class ApiEndpoint {
         return headers;
     }
 
-    public Type getRequestBodyType() {
+    public ResolvableType getRequestBodyType() {
         return requestBodyType;
     }
 
-    public Type getResponseBodyType() {
+    public ResolvableType getResponseBodyType() {
         return responseBodyType;
     }
 
@@ -117,6 +120,10 @@ public class ApiEndpoint {
         return deprecated;
     }
 
+    public ExecutionModel getExecutionModel() {
+        return executionModel;
+    }
+
     // ───────────────────────────────
     // Mutators / Fluent setters
     // ───────────────────────────────
@@ -170,14 +177,14 @@ public class ApiEndpoint {
     /**
      * NEW — required for correct schema processing
      */
-    public void setRequestBodyType(Type type) {
+    public void setRequestBodyType(ResolvableType type) {
         this.requestBodyType = type;
     }
 
     /**
      * NEW — required for correct schema processing
      */
-    public void setResponseBodyType(Type type) {
+    public void setResponseBodyType(ResolvableType type) {
         this.responseBodyType = type;
     }
 
@@ -191,4 +198,8 @@ public class ApiEndpoint {
     public void deprecate() {
         this.deprecated = true;
     }
+
+    public void setExecutionModel(ExecutionModel executionModel) {
+        this.executionModel = executionModel;
+    }
 }
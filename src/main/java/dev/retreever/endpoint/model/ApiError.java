@@ -1,5 +1,6 @@
 package dev.retreever.endpoint.model;
 
+import org.springframework.core.ResolvableType;
 import org.springframework.http.HttpStatus;
 
 import java.lang.reflect.Type;
@@ -22,7 +23,7 @@ public class ApiError {
     private final Type errorType;
     private String errorCode;
 
-    private Type errorBodyType; // resolved at view-assembly stage
+    private ResolvableType errorBodyType; // resolved at view-assembly stage
 
     private ApiError(HttpStatus status, String description, Type errorType) {
         this.status = status;
@@ -39,7 +40,7 @@ public class ApiError {
         return this;
     }
 
-    public ApiError setErrorBodyType(Type type) {
+    public ApiError setErrorBodyType(ResolvableType type) {
         this.errorBodyType = type;
         return this;
     }
@@ -62,7 +63,7 @@ public class ApiError {
         return errorCode;
     }
 
-    public Type getErrorBodyType() {
+    public ResolvableType getErrorBodyType() {
         return errorBodyType;
     }
 
@@ -8,10 +8,10 @@
 
 package dev.retreever.endpoint.model;
 
+import dev.retreever.schema.model.Constraint;
+import dev.retreever.schema.model.Constraints;
 import dev.retreever.schema.model.JsonPropertyType;
 
-import java.util.HashSet;
-import java.util.Set;
 
 /**
  * Represents a resolved query parameter for an endpoint.
@@ -26,7 +26,7 @@ public class ApiParam {
     private String description;
     private String defaultValue;
 
-    private final Set<String> constraints = new HashSet<>();
+    private Constraints constraints = Constraints.EMPTY;
 
     // ─────── getters ───────
 
@@ -50,7 +50,7 @@ public class ApiParam {
         return defaultValue;
     }
 
-    public Set<String> getConstraints() {
+    public Constraints getConstraints() {
         return constraints;
     }
 
@@ -80,7 +80,11 @@ public class ApiParam {
         this.defaultValue = defaultValue;
     }
 
-    public void addConstraint(String constraint) {
-        this.constraints.add(constraint);
+    public void addConstraint(Constraint constraint) {
+        this.constraints = constraints.with(constraint);
+    }
+
+    public void addConstraints(Constraints constraints) {
+        this.constraints = this.constraints.with(constraints);
     }
 }
@@ -8,10 +8,10 @@
 
 package dev.retreever.endpoint.model;
 
+import dev.retreever.schema.model.Constraint;
+import dev.retreever.schema.model.Constraints;
 import dev.retreever.schema.model.JsonPropertyType;
 
-import java.util.HashSet;
-import java.util.Set;
 
 /**
  * Represents a resolved path variable from an endpoint URL.
@@ -24,7 +24,7 @@ public class ApiPathVariable {
     private boolean required = true;        // Path variable is required by default.
     private String description;             // optional dev doc
 
-    private final Set<String> constraints = new HashSet<>();
+    private Constraints constraints = Constraints.EMPTY;
 
     // ───────── getters ─────────
 
@@ -40,7 +40,7 @@ public class ApiPathVariable {
         return description;
     }
 
-    public Set<String> getConstraints() {
+    public Constraints getConstraints() {
         return constraints;
     }
 
@@ -65,7 +65,11 @@ public class ApiPathVariable {
         return this;
     }
 
-    public void addConstraint(String constraint) {
-        this.constraints.add(constraint);
+    public void addConstraint(Constraint constraint) {
+        this.constraints = constraints.with(constraint);
+    }
+
+    public void addConstraints(Constraints constraints) {
+        this.constraints = this.constraints.with(constraints);
     }
 }
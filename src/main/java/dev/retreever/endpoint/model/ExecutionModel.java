@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.endpoint.model;
+
+/**
+ * How an endpoint produces its response, as far as request threads are concerned.
+ */
+public enum ExecutionModel {
+
+    /**
+     * The handler returns the body; the request thread is held until it does.
+     */
+    SYNC,
+
+    /**
+     * The handler returns a deferred value (e.g. {@code CompletableFuture}, {@code DeferredResult},
+     * {@code Callable}, {@code Mono}); the request thread is released until it completes.
+     */
+    ASYNC,
+
+    /**
+     * The body is written incrementally over a long-lived response (e.g. {@code SseEmitter},
+     * {@code StreamingResponseBody}, a {@code Flux} served as an event stream).
+     */
+    STREAMING
+}
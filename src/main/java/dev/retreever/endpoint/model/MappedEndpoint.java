@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.endpoint.model;
+
+import dev.retreever.endpoint.resolver.EndpointPathAndMethodResolver;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A handler method as registered in a request mapping.
+ * <p>
+ * A registration matching the method's own mapping annotation is documented from that
+ * annotation, and carries no path of its own. Any other registration, e.g. one made
+ * through {@code RequestMappingHandlerMapping#registerMapping} with a custom
+ * {@code RequestMappingInfo} or for an unannotated method, carries the registered path,
+ * HTTP method and media types.
+ *
+ * @param method     the handler method
+ * @param mapping    description of the registration; equal descriptions mean equal registrations
+ * @param path       registered path, or null to read path, HTTP method and media types from the annotation
+ * @param httpMethod registered HTTP method; null when {@code path} is null
+ * @param consumes   registered request media types
+ * @param produces   registered response media types
+ */
+public record MappedEndpoint(Method method,
+                             String mapping,
+                             String path,
+                             String httpMethod,
+                             List<String> consumes,
+                             List<String> produces) {
+
+    public MappedEndpoint {
+        consumes = List.copyOf(consumes);
+        produces = List.copyOf(produces);
+    }
+
+    /**
+     * A registration documented from the method's mapping annotation.
+     */
+    public static MappedEndpoint annotated(Method method, String mapping) {
+        return new MappedEndpoint(method, mapping, null, null, List.of(), List.of());
+    }
+
+    /**
+     * Returns true if the endpoint is documented from the registration rather than the annotation.
+     */
+    public boolean isRegistered() {
+        return path != null;
+    }
+
+    /**
+     * Returns the endpoints the controller declares through mapping annotations, in
+     * declaration order, for when no request mapping is at hand.
+     */
+    public static List<MappedEndpoint> declared(Class<?> controller) {
+        List<MappedEndpoint> endpoints = new ArrayList<>();
+        for (Method method : controller.getDeclaredMethods()) {
+            // Only consider methods with a valid HTTP mapping
+            if (EndpointPathAndMethodResolver.resolveHttpMethod(method) != null) {
+                endpoints.add(annotated(method, method.toGenericString()));
+            }
+        }
+        return endpoints;
+    }
+}
@@ -29,13 +29,14 @@ public class ApiEndpointIOResolver {
      * Resolves all I/O components for the given endpoint:
      * path variables, query params, headers, and body types.
      *
-     * @param endpoint the endpoint model to populate
-     * @param method   the controller method being inspected
+     * @param endpoint   the endpoint model to populate
+     * @param method     the controller method being inspected
+     * @param controller the controller the method is mapped on, possibly inheriting it
      */
-    public void resolve(ApiEndpoint endpoint, Method method) {
+    public void resolve(ApiEndpoint endpoint, Method method, Class<?> controller) {
         ApiPathVariableResolver.resolvePathVariables(endpoint, method);
         ApiQueryParamResolver.resolveQueryParams(endpoint, method);
         headerResolver.resolveHeaders(endpoint, method);
-        bodyResolver.resolve(endpoint, method);
+        bodyResolver.resolve(endpoint, method, controller);
     }
 }
@@ -1,10 +1,12 @@
 package dev.retreever.endpoint.resolver;
 
 import dev.retreever.endpoint.model.ApiEndpoint;
+import dev.retreever.endpoint.model.MappedEndpoint;
 import dev.retreever.repo.ApiHeaderRegistry;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Arrays;
 
 /**
@@ -15,28 +17,62 @@ import java.util.Arrays;
 public class ApiEndpointResolver {
 
     private final ApiEndpointIOResolver ioResolver;
+    private final ThrownExceptionResolver thrownResolver;
 
     public ApiEndpointResolver(
             ApiHeaderRegistry headerRegistry
+    ) {
+        this(headerRegistry, null);
+    }
+
+    /**
+     * @param thrownResolver infers additional error types from bytecode; null disables inference
+     */
+    public ApiEndpointResolver(
+            ApiHeaderRegistry headerRegistry,
+            ThrownExceptionResolver thrownResolver
     ) {
         this.ioResolver = new ApiEndpointIOResolver(headerRegistry);
+        this.thrownResolver = thrownResolver;
     }
 
     public ApiEndpoint resolve(Method method) {
+        return resolve(method.getDeclaringClass(), MappedEndpoint.annotated(method, method.toGenericString()));
+    }
+
+    /**
+     * Resolves the endpoint of a request mapping; registrations other than the method's
+     * mapping annotation are documented with the registered path, HTTP method and media types.
+     *
+     * @param controller the controller the mapping belongs to; body types are bound against it
+     */
+    public ApiEndpoint resolve(Class<?> controller, MappedEndpoint mapped) {
 
+        Method method = mapped.method();
         ApiEndpoint ep = new ApiEndpoint();
 
         // 1. Metadata
         EndpointMetadataResolver.resolve(ep, method);
 
-        // 2. Path + HTTP method
-        EndpointPathAndMethodResolver.resolve(ep, method);
+        if (mapped.isRegistered()) {
+            // 2-3. Path, HTTP method and media types as registered
+            ep.setPath(mapped.path());
+            ep.setHttpMethod(mapped.httpMethod());
+            ep.setConsumes(new ArrayList<>(mapped.consumes()));
+            ep.setProduces(new ArrayList<>(mapped.produces()));
+        } else {
+            // 2. Path + HTTP method
+            EndpointPathAndMethodResolver.resolve(ep, method);
 
-        // 3. Consumes / Produces
-        EndpointContentTypeResolver.resolve(ep, method);
+            // 3. Consumes / Produces
+            EndpointContentTypeResolver.resolve(ep, method);
+        }
+
+        // 3b. Sync, async or streaming, from the return type and produced media types
+        ExecutionModelResolver.resolve(ep, method);
 
         // 4. Types, params, headers
-        ioResolver.resolve(ep, method);
+        ioResolver.resolve(ep, method, controller);
 
         // 5. Error types (NO resolving here, only store Types)
         dev.retreever.annotation.ApiEndpoint ann =
@@ -48,6 +84,13 @@ public class ApiEndpointResolver {
                     .forEach(ep::addErrorType);
         }
 
+        // 6. Error types thrown by the method body, if inference is enabled
+        if (thrownResolver != null) {
+            thrownResolver.resolve(method).stream()
+                    .filter(type -> !ep.getErrorTypes().contains(type))
+                    .forEach(ep::addErrorType);
+        }
+
         return ep;
     }
 }
@@ -9,11 +9,11 @@
 package dev.retreever.endpoint.resolver;
 
 import dev.retreever.annotation.ApiError;
+import org.springframework.core.ResolvableType;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
 import java.lang.reflect.Method;
-import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -63,7 +63,7 @@ public class ApiErrorResolver {
                     : "";
 
             // Extract return Type (NOT schema)
-            Type returnType = method.getGenericReturnType();
+            ResolvableType returnType = ResolvableType.forMethodReturnType(method);
 
             // Create one ApiError per declared exception type
             for (Class<?> ex : exceptionTypes) {
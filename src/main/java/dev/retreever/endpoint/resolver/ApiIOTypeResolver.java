@@ -3,51 +3,62 @@ package dev.retreever.endpoint.resolver;
 import dev.retreever.endpoint.model.ApiEndpoint;
 import dev.retreever.schema.model.JsonPropertyType;
 import dev.retreever.schema.resolver.JsonPropertyTypeResolver;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
 import org.springframework.web.bind.annotation.RequestBody;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
-import java.lang.reflect.Type;
 
 /**
  * Collects declared request/response Types for schema generation.
  * No resolving, no unwrapping, no registry interaction.
  * SchemaResolver handles everything later.
+ * <p>
+ * Types are bound against the controller, so a handler inherited from a generic base
+ * class has a distinct type per controller, as registered by the schema stage.
  */
 public class ApiIOTypeResolver {
 
-    public void resolve(ApiEndpoint endpoint, Method method) {
-        extractRequestType(endpoint, method);
-        extractResponseType(endpoint, method);
+    public void resolve(ApiEndpoint endpoint, Method method, Class<?> controller) {
+        extractRequestType(endpoint, method, controller);
+        extractResponseType(endpoint, method, controller);
     }
 
     // REQUEST -------------------------------------------------------
 
-    private void extractRequestType(ApiEndpoint endpoint, Method method) {
+    private void extractRequestType(ApiEndpoint endpoint, Method method, Class<?> controller) {
 
-        Parameter body = findRequestBodyParameter(method);
+        int body = findRequestBodyParameter(method);
 
-        if (body == null) {
+        if (body < 0) {
             endpoint.setRequestBodyType(null);
             return;
         }
 
-        Type t = body.getParameterizedType(); // keep generics intact
-        endpoint.setRequestBodyType(t);
+        // keep generics intact
+        MethodParameter parameter = new MethodParameter(method, body).withContainingClass(controller);
+        endpoint.setRequestBodyType(ResolvableType.forMethodParameter(parameter));
     }
 
-    private Parameter findRequestBodyParameter(Method method) {
-        for (Parameter p : method.getParameters()) {
-            JsonPropertyType jsonType = JsonPropertyTypeResolver.resolve(p.getType());
-            if (jsonType.equals(JsonPropertyType.OBJECT)) return p;
+    private int findRequestBodyParameter(Method method) {
+        Parameter[] parameters = method.getParameters();
+        // An explicit @RequestBody wins over framework arguments such as ServerWebExchange
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].isAnnotationPresent(RequestBody.class)) return i;
         }
-        return null;
+        for (int i = 0; i < parameters.length; i++) {
+            JsonPropertyType jsonType = JsonPropertyTypeResolver.resolve(parameters[i].getType());
+            if (jsonType.equals(JsonPropertyType.OBJECT)) return i;
+        }
+        return -1;
     }
 
     // RESPONSE ------------------------------------------------------
 
-    private void extractResponseType(ApiEndpoint endpoint, Method method) {
-        Type t = method.getGenericReturnType(); // full generic type
-        endpoint.setResponseBodyType(t);
+    private void extractResponseType(ApiEndpoint endpoint, Method method, Class<?> controller) {
+        // full generic type
+        MethodParameter returnType = new MethodParameter(method, -1).withContainingClass(controller);
+        endpoint.setResponseBodyType(ResolvableType.forMethodParameter(returnType));
     }
 }
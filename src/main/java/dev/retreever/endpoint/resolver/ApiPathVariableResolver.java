@@ -20,7 +20,6 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 
 /**
  * Resolves path variable metadata for an endpoint.
@@ -65,8 +64,7 @@ public class ApiPathVariableResolver {
             }
 
             // Validation constraints
-            Set<String> constraints = ConstraintResolver.resolve(param.getAnnotations());
-            constraints.forEach(var::addConstraint);
+            var.addConstraints(ConstraintResolver.resolve(param.getAnnotations()).constraints());
 
             vars.add(var);
         }
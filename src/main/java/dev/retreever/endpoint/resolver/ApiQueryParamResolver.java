@@ -21,7 +21,6 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 
 /**
  * Resolves query parameters for an endpoint. Extracts name, type,
@@ -74,8 +73,7 @@ public class ApiQueryParamResolver {
             }
 
             // Validation constraints
-            Set<String> constraints = ConstraintResolver.resolve(param.getAnnotations());
-            constraints.forEach(qp::addConstraint);
+            qp.addConstraints(ConstraintResolver.resolve(param.getAnnotations()).constraints());
 
             params.add(qp);
         }
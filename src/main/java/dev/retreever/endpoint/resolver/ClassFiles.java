@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.endpoint.resolver;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32C;
+
+/**
+ * Reads class files without loading the classes, and fingerprints their bytes. Shared
+ * by the bytecode scan of thrown exceptions and the incremental build's change detection,
+ * so that both agree on when a class has changed.
+ */
+public final class ClassFiles {
+
+    private static final Logger log = LoggerFactory.getLogger(ClassFiles.class);
+
+    private ClassFiles() {}
+
+    /**
+     * Reads the class file of the named class as seen by the given class loader.
+     *
+     * @return the bytecode, or null if it cannot be read
+     */
+    public static byte[] read(String className, ClassLoader loader) {
+        try (InputStream in = loader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+            return in != null ? in.readAllBytes() : null;
+        } catch (IOException e) {
+            log.debug("Could not read class file of {}", className, e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the length and CRC32C checksum of the bytes, packed into one value.
+     */
+    public static long fingerprint(byte[] bytes) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes);
+        return ((long) bytes.length << 32) | crc.getValue();
+    }
+}
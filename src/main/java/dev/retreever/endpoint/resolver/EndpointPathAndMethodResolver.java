@@ -27,12 +27,8 @@ public class EndpointPathAndMethodResolver {
      */
     public static void resolve(ApiEndpoint endpoint, Method method) {
 
-        String classPath  = resolveClassPath(method);
-        String methodPath = resolveMethodPath(method);
         String httpMethod = resolveHttpMethod(method);
-
-        String fullPath = normalizePath(classPath, methodPath);
-        endpoint.setPath(fullPath);
+        endpoint.setPath(resolvePath(method));
 
         if (httpMethod == null) {
             httpMethod = "GET"; // safe fallback
@@ -40,6 +36,13 @@ public class EndpointPathAndMethodResolver {
         endpoint.setHttpMethod(httpMethod.toUpperCase());
     }
 
+    /**
+     * Resolves the full path declared by the class-level and method-level mapping annotations.
+     */
+    public static String resolvePath(Method method) {
+        return normalizePath(resolveClassPath(method), resolveMethodPath(method));
+    }
+
     /**
      * Extracts class-level path from @RequestMapping on the controller class.
      */
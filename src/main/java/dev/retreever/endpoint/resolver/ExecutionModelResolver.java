@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.endpoint.resolver;
+
+import dev.retreever.endpoint.model.ApiEndpoint;
+import dev.retreever.endpoint.model.ExecutionModel;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Resolves the {@link ExecutionModel} of an endpoint from its return type, and knows the
+ * async and streaming return types shared with schema unwrapping.
+ * <p>
+ * Spring MVC and WebFlux types are matched by name, so neither has to be on the classpath.
+ */
+public class ExecutionModelResolver {
+
+    private static final Set<String> ASYNC_TYPES = Set.of(
+            "org.springframework.web.context.request.async.DeferredResult",
+            "org.springframework.web.context.request.async.WebAsyncTask",
+            "reactor.core.publisher.Mono"
+    );
+
+    private static final Set<String> STREAMING_TYPES = Set.of(
+            "org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter",
+            "org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody"
+    );
+
+    private static final String FLUX = "reactor.core.publisher.Flux";
+
+    private static final List<MediaType> STREAMING_MEDIA_TYPES = List.of(
+            MediaType.TEXT_EVENT_STREAM,
+            MediaType.APPLICATION_NDJSON
+    );
+
+    /**
+     * Populates the execution model for the given endpoint; its produced media types must
+     * already be resolved.
+     *
+     * @param endpoint the endpoint model to enrich
+     * @param method   the controller method being inspected
+     */
+    public static void resolve(ApiEndpoint endpoint, Method method) {
+        endpoint.setExecutionModel(resolve(ResolvableType.forMethodReturnType(method), endpoint.getProduces()));
+    }
+
+    private static ExecutionModel resolve(ResolvableType type, List<String> produces) {
+        Class<?> rawType = type.resolve(Object.class);
+
+        if (isStreamingBody(rawType)) {
+            return ExecutionModel.STREAMING;
+        }
+
+        // A Flux is collected into a JSON array unless written as a stream
+        if (FLUX.equals(rawType.getName())) {
+            return producesStream(produces) ? ExecutionModel.STREAMING : ExecutionModel.ASYNC;
+        }
+
+        // Async wrappers may still complete with a streaming body
+        ResolvableType result = asyncResultType(type);
+        if (result != null) {
+            return resolve(result, produces) == ExecutionModel.STREAMING
+                    ? ExecutionModel.STREAMING
+                    : ExecutionModel.ASYNC;
+        }
+
+        if (rawType == ResponseEntity.class && type.hasGenerics()) {
+            return resolve(type.getGeneric(0), produces);
+        }
+
+        return ExecutionModel.SYNC;
+    }
+
+    /**
+     * Returns the type an async wrapper completes with, such as {@code T} of
+     * {@code CompletableFuture<T>}, {@code DeferredResult<T>}, {@code Callable<T>},
+     * {@code WebAsyncTask<T>} or {@code Mono<T>}.
+     *
+     * @return the result type, or null if the type is not an async wrapper
+     */
+    public static ResolvableType asyncResultType(ResolvableType type) {
+        Class<?> rawType = type.resolve(Object.class);
+
+        if (CompletionStage.class.isAssignableFrom(rawType)) {
+            return type.as(CompletionStage.class).getGeneric(0);
+        }
+        if (Callable.class.isAssignableFrom(rawType)) {
+            return type.as(Callable.class).getGeneric(0);
+        }
+        if (isAny(rawType, ASYNC_TYPES)) {
+            return type.getGeneric(0);
+        }
+        return null;
+    }
+
+    /**
+     * Whether the type writes the response body itself, as {@code SseEmitter},
+     * {@code ResponseBodyEmitter} and {@code StreamingResponseBody} do; such bodies have
+     * no schema.
+     */
+    public static boolean isStreamingBody(Class<?> type) {
+        return isAny(type, STREAMING_TYPES);
+    }
+
+    private static boolean producesStream(List<String> produces) {
+        if (produces == null) return false;
+        for (String value : produces) {
+            try {
+                MediaType mediaType = MediaType.parseMediaType(value);
+                if (STREAMING_MEDIA_TYPES.stream().anyMatch(mediaType::equalsTypeAndSubtype)) return true;
+            } catch (InvalidMediaTypeException ignored) {
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether the type is, extends or implements one of the named types.
+     */
+    private static boolean isAny(Class<?> type, Set<String> names) {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            if (names.contains(c.getName())) return true;
+        }
+        for (Class<?> i : ClassUtils.getAllInterfacesForClassAsSet(type)) {
+            if (names.contains(i.getName())) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.endpoint.resolver;
+
+import org.springframework.asm.ClassReader;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.Handle;
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.SpringAsmInfo;
+import org.springframework.asm.Type;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Infers the exceptions an endpoint may throw from its bytecode, using Spring's bundled ASM.
+ * <p>
+ * Collected per method: declared {@code throws} clauses, {@code athrow} sites directly
+ * following an exception's construction ({@code throw new X(..)}), exception constructor references
+ * ({@code orElseThrow(X::new)}) and lambdas defined in the same class. Calls into classes
+ * accepted by the filter (e.g. the application's service beans) are followed up to the
+ * configured depth; calls through interfaces only contribute the interface method's
+ * {@code throws} clause. Catch blocks are not considered, so the result may over-report.
+ * <p>
+ * Class files are read once per build, and parsed only when their content hash changed
+ * since the last build; the summary of the previous content is then replaced. Call
+ * {@link #clear()} between builds. Instances are safe for concurrent use; controllers
+ * resolved in parallel parse their class files in parallel.
+ */
+public class ThrownExceptionResolver {
+
+    private final Predicate<Class<?>> followCalls;
+    private final int callDepth;
+    private final Map<String, HashedSummary> summaries = new ConcurrentHashMap<>();
+    private final Map<Source, Optional<ClassSummary>> read = new ConcurrentHashMap<>();
+
+    /**
+     * @param followCalls decides which called classes are analyzed, e.g. types in scope
+     * @param callDepth   call levels followed below the endpoint method; 0 analyzes the method only
+     */
+    public ThrownExceptionResolver(Predicate<Class<?>> followCalls, int callDepth) {
+        this.followCalls = followCalls;
+        this.callDepth = Math.max(0, callDepth);
+    }
+
+    /**
+     * Returns the exception types the method may throw, in discovery order.
+     */
+    public List<Class<?>> resolve(Method method) {
+        Set<Class<?>> thrown = new LinkedHashSet<>();
+        for (Class<?> declared : method.getExceptionTypes()) {
+            thrown.add(declared);
+        }
+
+        ClassLoader loader = method.getDeclaringClass().getClassLoader();
+        Set<String> names = new LinkedHashSet<>();
+        collect(method.getDeclaringClass().getName(), method.getName() + Type.getMethodDescriptor(method),
+                loader, callDepth, names, new HashSet<>());
+
+        for (String name : names) {
+            Class<?> type = load(name, loader);
+            if (type != null && Throwable.class.isAssignableFrom(type)) {
+                thrown.add(type);
+            }
+        }
+        return List.copyOf(thrown);
+    }
+
+    /**
+     * Ends a build: class files are read and hashed again by the next one, which only
+     * parses those that changed.
+     */
+    public void clear() {
+        read.clear();
+    }
+
+    private void collect(String owner, String methodKey, ClassLoader loader, int depth,
+                         Set<String> thrown, Set<String> visited) {
+        if (!visited.add(owner + "." + methodKey)) return;
+
+        ClassSummary summary = summaryOf(owner, loader);
+        MethodSummary method = summary != null ? summary.methods().get(methodKey) : null;
+        if (method == null) return;
+
+        thrown.addAll(method.thrown());
+
+        // Lambda bodies belong to the method that defines them
+        for (String lambda : method.lambdas()) {
+            collect(owner, lambda, loader, depth, thrown, visited);
+        }
+
+        if (depth == 0) return;
+        for (Call call : method.calls()) {
+            Class<?> target = load(call.owner(), loader);
+            if (target == null || !followCalls.test(target)) continue;
+            collect(call.owner(), call.methodKey(), loader, depth - 1, thrown, visited);
+        }
+    }
+
+    private ClassSummary summaryOf(String className, ClassLoader loader) {
+        if (loader == null) return null;
+
+        Source source = new Source(loader, className);
+        Optional<ClassSummary> summary = read.get(source);
+        if (summary == null) {
+            // Read outside the map lock; a rare duplicate read is cheaper than blocking
+            summary = Optional.ofNullable(readSummary(className, loader));
+            read.putIfAbsent(source, summary);
+        }
+        return summary.orElse(null);
+    }
+
+    private ClassSummary readSummary(String className, ClassLoader loader) {
+        byte[] bytes = ClassFiles.read(className, loader);
+        if (bytes == null) return null;
+
+        long hash = ClassFiles.fingerprint(bytes);
+        HashedSummary known = summaries.get(className);
+        if (known != null && known.hash() == hash) {
+            return known.summary();
+        }
+
+        // Replaces the summary of the class's previous content
+        ClassSummary summary = parse(bytes);
+        summaries.put(className, new HashedSummary(hash, summary));
+        return summary;
+    }
+
+    private static ClassSummary parse(byte[] bytes) {
+        Map<String, MethodSummary> methods = new HashMap<>();
+        new ClassReader(bytes).accept(new ClassVisitor(SpringAsmInfo.ASM_VERSION) {
+            @Override
+            public MethodVisitor visitMethod(int access, String name, String descriptor,
+                                             String signature, String[] exceptions) {
+                MethodScanner scanner = new MethodScanner(exceptions);
+                methods.put(name + descriptor, scanner.summary);
+                return scanner;
+            }
+        }, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        return new ClassSummary(methods);
+    }
+
+    private static Class<?> load(String className, ClassLoader loader) {
+        try {
+            return Class.forName(className, false, loader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Records throw sites, lambdas and calls of one method.
+     * <p>
+     * Objects under construction are tracked on a stack, pairing each {@code new} with its
+     * constructor call, so that in {@code throw new X(new Y(..))} the throw is attributed
+     * to {@code X}. A throw counts only when the instruction right before it completed a
+     * constructor; {@code throw e} of an exception built earlier is not attributed.
+     */
+    private static final class MethodScanner extends MethodVisitor {
+
+        private final MethodSummary summary = new MethodSummary(
+                new LinkedHashSet<>(), new ArrayList<>(), new ArrayList<>());
+        private final Deque<String> constructing = new ArrayDeque<>();
+        private String constructed;
+
+        MethodScanner(String[] exceptions) {
+            super(SpringAsmInfo.ASM_VERSION);
+            if (exceptions != null) {
+                for (String exception : exceptions) {
+                    summary.thrown().add(exception.replace('/', '.'));
+                }
+            }
+        }
+
+        @Override
+        public void visitTypeInsn(int opcode, String type) {
+            constructed = null;
+            if (opcode == Opcodes.NEW) {
+                constructing.push(type);
+            }
+        }
+
+        @Override
+        public void visitInsn(int opcode) {
+            if (opcode == Opcodes.ATHROW && constructed != null) {
+                summary.thrown().add(constructed.replace('/', '.'));
+            }
+            constructed = null;
+        }
+
+        @Override
+        public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+            constructed = null;
+            if ("<init>".equals(name)) {
+                // super(..) and this(..) calls were not preceded by a new
+                if (owner.equals(constructing.peek())) {
+                    constructed = constructing.pop();
+                }
+            } else if (!owner.startsWith("java/")) {
+                summary.calls().add(new Call(owner.replace('/', '.'), name + descriptor));
+            }
+        }
+
+        @Override
+        public void visitIntInsn(int opcode, int operand) {
+            constructed = null;
+        }
+
+        @Override
+        public void visitVarInsn(int opcode, int varIndex) {
+            constructed = null;
+        }
+
+        @Override
+        public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+            constructed = null;
+        }
+
+        @Override
+        public void visitJumpInsn(int opcode, Label label) {
+            constructed = null;
+        }
+
+        @Override
+        public void visitLdcInsn(Object value) {
+            constructed = null;
+        }
+
+        @Override
+        public void visitIincInsn(int varIndex, int increment) {
+            constructed = null;
+        }
+
+        @Override
+        public void visitTableSwitchInsn(int min, int max, Label dflt, Label... labels) {
+            constructed = null;
+        }
+
+        @Override
+        public void visitLookupSwitchInsn(Label dflt, int[] keys, Label[] labels) {
+            constructed = null;
+        }
+
+        @Override
+        public void visitMultiANewArrayInsn(String descriptor, int numDimensions) {
+            constructed = null;
+        }
+
+        @Override
+        public void visitInvokeDynamicInsn(String name, String descriptor, Handle bootstrap, Object... arguments) {
+            constructed = null;
+            for (Object argument : arguments) {
+                if (!(argument instanceof Handle handle)) continue;
+
+                if (handle.getTag() == Opcodes.H_NEWINVOKESPECIAL) {
+                    // X::new
+                    summary.thrown().add(handle.getOwner().replace('/', '.'));
+                } else if (handle.getName().startsWith("lambda$")) {
+                    summary.lambdas().add(handle.getName() + handle.getDesc());
+                } else if (!handle.getOwner().startsWith("java/")) {
+                    summary.calls().add(new Call(handle.getOwner().replace('/', '.'),
+                            handle.getName() + handle.getDesc()));
+                }
+            }
+        }
+    }
+
+    /**
+     * @param thrown  class names of declared and constructed-then-thrown exceptions; also
+     *                every constructor reference, filtered to throwables later
+     * @param lambdas keys of lambda methods of the same class defined here
+     * @param calls   invoked methods outside the JDK
+     */
+    private record MethodSummary(Set<String> thrown, List<String> lambdas, List<Call> calls) {
+    }
+
+    private record ClassSummary(Map<String, MethodSummary> methods) {
+    }
+
+    /**
+     * @param hash content hash of the class file the summary was parsed from
+     */
+    private record HashedSummary(long hash, ClassSummary summary) {
+    }
+
+    /**
+     * A class file as seen through one loader.
+     */
+    private record Source(ClassLoader loader, String className) {
+    }
+
+    private record Call(String owner, String methodKey) {
+    }
+}
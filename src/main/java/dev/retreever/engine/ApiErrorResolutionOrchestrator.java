@@ -31,9 +31,9 @@ public class ApiErrorResolutionOrchestrator {
     private final ApiErrorRegistry errorRegistry;
     private final Predicate<Class<?>> basePackageFilter;
 
-    public ApiErrorResolutionOrchestrator(ApiErrorRegistry errorRegistry) {
+    public ApiErrorResolutionOrchestrator(ApiErrorRegistry errorRegistry, SchemaConfig config) {
         this.errorRegistry = errorRegistry;
-        this.basePackageFilter = createBasePackageFilter();
+        this.basePackageFilter = config.getScope()::includesType;
     }
 
     /**
@@ -57,14 +57,5 @@ public class ApiErrorResolutionOrchestrator {
                 .filter(method -> method.isAnnotationPresent(ExceptionHandler.class))
                 .toList();
     }
-
-    private Predicate<Class<?>> createBasePackageFilter() {
-        return clazz -> {
-            if (clazz == null) return false;
-            String pkg = clazz.getPackageName();
-            return SchemaConfig.getBasePackages().stream()
-                    .anyMatch(pkg::startsWith);
-        };
-    }
 }
 
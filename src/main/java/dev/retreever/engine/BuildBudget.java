@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.engine;
+
+import dev.retreever.schema.resolver.SchemaResolver;
+
+import java.time.Duration;
+
+/**
+ * Time budget of a single documentation build: an overall deadline plus a
+ * per-type allowance. A null or non-positive duration means unlimited.
+ * The clock starts when the budget is created.
+ */
+public class BuildBudget {
+
+    private static final long UNLIMITED = -1;
+
+    private final long start = System.nanoTime();
+    private final long total;
+    private final long perType;
+
+    public BuildBudget(Duration total, Duration perType) {
+        this.total = toNanos(total);
+        this.perType = toNanos(perType);
+    }
+
+    public static BuildBudget unlimited() {
+        return new BuildBudget(null, null);
+    }
+
+    /**
+     * @return true once the overall deadline has passed
+     */
+    public boolean isExhausted() {
+        return total != UNLIMITED && System.nanoTime() - start - total > 0;
+    }
+
+    /**
+     * Deadline, in {@link System#nanoTime()} terms, for a type resolution starting now:
+     * the per-type allowance capped by the overall deadline.
+     */
+    public long typeDeadline() {
+        long now = System.nanoTime();
+        if (perType == UNLIMITED && total == UNLIMITED) {
+            return SchemaResolver.NO_DEADLINE;
+        }
+        if (perType == UNLIMITED) return start + total;
+        if (total == UNLIMITED) return now + perType;
+
+        long typeDeadline = now + perType;
+        long overall = start + total;
+        return typeDeadline - overall > 0 ? overall : typeDeadline;
+    }
+
+    public Duration elapsed() {
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private static long toNanos(Duration duration) {
+        if (duration == null || duration.isZero() || duration.isNegative()) {
+            return UNLIMITED;
+        }
+        return duration.toNanos();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.engine;
+
+import dev.retreever.schema.model.Truncation;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Collects everything that made a documentation build incomplete, per endpoint,
+ * e.g. schemas cut off by resolution limits or abandoned when the build ran out of time.
+ * Safe for concurrent use.
+ */
+public class BuildReport {
+
+    public enum Kind {
+        TRUNCATED,
+        TIMED_OUT,
+        CANCELLED
+    }
+
+    /**
+     * A single issue.
+     *
+     * @param kind     what happened
+     * @param owner    fully qualified name of the controller or advice
+     * @param location the endpoint or handler, e.g. {@code OrderController#create (request)}
+     * @param type     the type being resolved
+     * @param detail   human-readable detail
+     */
+    public record Issue(Kind kind, String owner, String location, String type, String detail) {
+
+        /**
+         * Returns true if the issue was recorded for the given controller or advice,
+         * or one of its methods.
+         */
+        public boolean concerns(Class<?> owner) {
+            return owner.getName().equals(this.owner);
+        }
+
+        @Override
+        public String toString() {
+            return kind + " " + location + ": " + detail;
+        }
+    }
+
+    private final Queue<Issue> issues = new ConcurrentLinkedQueue<>();
+
+    public void addTruncation(Class<?> owner, String location, Truncation truncation) {
+        issues.add(new Issue(Kind.TRUNCATED, owner.getName(), location, truncation.typeName(), truncation.toString()));
+    }
+
+    /**
+     * Records a schema whose resolution ran past its time budget and was dropped.
+     */
+    public void addTimeout(Class<?> owner, String location, String type, String offendingType) {
+        issues.add(new Issue(Kind.TIMED_OUT, owner.getName(), location, type,
+                "timed out while resolving " + offendingType));
+    }
+
+    /**
+     * Records work on a controller or advice skipped because the overall build budget
+     * was exhausted.
+     */
+    public void addCancellation(Class<?> owner, String reason) {
+        issues.add(new Issue(Kind.CANCELLED, owner.getName(), owner.getSimpleName(), null, reason));
+    }
+
+    /**
+     * Records issues carried over from a previous build, e.g. of a reused group.
+     */
+    public void addAll(Collection<Issue> carried) {
+        issues.addAll(carried);
+    }
+
+    public List<Issue> getIssues() {
+        return List.copyOf(issues);
+    }
+
+    public boolean hasIssues() {
+        return !issues.isEmpty();
+    }
+
+    /**
+     * @return distinct locations with at least one issue, in report order
+     */
+    public Set<String> getAffectedLocations() {
+        Set<String> locations = new LinkedHashSet<>();
+        issues.forEach(issue -> locations.add(issue.location()));
+        return locations;
+    }
+}
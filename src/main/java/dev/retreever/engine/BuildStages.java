@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.engine;
+
+import dev.retreever.schema.resolver.ResolutionContext;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs the stages of one build as futures, so that independent stages overlap and each
+ * stage starts as soon as its inputs are ready. Every stage runs with the orchestrator's
+ * {@link ResolutionContext} bound.
+ * <p>
+ * Stages run on a pool owned by the orchestrator and shared by all its builds; without a
+ * pool, they run on the calling thread in submission order.
+ */
+final class BuildStages {
+
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    private final ResolutionContext context;
+    private final Executor executor;
+
+    /**
+     * @param pool the pool to run stages on, or null to run them on the calling thread
+     */
+    BuildStages(ExecutorService pool, ResolutionContext context) {
+        this.context = context;
+        this.executor = pool != null ? pool : Runnable::run;
+    }
+
+    /**
+     * Creates the pool for builds of the given parallelism. Idle threads time out, so an
+     * application that is not building holds none.
+     *
+     * @return the pool, or null for a parallelism of one
+     */
+    static ExecutorService newPool(int parallelism) {
+        if (parallelism <= 1) return null;
+
+        AtomicInteger threads = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(parallelism, parallelism,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), task -> {
+            Thread thread = new Thread(task, "retreever-build-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    CompletableFuture<Void> run(Runnable stage) {
+        return CompletableFuture.runAsync(() -> {
+            ResolutionContext.Binding binding = context.bind();
+            try {
+                stage.run();
+            } finally {
+                binding.close();
+            }
+        }, executor);
+    }
+
+    <T> CompletableFuture<T> supply(Supplier<T> stage) {
+        return CompletableFuture.supplyAsync(() -> {
+            ResolutionContext.Binding binding = context.bind();
+            try {
+                return stage.get();
+            } finally {
+                binding.close();
+            }
+        }, executor);
+    }
+
+    /**
+     * Runs a stage once the given input is available.
+     */
+    <T, R> CompletableFuture<R> then(CompletableFuture<T> input, Function<T, R> stage) {
+        return input.thenApplyAsync(value -> {
+            ResolutionContext.Binding binding = context.bind();
+            try {
+                return stage.apply(value);
+            } finally {
+                binding.close();
+            }
+        }, executor);
+    }
+
+    /**
+     * Waits for a stage, rethrowing its failure unwrapped.
+     */
+    static <T> T await(CompletableFuture<T> stage) {
+        try {
+            return stage.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) throw runtime;
+            if (cause instanceof Error error) throw error;
+            throw e;
+        }
+    }
+}
@@ -8,40 +8,176 @@
 
 package dev.retreever.engine;
 
+import dev.retreever.endpoint.model.MappedEndpoint;
+import dev.retreever.endpoint.resolver.EndpointPathAndMethodResolver;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.http.MediaType;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.HandlerMethod;
-import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Scans the Spring application context for all {@link RestController}-annotated
  * classes by inspecting registered request handler mappings.
+ * <p>
+ * Both Spring MVC and WebFlux handler mappings are inspected, each only when present
+ * on the classpath, so neither stack is required.
  */
 public class ControllerScanner {
 
+    private static final boolean SERVLET_PRESENT = ClassUtils.isPresent(
+            "org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping",
+            ControllerScanner.class.getClassLoader());
+
+    private static final boolean REACTIVE_PRESENT = ClassUtils.isPresent(
+            "org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping",
+            ControllerScanner.class.getClassLoader());
+
     /**
      * Collects controller classes by merging handler methods from all
-     * {@link RequestMappingHandlerMapping} beans.
+     * {@code RequestMappingHandlerMapping} beans.
      *
      * @param context the active Spring application context
      * @return a set of controller types
      */
     public static Set<Class<?>> scanControllers(ApplicationContext context) {
+        Set<Class<?>> controllers = new HashSet<>();
+        forEachMapping(context, (handlerMethod, endpoint) -> {
+            Class<?> type = handlerMethod.getBeanType();
+            if (type.isAnnotationPresent(RestController.class)) {
+                controllers.add(type);
+            }
+        });
+        return controllers;
+    }
+
+    /**
+     * Describes every request mapping of every REST controller, including mappings
+     * registered programmatically through {@code RequestMappingHandlerMapping#registerMapping}.
+     * Two scans return equal maps exactly when no mapping was added, removed or changed.
+     *
+     * @param context the active Spring application context
+     * @return controller type → its mappings, in declaration order of their methods
+     */
+    public static Map<Class<?>, List<MappedEndpoint>> scanMappings(ApplicationContext context) {
+        Map<Class<?>, List<MappedEndpoint>> mappings = new HashMap<>();
+        forEachMapping(context, (handlerMethod, endpoint) -> {
+            Class<?> type = handlerMethod.getBeanType();
+            if (type.isAnnotationPresent(RestController.class)) {
+                mappings.computeIfAbsent(type, k -> new ArrayList<>()).add(endpoint);
+            }
+        });
+        mappings.forEach((type, endpoints) -> endpoints.sort(declarationOrder(type)));
+        return mappings;
+    }
+
+    /**
+     * Describes the request mappings the handler mappings would register for the given bean
+     * types, where there is no application context to scan, e.g. during AOT processing.
+     * Mappings are detected exactly as by {@code RequestMappingHandlerMapping}, but only those
+     * declared through annotations are known, and path prefixes configured on the handler
+     * mapping are not applied.
+     *
+     * @param beanTypes types of the handler beans
+     * @return controller type → its mappings, in declaration order of their methods
+     */
+    public static Map<Class<?>, List<MappedEndpoint>> scanMappings(Collection<Class<?>> beanTypes) {
+        Map<Class<?>, List<MappedEndpoint>> mappings = new HashMap<>();
+        if (!SERVLET_PRESENT && !REACTIVE_PRESENT) return mappings;
 
-        Map<String, RequestMappingHandlerMapping> mappings =
-                context.getBeansOfType(RequestMappingHandlerMapping.class);
+        // Only one stack serves a web application; servlet wins when both are present
+        Function<Class<?>, List<MappedEndpoint>> detector = SERVLET_PRESENT
+                ? new ServletMappings.Detector()::detect
+                : new ReactiveMappings.Detector()::detect;
+        for (Class<?> type : beanTypes) {
+            if (!type.isAnnotationPresent(RestController.class)) continue;
 
-        return mappings.values()
-                .stream()
-                .flatMap(m -> m.getHandlerMethods().values().stream())
-                .map(HandlerMethod::getBeanType)
-                .filter(type -> type.isAnnotationPresent(RestController.class))
-                .collect(Collectors.toSet());
+            List<MappedEndpoint> endpoints = new ArrayList<>(detector.apply(type));
+            if (!endpoints.isEmpty()) {
+                endpoints.sort(declarationOrder(type));
+                mappings.put(type, endpoints);
+            }
+        }
+        return mappings;
+    }
+
+    /**
+     * Methods declared by the controller first, in declaration order, then inherited ones;
+     * mappings of the same method by their description.
+     */
+    private static Comparator<MappedEndpoint> declarationOrder(Class<?> controller) {
+        List<Method> declared = Arrays.asList(controller.getDeclaredMethods());
+        return Comparator.<MappedEndpoint>comparingInt(endpoint -> {
+                    int index = declared.indexOf(endpoint.method());
+                    return index >= 0 ? index : declared.size();
+                })
+                .thenComparing(MappedEndpoint::mapping);
+    }
+
+    /**
+     * Describes one registration. It is documented from the method's mapping annotation
+     * when it registers the annotated HTTP method under the annotated path (possibly
+     * prefixed, e.g. by {@code configurePathMatch}), else from the registration itself.
+     *
+     * @param patterns    registered path patterns
+     * @param httpMethods registered HTTP methods; empty matches all
+     * @param consumes    registered request media types
+     * @param produces    registered response media types
+     */
+    private static MappedEndpoint describe(Object info,
+                                           Method method,
+                                           List<String> patterns,
+                                           List<String> httpMethods,
+                                           List<String> consumes,
+                                           List<String> produces) {
+        String mapping = info + " " + method.toGenericString();
+
+        String annotatedMethod = EndpointPathAndMethodResolver.resolveHttpMethod(method);
+        if (annotatedMethod != null && (httpMethods.isEmpty() || httpMethods.contains(annotatedMethod))) {
+            String annotatedPath = trimSlash(EndpointPathAndMethodResolver.resolvePath(method));
+            if (patterns.stream().anyMatch(pattern -> trimSlash(pattern).endsWith(annotatedPath))) {
+                return MappedEndpoint.annotated(method, mapping);
+            }
+        }
+
+        String path = patterns.isEmpty() ? "/" : patterns.get(0);
+        String httpMethod = httpMethods.isEmpty() ? "GET" : httpMethods.get(0);
+        return new MappedEndpoint(method, mapping, path, httpMethod, consumes, produces);
+    }
+
+    private static String trimSlash(String path) {
+        String collapsed = path.replaceAll("//+", "/");
+        return collapsed.endsWith("/") ? collapsed.substring(0, collapsed.length() - 1) : collapsed;
+    }
+
+    private static List<String> mediaTypes(Set<MediaType> mediaTypes) {
+        return mediaTypes.stream().map(MediaType::toString).toList();
+    }
+
+    private static void forEachMapping(ApplicationContext context, BiConsumer<HandlerMethod, MappedEndpoint> action) {
+        if (SERVLET_PRESENT) {
+            ServletMappings.forEach(context, action);
+        }
+        if (REACTIVE_PRESENT) {
+            ReactiveMappings.forEach(context, action);
+        }
     }
 
     /**
@@ -74,4 +210,94 @@ public class ControllerScanner {
         }
         return beanOrProxy;
     }
+
+    /**
+     * Spring MVC mappings; only loaded when spring-webmvc is present.
+     */
+    private static final class ServletMappings {
+
+        static void forEach(ApplicationContext context, BiConsumer<HandlerMethod, MappedEndpoint> action) {
+            context.getBeansOfType(org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping.class)
+                    .values()
+                    .forEach(mapping -> mapping.getHandlerMethods().forEach((info, handlerMethod) ->
+                            action.accept(handlerMethod, describe(info, handlerMethod.getMethod()))));
+        }
+
+        static MappedEndpoint describe(org.springframework.web.servlet.mvc.method.RequestMappingInfo info, Method method) {
+            return ControllerScanner.describe(info, method,
+                    List.copyOf(info.getPatternValues()),
+                    info.getMethodsCondition().getMethods().stream().map(Enum::name).sorted().toList(),
+                    mediaTypes(info.getConsumesCondition().getConsumableMediaTypes()),
+                    mediaTypes(info.getProducesCondition().getProducibleMediaTypes()));
+        }
+
+        /**
+         * A detached handler mapping, used for its mapping detection only.
+         */
+        static final class Detector extends org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping {
+
+            Detector() {
+                setApplicationContext(emptyContext());
+                afterPropertiesSet();
+            }
+
+            List<MappedEndpoint> detect(Class<?> type) {
+                List<MappedEndpoint> endpoints = new ArrayList<>();
+                MethodIntrospector.selectMethods(type,
+                                (MethodIntrospector.MetadataLookup<org.springframework.web.servlet.mvc.method.RequestMappingInfo>)
+                                        method -> getMappingForMethod(method, type))
+                        .forEach((method, info) -> endpoints.add(describe(info, method)));
+                return endpoints;
+            }
+        }
+    }
+
+    /**
+     * WebFlux mappings; only loaded when spring-webflux is present.
+     */
+    private static final class ReactiveMappings {
+
+        static void forEach(ApplicationContext context, BiConsumer<HandlerMethod, MappedEndpoint> action) {
+            context.getBeansOfType(org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping.class)
+                    .values()
+                    .forEach(mapping -> mapping.getHandlerMethods().forEach((info, handlerMethod) ->
+                            action.accept(handlerMethod, describe(info, handlerMethod.getMethod()))));
+        }
+
+        static MappedEndpoint describe(org.springframework.web.reactive.result.method.RequestMappingInfo info, Method method) {
+            return ControllerScanner.describe(info, method,
+                    info.getPatternsCondition().getPatterns().stream()
+                            .map(org.springframework.web.util.pattern.PathPattern::getPatternString)
+                            .toList(),
+                    info.getMethodsCondition().getMethods().stream().map(Enum::name).sorted().toList(),
+                    mediaTypes(info.getConsumesCondition().getConsumableMediaTypes()),
+                    mediaTypes(info.getProducesCondition().getProducibleMediaTypes()));
+        }
+
+        /**
+         * A detached handler mapping, used for its mapping detection only.
+         */
+        static final class Detector extends org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping {
+
+            Detector() {
+                setApplicationContext(emptyContext());
+                afterPropertiesSet();
+            }
+
+            List<MappedEndpoint> detect(Class<?> type) {
+                List<MappedEndpoint> endpoints = new ArrayList<>();
+                MethodIntrospector.selectMethods(type,
+                                (MethodIntrospector.MetadataLookup<org.springframework.web.reactive.result.method.RequestMappingInfo>)
+                                        method -> getMappingForMethod(method, type))
+                        .forEach((method, info) -> endpoints.add(describe(info, method)));
+                return endpoints;
+            }
+        }
+    }
+
+    private static ApplicationContext emptyContext() {
+        StaticApplicationContext context = new StaticApplicationContext();
+        context.refresh();
+        return context;
+    }
 }
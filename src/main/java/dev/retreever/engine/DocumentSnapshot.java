@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.engine;
+
+import dev.retreever.view.dto.ApiDocument;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One published result of a documentation build.
+ *
+ * @param version  increases by one with every published build, starting at 1
+ * @param document the assembled document
+ * @param report   issues recorded while building it
+ * @param builtAt  when the build finished
+ * @param mappings the request mappings it documents, as by {@link MappingTracker#describe};
+ *                 null if not recorded
+ */
+public record DocumentSnapshot(long version,
+                               ApiDocument document,
+                               BuildReport report,
+                               Instant builtAt,
+                               Map<String, List<String>> mappings) {
+
+    public DocumentSnapshot(long version, ApiDocument document, BuildReport report, Instant builtAt) {
+        this(version, document, report, builtAt, null);
+    }
+
+    DocumentSnapshot withVersion(long newVersion) {
+        return new DocumentSnapshot(newVersion, document, report, builtAt, mappings);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.engine;
+
+import dev.retreever.view.dto.ApiDocument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Groups known from the request mappings, resolved one by one on first access.
+ * <p>
+ * The index itself is cheap: controller, group name and endpoint count. A group is
+ * resolved by the first caller asking for it; concurrent callers wait for that same
+ * resolution, and the result is kept for the lifetime of the index, or carried over to
+ * its successor with {@link #carryOver}.
+ * A failed resolution is not kept, so the next caller tries again.
+ */
+public final class GroupIndex {
+
+    private final Map<Class<?>, ApiDocument.GroupSummary> summaries;
+    private final Map<Class<?>, CompletableFuture<Optional<ApiDocument.ApiGroup>>> resolved = new ConcurrentHashMap<>();
+
+    /**
+     * @param summaries controller → index entry, in document order
+     */
+    public GroupIndex(Map<Class<?>, ApiDocument.GroupSummary> summaries) {
+        this.summaries = Collections.unmodifiableMap(new LinkedHashMap<>(summaries));
+    }
+
+    /**
+     * Returns the index entries in document order.
+     */
+    public List<ApiDocument.GroupSummary> getSummaries() {
+        return List.copyOf(summaries.values());
+    }
+
+    /**
+     * Returns the controller of the first group with the given name, or null.
+     */
+    public Class<?> findController(String groupName) {
+        for (Map.Entry<Class<?>, ApiDocument.GroupSummary> entry : summaries.entrySet()) {
+            if (entry.getValue().name().equals(groupName)) return entry.getKey();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the controller's group, resolving it with the given resolver on first access.
+     *
+     * @return the group, or null if the controller is not indexed or has no endpoints
+     */
+    public ApiDocument.ApiGroup group(Class<?> controller, Function<Class<?>, ApiDocument.ApiGroup> resolver) {
+        if (!summaries.containsKey(controller)) return null;
+
+        CompletableFuture<Optional<ApiDocument.ApiGroup>> mine = new CompletableFuture<>();
+        CompletableFuture<Optional<ApiDocument.ApiGroup>> existing = resolved.putIfAbsent(controller, mine);
+        if (existing != null) {
+            return BuildStages.await(existing).orElse(null);
+        }
+
+        try {
+            mine.complete(Optional.ofNullable(resolver.apply(controller)));
+        } catch (RuntimeException | Error e) {
+            resolved.remove(controller, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+        return mine.join().orElse(null);
+    }
+
+    /**
+     * Resolves every group not resolved yet and returns all groups in document order,
+     * leaving out groups without endpoints.
+     */
+    public List<ApiDocument.ApiGroup> groups(Function<Class<?>, ApiDocument.ApiGroup> resolver) {
+        List<ApiDocument.ApiGroup> groups = new ArrayList<>();
+        for (Class<?> controller : summaries.keySet()) {
+            ApiDocument.ApiGroup group = group(controller, resolver);
+            if (group != null) groups.add(group);
+        }
+        return groups;
+    }
+
+    /**
+     * Returns the number of groups resolved so far.
+     */
+    public int resolvedCount() {
+        return (int) resolved.values().stream().filter(future -> future.isDone() && !future.isCompletedExceptionally()).count();
+    }
+
+    /**
+     * Returns an index with the same entries and no resolved groups.
+     */
+    public GroupIndex withoutGroups() {
+        return new GroupIndex(summaries);
+    }
+
+    /**
+     * Carries resolved groups of controllers not in {@code changed} over to a new index.
+     */
+    public GroupIndex carryOver(GroupIndex next, Set<Class<?>> changed) {
+        resolved.forEach((controller, group) -> {
+            if (!changed.contains(controller) && next.summaries.containsKey(controller) && group.isDone()
+                    && !group.isCompletedExceptionally()) {
+                next.resolved.put(controller, group);
+            }
+        });
+        return next;
+    }
+}
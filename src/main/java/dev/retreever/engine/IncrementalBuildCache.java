@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.engine;
+
+import dev.retreever.view.dto.ApiDocument;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the assembled groups of the previous build of each application, with the
+ * bytecode fingerprints of every class they depend on and the reverse dependency graph
+ * (class → controllers using it).
+ * <p>
+ * The memo is deliberately static: a DevTools restart replaces the application context
+ * and its orchestrator, but not this library's classes. It holds only rendered, class-free
+ * data (names, fingerprints, document DTOs), one entry per application class, replaced on
+ * every build.
+ */
+final class IncrementalBuildCache {
+
+    private static final Map<String, Memo> MEMOS = new ConcurrentHashMap<>();
+
+    private IncrementalBuildCache() {}
+
+    /**
+     * A reusable group and the issues recorded while it was built.
+     *
+     * @param group    assembled group, or null if the controller documented no endpoints
+     * @param mappings descriptions of the request mappings the group was built from
+     */
+    record GroupMemo(ApiDocument.ApiGroup group, List<String> mappings, List<BuildReport.Issue> issues) {
+    }
+
+    /**
+     * @param globalKey    everything every group depends on (config, headers, advices)
+     * @param fingerprints class name → bytecode fingerprint, for every tracked dependency
+     * @param dependencies controller name → names of the classes it depends on
+     * @param dependents   class name → names of the controllers depending on it
+     * @param groups       controller name → its assembled group
+     */
+    private record Memo(String globalKey,
+                        Map<String, Long> fingerprints,
+                        Map<String, Set<String>> dependencies,
+                        Map<String, Set<String>> dependents,
+                        Map<String, GroupMemo> groups) {
+    }
+
+    /**
+     * Compares the previous build of the application against the current bytecode.
+     *
+     * @param application application class name the memo is kept under
+     * @param globalKey   current global key; a different key invalidates every group
+     * @param loader      loader used to read the current bytecode
+     */
+    static Plan plan(String application, String globalKey, ClassLoader loader) {
+        Memo memo = MEMOS.get(application);
+        if (memo == null || !memo.globalKey().equals(globalKey)) {
+            return new Plan(application, globalKey, loader, null, Set.of());
+        }
+
+        Set<String> dirty = new HashSet<>();
+        memo.fingerprints().forEach((className, fingerprint) -> {
+            if (fingerprint == TypeDependencies.UNKNOWN
+                    || fingerprint != TypeDependencies.fingerprint(loader, className)) {
+                dirty.addAll(memo.dependents().getOrDefault(className, Set.of()));
+            }
+        });
+
+        return new Plan(application, globalKey, loader, memo, dirty);
+    }
+
+    /**
+     * Forgets the previous build of the application.
+     */
+    static void evict(String application) {
+        MEMOS.remove(application);
+    }
+
+    /**
+     * Decisions for one build: which groups are reused, and the graph of the groups
+     * that are not, recorded as they are rebuilt.
+     */
+    static final class Plan {
+
+        private final String application;
+        private final String globalKey;
+        private final ClassLoader loader;
+        private final Memo previous;
+        private final Set<String> dirty;
+
+        private final Map<String, Long> fingerprints = new HashMap<>();
+        private final Map<String, Set<String>> dependencies = new HashMap<>();
+        private final Map<String, GroupMemo> groups = new HashMap<>();
+
+        private Plan(String application, String globalKey, ClassLoader loader, Memo previous, Set<String> dirty) {
+            this.application = application;
+            this.globalKey = globalKey;
+            this.loader = loader;
+            this.previous = previous;
+            this.dirty = dirty;
+        }
+
+        /**
+         * Returns the previous group of the controller if none of its classes and none of
+         * its request mappings changed, else null.
+         */
+        GroupMemo reusable(Class<?> controller, List<String> mappings) {
+            String name = controller.getName();
+            if (previous == null || dirty.contains(name)) return null;
+            GroupMemo memo = previous.groups().get(name);
+            return memo != null && memo.mappings().equals(mappings) ? memo : null;
+        }
+
+        /**
+         * Returns the number of previously built controllers invalidated by a class change.
+         */
+        int getInvalidated() {
+            return dirty.size();
+        }
+
+        /**
+         * Carries a reused group and its part of the dependency graph over to the next memo.
+         */
+        void keep(Class<?> controller, GroupMemo memo) {
+            String name = controller.getName();
+            Set<String> classes = previous.dependencies().getOrDefault(name, Set.of());
+            groups.put(name, memo);
+            dependencies.put(name, classes);
+            classes.forEach(className -> fingerprints.put(className, previous.fingerprints().get(className)));
+        }
+
+        /**
+         * Records a rebuilt group and the classes it depends on, fingerprinted as of now.
+         */
+        void record(Class<?> controller, GroupMemo memo, Collection<Class<?>> dependsOn) {
+            Set<String> classes = new HashSet<>();
+            for (Class<?> dependency : dependsOn) {
+                classes.add(dependency.getName());
+                fingerprints.computeIfAbsent(dependency.getName(),
+                        className -> TypeDependencies.fingerprint(loader, className));
+            }
+            groups.put(controller.getName(), memo);
+            dependencies.put(controller.getName(), Set.copyOf(classes));
+        }
+
+        /**
+         * Publishes this build as the memo for the next one.
+         */
+        void commit() {
+            Map<String, Set<String>> dependents = new HashMap<>();
+            dependencies.forEach((controller, classes) -> classes.forEach(className ->
+                    dependents.computeIfAbsent(className, k -> new HashSet<>()).add(controller)));
+            MEMOS.put(application, new Memo(globalKey, Map.copyOf(fingerprints),
+                    Map.copyOf(dependencies), Map.copyOf(dependents), Map.copyOf(groups)));
+        }
+
+        /**
+         * Returns true for issues that make a group unfit for reuse, since they depend on
+         * timing rather than on the classes.
+         */
+        static boolean isTransient(BuildReport.Issue issue) {
+            return issue.kind() != BuildReport.Kind.TRUNCATED;
+        }
+    }
+}
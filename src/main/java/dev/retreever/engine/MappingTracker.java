@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.engine;
+
+import dev.retreever.endpoint.model.MappedEndpoint;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Remembers the request mappings seen by the last scan and reports which controllers
+ * gained, lost or changed mappings since, e.g. through
+ * {@code RequestMappingHandlerMapping.registerMapping} after startup.
+ */
+public class MappingTracker {
+
+    private Map<Class<?>, List<MappedEndpoint>> last = Map.of();
+
+    /**
+     * Records a scan as the new baseline without reporting changes.
+     *
+     * @param mappings result of {@link ControllerScanner#scanMappings}
+     */
+    public synchronized void reset(Map<Class<?>, List<MappedEndpoint>> mappings) {
+        last = Map.copyOf(mappings);
+    }
+
+    /**
+     * Records a scan as the new baseline.
+     *
+     * @param mappings result of {@link ControllerScanner#scanMappings}
+     * @return controllers whose mappings differ from the previous baseline, including
+     * controllers that appeared or disappeared
+     */
+    public synchronized Set<Class<?>> update(Map<Class<?>, List<MappedEndpoint>> mappings) {
+        Set<Class<?>> changed = new HashSet<>();
+        mappings.forEach((controller, endpoints) -> {
+            if (!endpoints.equals(last.get(controller))) changed.add(controller);
+        });
+        for (Class<?> controller : last.keySet()) {
+            if (!mappings.containsKey(controller)) changed.add(controller);
+        }
+        last = Map.copyOf(mappings);
+        return changed;
+    }
+
+    /**
+     * Describes a scan in a form that can be stored with a document: controller class
+     * name → descriptions of its mappings. Equal scans have equal descriptions.
+     *
+     * @param mappings result of {@link ControllerScanner#scanMappings}
+     */
+    public static Map<String, List<String>> describe(Map<Class<?>, List<MappedEndpoint>> mappings) {
+        Map<String, List<String>> described = new TreeMap<>();
+        mappings.forEach((controller, endpoints) -> described.put(controller.getName(),
+                endpoints.stream().map(MappedEndpoint::mapping).toList()));
+        return described;
+    }
+
+    /**
+     * Returns the controller's mappings as of the last scan; empty if it had none.
+     */
+    public synchronized List<MappedEndpoint> get(Class<?> controller) {
+        return last.getOrDefault(controller, List.of());
+    }
+}
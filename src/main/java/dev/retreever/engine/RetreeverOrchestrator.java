@@ -8,74 +8,654 @@
 
 package dev.retreever.engine;
 
+import dev.retreever.config.RetreeverProperties;
 import dev.retreever.config.SchemaConfig;
+import dev.retreever.config.ScopeFilter;
 import dev.retreever.doc.resolver.ApiDocResolver;
 import dev.retreever.endpoint.model.ApiHeader;
+import dev.retreever.endpoint.model.MappedEndpoint;
 import dev.retreever.endpoint.resolver.ApiEndpointResolver;
+import dev.retreever.endpoint.resolver.ThrownExceptionResolver;
 import dev.retreever.group.resolver.ApiGroupResolver;
 import dev.retreever.repo.ApiErrorRegistry;
 import dev.retreever.repo.ApiHeaderRegistry;
 import dev.retreever.repo.SchemaRegistry;
+import dev.retreever.schema.model.Schema;
+import dev.retreever.schema.resolver.ResolutionContext;
+import dev.retreever.schema.resolver.TypeHandler;
+import dev.retreever.schema.resolver.source.FieldPropertySource;
+import dev.retreever.schema.resolver.source.SchemaPropertySource;
 import dev.retreever.view.ApiDocumentAssembler;
 import dev.retreever.view.dto.ApiDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Top-level orchestrator coordinating the complete Retreever documentation pipeline.
- * Executes in precise order: Errors → Schemas → Endpoints → Document Assembly.
+ * Runs Errors, Schemas and Endpoints as concurrent stages feeding per-group Document Assembly.
+ * <p>
+ * The orchestrator owns its schema configuration, resolution caches and registries; none
+ * of them are static, so several application contexts in one JVM build independently and
+ * everything is released with the context. {@link #close()} drops the registries eagerly.
  */
-public class RetreeverOrchestrator {
+public class RetreeverOrchestrator implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(RetreeverOrchestrator.class);
 
     private final ApiErrorResolutionOrchestrator apiErrorResolutionOrchestrator;
     private final SchemaResolutionOrchestrator schemaResolutionOrchestrator;
     private final ApiDocumentAssembler assembler;
     private final ApiDocResolver docResolver;
+    private final ApiGroupResolver groupResolver;
+    private final RetreeverProperties.Build buildProperties;
+    private final ResolutionContext context;
+    private final SchemaRegistry schemaRegistry;
+    private final ApiErrorRegistry errorRegistry;
+    private final ThrownExceptionResolver thrownResolver;
+    private final String configKey;
+
+    /**
+     * Runs the stages of every build; null when builds run on the calling thread.
+     */
+    private final ExecutorService buildPool;
+    private volatile BuildReport lastReport = new BuildReport();
+
+    /**
+     * Assembled group of every controller of the last build, in document order;
+     * null values for controllers without endpoints. Null before the first build.
+     */
+    private Map<Class<?>, ApiDocument.ApiGroup> lastGroups;
+
+    /**
+     * Exception handlers kept resolved in the error registry between {@link #resolveGroup}
+     * calls, with the schemas they registered; null when none are kept.
+     */
+    private Set<Class<?>> resolvedAdvices;
+    private Map<String, Schema> adviceSchemas;
 
     public RetreeverOrchestrator(List<String> basePackages, List<ApiHeader> headers) {
+        this(basePackages, headers, new FieldPropertySource());
+    }
+
+    /**
+     * @param propertySource where DTO properties are read from during schema resolution
+     */
+    public RetreeverOrchestrator(List<String> basePackages,
+                                 List<ApiHeader> headers,
+                                 SchemaPropertySource propertySource) {
+        this(basePackages, headers, propertySource, new RetreeverProperties());
+    }
+
+    /**
+     * @param propertySource where DTO properties are read from during schema resolution
+     * @param properties     schema limits and build budgets
+     */
+    public RetreeverOrchestrator(List<String> basePackages,
+                                 List<ApiHeader> headers,
+                                 SchemaPropertySource propertySource,
+                                 RetreeverProperties properties) {
+        this(basePackages, headers, propertySource, properties, List.of());
+    }
+
+    /**
+     * @param propertySource where DTO properties are read from during schema resolution
+     * @param properties     schema limits and build budgets
+     * @param typeHandlers   application type handlers consulted before the built-in rules
+     */
+    public RetreeverOrchestrator(List<String> basePackages,
+                                 List<ApiHeader> headers,
+                                 SchemaPropertySource propertySource,
+                                 RetreeverProperties properties,
+                                 List<TypeHandler> typeHandlers) {
 
         // 1. Initialise config
-        SchemaConfig.init(basePackages);
+        SchemaConfig config = new SchemaConfig(ScopeFilter.compile(basePackages, properties.getScan()),
+                propertySource, properties.getSchema().toLimits(), typeHandlers);
+        this.context = new ResolutionContext(config);
+        this.buildProperties = properties.getBuild();
+        this.buildPool = BuildStages.newPool(parallelism(buildProperties));
 
-        // 2. Registries (singletons where applicable)
-        ApiErrorRegistry errorRegistry = ApiErrorRegistry.getInstance(); // ✅ Singleton
-        ApiHeaderRegistry headerRegistry = ApiHeaderRegistry.init(headers);
-        SchemaRegistry schemaRegistry = SchemaRegistry.getInstance();
+        // 2. Registries, owned by this orchestrator
+        this.errorRegistry = new ApiErrorRegistry();
+        this.schemaRegistry = new SchemaRegistry();
+        ApiHeaderRegistry headerRegistry = new ApiHeaderRegistry(headers);
+        this.configKey = configKey(basePackages, headers, propertySource, properties, typeHandlers);
 
         // 3. Resolver chain (endpoint → group → doc)
-        ApiEndpointResolver endpointResolver = new ApiEndpointResolver(headerRegistry);
-        ApiGroupResolver groupResolver = new ApiGroupResolver(endpointResolver);
+        this.thrownResolver = thrownExceptionResolver(config.getScope(), properties.getErrors());
+        ApiEndpointResolver endpointResolver = new ApiEndpointResolver(headerRegistry, thrownResolver);
+        this.groupResolver = new ApiGroupResolver(endpointResolver);
 
         // 4. Orchestrators & Assemblers
-        this.apiErrorResolutionOrchestrator = new ApiErrorResolutionOrchestrator(errorRegistry);
-        this.schemaResolutionOrchestrator = new SchemaResolutionOrchestrator(schemaRegistry);
+        this.apiErrorResolutionOrchestrator = new ApiErrorResolutionOrchestrator(errorRegistry, config);
+        this.schemaResolutionOrchestrator = new SchemaResolutionOrchestrator(schemaRegistry, context);
         this.assembler = new ApiDocumentAssembler(schemaRegistry, errorRegistry);
         this.docResolver = new ApiDocResolver(groupResolver);
     }
 
     /**
-     * Executes the COMPLETE documentation pipeline in precise order:
+     * Executes the COMPLETE documentation pipeline:
      * 1. ApiErrors (ControllerAdvices → ApiErrorRegistry)
      * 2. Schemas (Controllers + Advices → SchemaRegistry)
      * 3. Endpoints (Controllers → ApiEndpoint models)
      * 4. Document Assembly (ApiDoc → ApiDocument DTO)
+     * Independent stages run concurrently on up to {@code retreever.build.parallelism}
+     * threads; each group is assembled as soon as its own inputs are ready.
+     * <p>
+     * Builds are serialized: the registries hold the state of one build at a time, are
+     * reset at its start and released once the document is frozen.
+     * <p>
+     * Endpoints are read from the controllers' mapping annotations; see
+     * {@link #build(Class, Map, Set)} to document the registered request mappings instead.
      */
     public ApiDocument build(Class<?> applicationClass,
                              Set<Class<?>> controllers,
                              Set<Class<?>> controllerAdvices) {
+        Map<Class<?>, List<MappedEndpoint>> endpoints = new LinkedHashMap<>();
+        controllers.forEach(controller -> endpoints.put(controller, MappedEndpoint.declared(controller)));
+        return build(applicationClass, endpoints, controllerAdvices);
+    }
+
+    /**
+     * Executes the complete documentation pipeline for exactly the given endpoints, e.g.
+     * those currently registered in the request mappings.
+     *
+     * @param endpoints controller → its endpoints, in document order
+     */
+    public synchronized ApiDocument build(Class<?> applicationClass,
+                                          Map<Class<?>, List<MappedEndpoint>> endpoints,
+                                          Set<Class<?>> controllerAdvices) {
+
+        // Every resolver reached from here reads config and caches from this orchestrator's context
+        ResolutionContext.Binding binding = context.bind();
+        try {
+            return doBuild(applicationClass, endpoints, controllerAdvices);
+        } finally {
+            binding.close();
+        }
+    }
+
+    private ApiDocument doBuild(Class<?> applicationClass,
+                                Map<Class<?>, List<MappedEndpoint>> endpoints,
+                                Set<Class<?>> controllerAdvices) {
+
+        // A rebuild starts from empty registries so that removed types do not linger
+        releaseIntermediateState();
+
+        // Explicitly excluded controllers and groups are never walked
+        ScopeFilter scope = context.getConfig().getScope();
+        Set<Class<?>> controllers = endpoints.keySet().stream()
+                .filter(scope::includesController)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        controllerAdvices = controllerAdvices.stream()
+                .filter(scope::includesController)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        BuildReport report = new BuildReport();
+        BuildBudget budget = new BuildBudget(buildProperties.getTimeout(), buildProperties.getTypeTimeout());
+
+        // Incremental builds only re-resolve controllers whose classes changed since the last build
+        IncrementalBuildCache.Plan plan = buildProperties.isIncremental()
+                ? planIncremental(applicationClass, controllerAdvices)
+                : null;
+        Map<Class<?>, List<MappedEndpoint>> changedControllers = new LinkedHashMap<>();
+        for (Class<?> controller : controllers) {
+            if (plan == null || plan.reusable(controller, mappings(endpoints.get(controller))) == null) {
+                changedControllers.put(controller, endpoints.get(controller));
+            }
+        }
+
+        // === STAGES: ERRORS, SCHEMAS, ENDPOINTS → PER-GROUP ASSEMBLY ===
+        Map<Class<?>, ApiDocument.ApiGroup> resolved =
+                resolveGroups(changedControllers, controllerAdvices, report, budget);
+
+        // === FINAL DTO ===
+        ApiDocument document = plan == null
+                ? assembleAll(applicationClass, controllers, resolved)
+                : assembleIncremental(applicationClass, endpoints, controllers, plan, resolved, report);
+        releaseIntermediateState();
+
+        this.lastReport = report;
+        log.debug("Retreever build finished in {} ms", budget.elapsed().toMillis());
+        if (report.hasIssues()) {
+            log.warn("Retreever documentation is incomplete for {}: {}",
+                    report.getAffectedLocations(), report.getIssues());
+        }
+        return document;
+    }
+
+    /**
+     * Resolves and assembles the groups of the given controllers as a stage graph:
+     * <pre>
+     *   errors ──────────┐
+     *   advice schemas ──┤
+     *   endpoints(c) ────┼──► assemble(c)   for every controller c
+     *   schemas(c) ──────┘
+     * </pre>
+     * Error and endpoint resolution do not depend on schemas, and each group is assembled
+     * as soon as its own inputs and the shared exception handlers are ready.
+     *
+     * @param controllers controller → its endpoints
+     * @return controller → assembled group (null without endpoints), in the given order;
+     * controllers cancelled by the budget are absent
+     */
+    private Map<Class<?>, ApiDocument.ApiGroup> resolveGroups(Map<Class<?>, List<MappedEndpoint>> controllers,
+                                                             Set<Class<?>> controllerAdvices,
+                                                             BuildReport report,
+                                                             BuildBudget budget) {
+
+        Set<Class<?>> cancelled = ConcurrentHashMap.newKeySet();
+        Map<Class<?>, CompletableFuture<ApiDocument.ApiGroup>> pending = new LinkedHashMap<>();
+
+        BuildStages stages = new BuildStages(buildPool, context);
+        try {
+            // Exception handlers feed every group
+            CompletableFuture<Void> handlers = CompletableFuture.allOf(
+                    stages.run(() -> apiErrorResolutionOrchestrator.resolveAllErrors(controllerAdvices)),
+                    stages.run(() -> schemaResolutionOrchestrator.resolveAdviceSchemas(controllerAdvices, report, budget)));
+
+            controllers.forEach((controller, mapped) -> {
+                CompletableFuture<dev.retreever.endpoint.model.ApiGroup> endpoints = stages.supply(() -> {
+                    // Groups not reached within the budget are left out; a partial document beats a stalled startup
+                    if (budget.isExhausted()) {
+                        cancelled.add(controller);
+                        report.addCancellation(controller, "group skipped, build budget exhausted");
+                        return null;
+                    }
+                    return docResolver.resolveGroup(controller, mapped);
+                });
+                List<Method> methods = mapped.stream().map(MappedEndpoint::method).distinct().toList();
+                CompletableFuture<Void> schemas = stages.run(
+                        () -> schemaResolutionOrchestrator.resolveControllerSchemas(controller, methods, report, budget));
+
+                CompletableFuture<dev.retreever.endpoint.model.ApiGroup> ready = endpoints
+                        .thenCombine(schemas, (group, ignored) -> group)
+                        .thenCombine(handlers, (group, ignored) -> group);
+                pending.put(controller, stages.then(ready,
+                        group -> group != null ? assembler.assembleGroup(group) : null));
+            });
+
+            BuildStages.await(CompletableFuture.allOf(pending.values().toArray(CompletableFuture[]::new)));
+            BuildStages.await(handlers);
+        } finally {
+            // Shared member layouts and subtype schemas are only needed while resolving
+            context.clear();
+        }
+
+        Map<Class<?>, ApiDocument.ApiGroup> groups = new LinkedHashMap<>();
+        pending.forEach((controller, group) -> {
+            if (!cancelled.contains(controller)) groups.put(controller, group.join());
+        });
+        log.debug("SchemaRegistry: {} schemas registered", schemaRegistry.size());
+        return groups;
+    }
+
+    private static int parallelism(RetreeverProperties.Build buildProperties) {
+        int parallelism = buildProperties.getParallelism();
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    private ApiDocument assembleAll(Class<?> applicationClass,
+                                    Set<Class<?>> controllers,
+                                    Map<Class<?>, ApiDocument.ApiGroup> resolved) {
+
+        dev.retreever.endpoint.model.ApiDoc apiDoc = docResolver.resolveMetadata(applicationClass);
+        Map<Class<?>, ApiDocument.ApiGroup> groups = new LinkedHashMap<>();
+        for (Class<?> controller : controllers) {
+            if (resolved.containsKey(controller)) {
+                groups.put(controller, resolved.get(controller));
+            }
+        }
+        return publish(apiDoc, groups);
+    }
+
+    /**
+     * Reuses the assembled groups of unchanged controllers and rebuilds the others,
+     * keeping the controllers' order.
+     */
+    private ApiDocument assembleIncremental(Class<?> applicationClass,
+                                            Map<Class<?>, List<MappedEndpoint>> endpoints,
+                                            Set<Class<?>> controllers,
+                                            IncrementalBuildCache.Plan plan,
+                                            Map<Class<?>, ApiDocument.ApiGroup> resolved,
+                                            BuildReport report) {
+
+        dev.retreever.endpoint.model.ApiDoc apiDoc = docResolver.resolveMetadata(applicationClass);
+        Map<Class<?>, ApiDocument.ApiGroup> groups = new LinkedHashMap<>();
+        Predicate<Class<?>> tracked = trackedTypes();
+        int reused = 0;
+
+        for (Class<?> controller : controllers) {
+            List<String> mappings = mappings(endpoints.get(controller));
+            IncrementalBuildCache.GroupMemo memo = plan.reusable(controller, mappings);
+            if (memo != null) {
+                plan.keep(controller, memo);
+                report.addAll(memo.issues());
+                reused++;
+            } else if (!resolved.containsKey(controller)) {
+                continue;
+            } else {
+                List<BuildReport.Issue> issues = report.getIssues().stream()
+                        .filter(issue -> issue.concerns(controller))
+                        .toList();
+                memo = new IncrementalBuildCache.GroupMemo(resolved.get(controller), mappings, issues);
+
+                // Groups cut short by the time budget are rebuilt next time
+                if (issues.stream().noneMatch(IncrementalBuildCache.Plan::isTransient)) {
+                    plan.record(controller, memo, TypeDependencies.collect(controller, tracked));
+                }
+            }
+            groups.put(controller, memo.group());
+        }
+
+        plan.commit();
+        log.debug("Incremental build reused {} of {} groups ({} invalidated by class changes)",
+                reused, controllers.size(), plan.getInvalidated());
+        return publish(apiDoc, groups);
+    }
+
+    /**
+     * Patches the last document after request mappings changed at runtime, e.g. through
+     * {@code RequestMappingHandlerMapping.registerMapping}. Only the given controllers are
+     * resolved again, together with the exception handlers they render; every other group
+     * is reused. Falls back to a full {@link #build} when nothing was built yet.
+     *
+     * @param endpoints every controller currently mapped → its endpoints, in document order
+     * @param changed   controllers whose mappings were added, removed or changed
+     */
+    public synchronized ApiDocument update(Class<?> applicationClass,
+                                           Map<Class<?>, List<MappedEndpoint>> endpoints,
+                                           Set<Class<?>> controllerAdvices,
+                                           Set<Class<?>> changed) {
+        if (lastGroups == null) {
+            return build(applicationClass, endpoints, controllerAdvices);
+        }
+
+        ResolutionContext.Binding binding = context.bind();
+        try {
+            ScopeFilter scope = context.getConfig().getScope();
+            Set<Class<?>> current = endpoints.keySet().stream()
+                    .filter(scope::includesController)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            Set<Class<?>> stale = current.stream()
+                    .filter(controller -> changed.contains(controller) || !lastGroups.containsKey(controller))
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+
+            // Issues of reused groups carry over; the exception handlers report theirs again
+            Set<Class<?>> dropped = new LinkedHashSet<>(stale);
+            dropped.addAll(controllerAdvices);
+            lastGroups.keySet().stream().filter(controller -> !current.contains(controller)).forEach(dropped::add);
+            BuildReport report = new BuildReport();
+            report.addAll(lastReport.getIssues().stream()
+                    .filter(issue -> dropped.stream().noneMatch(issue::concerns))
+                    .toList());
+            BuildBudget budget = new BuildBudget(buildProperties.getTimeout(), buildProperties.getTypeTimeout());
+
+            // The registries were released after the last build
+            Set<Class<?>> advices = controllerAdvices.stream()
+                    .filter(scope::includesController)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            Map<Class<?>, List<MappedEndpoint>> staleEndpoints = new LinkedHashMap<>();
+            stale.forEach(controller -> staleEndpoints.put(controller, endpoints.get(controller)));
+            Map<Class<?>, ApiDocument.ApiGroup> resolved = resolveGroups(staleEndpoints, advices, report, budget);
+
+            dev.retreever.endpoint.model.ApiDoc apiDoc = docResolver.resolveMetadata(applicationClass);
+            Map<Class<?>, ApiDocument.ApiGroup> groups = new LinkedHashMap<>();
+            for (Class<?> controller : current) {
+                if (!stale.contains(controller)) {
+                    groups.put(controller, lastGroups.get(controller));
+                } else if (resolved.containsKey(controller)) {
+                    groups.put(controller, resolved.get(controller));
+                }
+            }
+
+            ApiDocument document = publish(apiDoc, groups);
+            releaseIntermediateState();
+
+            this.lastReport = report;
+            log.debug("Retreever updated {} of {} groups in {} ms",
+                    stale.size(), current.size(), budget.elapsed().toMillis());
+            return document;
+        } finally {
+            binding.close();
+        }
+    }
+
+    /**
+     * Indexes the groups of the given controllers without resolving them, for lazy
+     * resolution through {@link #resolveGroup}.
+     *
+     * @param mappings controller → its request mappings, as scanned from the handler mappings;
+     *                 the number of mappings is the group's endpoint count, as resolved
+     *                 by {@link #resolveGroup}
+     */
+    public GroupIndex index(Map<Class<?>, List<MappedEndpoint>> mappings) {
+        // A new index resolves the exception handlers afresh
+        synchronized (this) {
+            releaseIntermediateState();
+        }
 
-        // === STEP 1: RESOLVE API ERRORS ===
-        apiErrorResolutionOrchestrator.resolveAllErrors(controllerAdvices);
+        ScopeFilter scope = context.getConfig().getScope();
+        Map<Class<?>, ApiDocument.GroupSummary> summaries = new LinkedHashMap<>();
+        mappings.keySet().stream()
+                .filter(scope::includesController)
+                .sorted(Comparator.comparing(Class::getName))
+                .forEach(controller -> {
+                    dev.retreever.endpoint.model.ApiGroup group = groupResolver.resolveMetadata(controller);
+                    if (group == null) return;
+                    summaries.put(controller, new ApiDocument.GroupSummary(group.getName(),
+                            group.getDescription(), group.isDeprecated(), mappings.get(controller).size()));
+                });
+        return new GroupIndex(summaries);
+    }
+
+    /**
+     * Resolves and assembles a single group, together with the exception handlers it renders.
+     * Issues previously reported for the controller are replaced by the new ones.
+     * <p>
+     * The exception handlers are resolved by the first call only and kept for the following
+     * ones, until the advices differ or the state is released by {@link #index},
+     * {@link #release} or a build.
+     *
+     * @param endpoints the controller's endpoints, in document order
+     * @return the frozen group, or null if the controller has no endpoints
+     */
+    public synchronized ApiDocument.ApiGroup resolveGroup(Class<?> controller,
+                                                          List<MappedEndpoint> endpoints,
+                                                          Set<Class<?>> controllerAdvices) {
+        ResolutionContext.Binding binding = context.bind();
+        try {
+            ScopeFilter scope = context.getConfig().getScope();
+            if (!scope.includesController(controller)) return null;
 
-        // === STEP 2: RESOLVE SCHEMAS ===
-        schemaResolutionOrchestrator.resolveAllSchema(applicationClass, controllers, controllerAdvices);
+            Set<Class<?>> advices = controllerAdvices.stream()
+                    .filter(scope::includesController)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            boolean reuseAdvices = advices.equals(resolvedAdvices);
+            BuildReport report = new BuildReport();
+            report.addAll(lastReport.getIssues().stream()
+                    .filter(issue -> !issue.concerns(controller)
+                            && (reuseAdvices || advices.stream().noneMatch(issue::concerns)))
+                    .toList());
+            BuildBudget budget = new BuildBudget(buildProperties.getTimeout(), buildProperties.getTypeTimeout());
 
-        // === STEP 3: RESOLVE ENDPOINTS & DOCUMENT ===
-        dev.retreever.endpoint.model.ApiDoc apiDoc =
-                docResolver.resolve(applicationClass, controllers);
+            if (reuseAdvices) {
+                schemaRegistry.getSchemas().putAll(adviceSchemas);
+            } else {
+                releaseIntermediateState();
+                resolveGroups(Map.of(), advices, report, budget);
+                // Handlers cut short by the budget are resolved again for the next group
+                if (!budget.isExhausted()) {
+                    resolvedAdvices = advices;
+                    adviceSchemas = Map.copyOf(schemaRegistry.getSchemas());
+                }
+            }
+
+            Map<Class<?>, ApiDocument.ApiGroup> resolved =
+                    resolveGroups(Map.of(controller, endpoints), Set.of(), report, budget);
+            // Only the group's own schemas are dropped; the exception handlers serve the next group
+            schemaRegistry.clear();
+            if (resolvedAdvices == null) {
+                releaseIntermediateState();
+            }
+
+            this.lastReport = report;
+            log.debug("Retreever resolved group {} in {} ms", controller.getSimpleName(), budget.elapsed().toMillis());
+            return resolved.get(controller);
+        } finally {
+            binding.close();
+        }
+    }
+
+    /**
+     * Describes the endpoints for the incremental memo; a group is only reused for the
+     * same mappings.
+     */
+    private static List<String> mappings(List<MappedEndpoint> endpoints) {
+        return endpoints.stream().map(MappedEndpoint::mapping).toList();
+    }
+
+    /**
+     * Assembles the document of the application from already assembled groups, e.g. the
+     * groups of a {@link GroupIndex}.
+     */
+    public ApiDocument assemble(Class<?> applicationClass, List<ApiDocument.ApiGroup> groups) {
+        return assembler.assemble(docResolver.resolveMetadata(applicationClass), groups);
+    }
+
+    /**
+     * Remembers the groups for later updates and assembles the document from them.
+     */
+    private ApiDocument publish(dev.retreever.endpoint.model.ApiDoc apiDoc,
+                                Map<Class<?>, ApiDocument.ApiGroup> groups) {
+        this.lastGroups = groups;
+        List<ApiDocument.ApiGroup> assembled = new ArrayList<>();
+        groups.values().forEach(group -> {
+            if (group != null) assembled.add(group);
+        });
+        return assembler.assemble(apiDoc, assembled);
+    }
 
-        // === STEP 4: ASSEMBLE FINAL DTO ===
-        return assembler.assemble(apiDoc);
+    /**
+     * Drops the resolved schemas and exception handlers once the document is frozen. The
+     * published document and the remembered groups are self-contained, so the resolver
+     * models become unreachable.
+     */
+    private void releaseIntermediateState() {
+        resolvedAdvices = null;
+        adviceSchemas = null;
+        schemaRegistry.clear();
+        errorRegistry.clear();
+        context.clear();
+        if (thrownResolver != null) {
+            // Class files are read again by the next build, to see changed classes
+            thrownResolver.clear();
+        }
+    }
+
+    /**
+     * Compares against the previous build of this application. Exception handlers, headers
+     * and configuration feed every group, so a change to any of them invalidates all groups.
+     */
+    private IncrementalBuildCache.Plan planIncremental(Class<?> applicationClass, Set<Class<?>> controllerAdvices) {
+        ClassLoader loader = applicationClass.getClassLoader();
+        Predicate<Class<?>> tracked = trackedTypes();
+
+        Set<Class<?>> shared = new TreeSet<>(Comparator.comparing(Class::getName));
+        shared.add(applicationClass);
+        controllerAdvices.forEach(advice -> shared.addAll(TypeDependencies.collect(advice, tracked)));
+
+        StringBuilder globalKey = new StringBuilder(configKey);
+        for (Class<?> type : shared) {
+            globalKey.append('|').append(type.getName())
+                    .append('=').append(TypeDependencies.fingerprint(loader, type.getName()));
+        }
+        return IncrementalBuildCache.plan(applicationClass.getName(), globalKey.toString(), loader);
+    }
+
+    /**
+     * Classes whose changes are tracked: everything in scope, plus any project class
+     * loaded from a build output directory.
+     */
+    private Predicate<Class<?>> trackedTypes() {
+        ScopeFilter scope = context.getConfig().getScope();
+        return type -> scope.includesType(type) || TypeDependencies.isFromDirectory(type);
+    }
+
+    /**
+     * Bytecode inference of thrown exceptions, following calls into classes in scope;
+     * null when disabled.
+     */
+    private static ThrownExceptionResolver thrownExceptionResolver(ScopeFilter scope,
+                                                                   RetreeverProperties.Errors errors) {
+        if (!errors.isInferThrown()) return null;
+        return new ThrownExceptionResolver(scope::includesType, errors.getInferCallDepth());
+    }
+
+    private static String configKey(List<String> basePackages,
+                                    List<ApiHeader> headers,
+                                    SchemaPropertySource propertySource,
+                                    RetreeverProperties properties,
+                                    List<TypeHandler> typeHandlers) {
+        RetreeverProperties.Scan scan = properties.getScan();
+        StringBuilder key = new StringBuilder()
+                .append(basePackages).append('|')
+                .append(scan.getIncludePackages()).append(scan.getExcludePackages())
+                .append(scan.getIncludeAnnotations()).append(scan.getExcludeAnnotations())
+                .append(scan.getExcludeControllers()).append(scan.getExcludeGroups()).append('|')
+                .append(properties.getSchema().toLimits()).append('|')
+                .append(properties.getErrors().isInferThrown()).append(':')
+                .append(properties.getErrors().getInferCallDepth()).append('|')
+                .append(propertySource != null ? propertySource.getClass().getName() : null);
+        // Lambda class names carry a per-run suffix
+        typeHandlers.forEach(handler -> key.append('|').append(handler.getClass().getName().split("\\$\\$Lambda")[0]));
+        headers.forEach(header -> key.append('|').append(header.getName()).append(':')
+                .append(header.getType()).append(':').append(header.isRequired())
+                .append(':').append(header.getDescription()));
+        return key.toString();
+    }
+
+    /**
+     * Returns the report of the most recent build, listing endpoints whose
+     * documentation hit a resolution limit.
+     */
+    public BuildReport getLastReport() {
+        return lastReport;
+    }
+
+    /**
+     * Forgets the groups of the last build along with the registries and resolution caches.
+     * The orchestrator stays usable; the next {@link #update} falls back to a full build.
+     */
+    public synchronized void release() {
+        lastGroups = null;
+        releaseIntermediateState();
+    }
+
+    /**
+     * Releases all build state and stops the build threads. Invoked by the application
+     * context when it shuts down; the orchestrator cannot build afterwards.
+     */
+    @Override
+    public void close() {
+        release();
+        if (buildPool != null) {
+            buildPool.shutdown();
+        }
     }
 }
@@ -8,21 +8,28 @@
 
 package dev.retreever.engine;
 
-import dev.retreever.config.SchemaConfig;
+import dev.retreever.endpoint.resolver.ExecutionModelResolver;
 import dev.retreever.repo.SchemaRegistry;
 import dev.retreever.schema.model.JsonPropertyType;
 import dev.retreever.schema.model.Schema;
+import dev.retreever.schema.model.Truncation;
 import dev.retreever.schema.resolver.JsonPropertyTypeResolver;
+import dev.retreever.schema.resolver.ResolutionContext;
+import dev.retreever.schema.resolver.ResolutionTimeoutException;
 import dev.retreever.schema.resolver.SchemaResolver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
-import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -35,61 +42,52 @@ public class SchemaResolutionOrchestrator {
     private static final Logger log = LoggerFactory.getLogger(SchemaResolutionOrchestrator.class);
 
     private final SchemaRegistry schemaRegistry;
+    private final ResolutionContext context;
 
-    public SchemaResolutionOrchestrator(SchemaRegistry schemaRegistry) {
+    public SchemaResolutionOrchestrator(SchemaRegistry schemaRegistry, ResolutionContext context) {
         this.schemaRegistry = schemaRegistry;
-        log.debug("packages allowed for scanning: {}", SchemaConfig.getBasePackages());
+        this.context = context;
+        log.debug("scope for scanning: {}", context.getConfig().getScope());
     }
 
-    public void resolveAllSchema(Class<?> applicationClass,
-                                 Set<Class<?>> controllers,
-                                 Set<Class<?>> controllerAdvices) {
-
-        // Process REST Controllers
-        processControllers(controllers);
-
-        // Process Exception Handlers
-        processControllerAdvices(controllerAdvices);
-
-        log.debug("All Schema Successfully Resolved.");
-        schemaRegistry.getSchemas().values().forEach(schema -> {
-                    log.debug(schema.toString());
-                }
-        );
-
-        log.debug("SchemaResolutionOrchestrator: {} schemas registered", schemaRegistry.size());
-    }
-
-    private void processControllers(Set<Class<?>> controllers) {
-        for (Class<?> controller : controllers) {
-            if (isBasePackageClass(controller)) continue;
-
-            for (Method method : controller.getDeclaredMethods()) {
-                if (!isRestEndpoint(method)) continue;
+    /**
+     * Registers the schemas of one controller's endpoints. Safe to call concurrently for
+     * different controllers; the caller clears the context's caches once all are done.
+     *
+     * @param methods the controller's handler methods, e.g. those currently mapped
+     */
+    public void resolveControllerSchemas(Class<?> controller, Collection<Method> methods,
+                                         BuildReport report, BuildBudget budget) {
+        if (isBasePackageClass(controller)) return;
+        if (budgetExhausted(controller, report, budget)) return;
 
-                log.debug("Processing endpoint: {}", method.getName());
+        for (Method method : methods) {
+            log.debug("Processing endpoint: {}", method.getName());
 
-                // 1. REGISTER RAW RETURN TYPE with its unwrapped schema
-                processReturnType(method.getGenericReturnType());
+            // 1. REGISTER RAW RETURN TYPE with its unwrapped schema
+            processReturnType(method, controller, report, budget);
 
-                // 2. REGISTER @RequestBody/@ModelAttribute schemas
-                processMethodParameters(method);
-            }
+            // 2. REGISTER @RequestBody/@ModelAttribute schemas
+            processMethodParameters(method, controller, report, budget);
         }
     }
 
-    private void processControllerAdvices(Set<Class<?>> controllerAdvices) {
+    /**
+     * Registers the schemas of all exception handlers of the given advices.
+     */
+    public void resolveAdviceSchemas(Set<Class<?>> controllerAdvices, BuildReport report, BuildBudget budget) {
         for (Class<?> advice : controllerAdvices) {
             if (isBasePackageClass(advice)) continue;
+            if (budgetExhausted(advice, report, budget)) continue;
 
             for (Method method : advice.getDeclaredMethods()) {
                 if (!method.isAnnotationPresent(ExceptionHandler.class)) continue;
 
                 // Register exception handler return type
-                processReturnType(method.getGenericReturnType());
+                processReturnType(method, advice, report, budget);
 
                 // Register request body parameters (if any)
-                processMethodParameters(method);
+                processMethodParameters(method, advice, report, budget);
             }
         }
     }
@@ -97,26 +95,37 @@ public class SchemaResolutionOrchestrator {
     /**
      * CORE LOGIC: Store UNWRAPPED schema with TRUE wrapped type as key
      * ResponseEntity<ApiResponse<ProductResponse>> → schema of ApiResponse<ProductResponse>
+     * <p>
+     * Types are resolved through {@link MethodParameter}, so type variables declared by
+     * generic controller base classes are bound against the concrete controller, both in
+     * the schema and in its key.
      */
-    private void processReturnType(Type rawReturnType) {
+    private void processReturnType(Method method, Class<?> owner, BuildReport report, BuildBudget budget) {
+        Type rawReturnType = method.getGenericReturnType();
         if (rawReturnType == null || isVoid(rawReturnType)) return;
 
         log.debug("Return type: {}", rawReturnType.getTypeName());
 
-        // KEY = TRUE return type (ResponseEntity<T>)
+        // KEY = TRUE return type (ResponseEntity<OrderDto> for an inherited ResponseEntity<T>)
         // VALUE = Schema of unwrapped T
-        Type unwrappedType = unwrapContainerType(rawReturnType);
-        registerSchema(rawReturnType, unwrappedType);
+        MethodParameter returnParam = new MethodParameter(method, -1).withContainingClass(owner);
+        ResolvableType returnType = ResolvableType.forMethodParameter(returnParam);
+        ResolvableType unwrappedType = unwrapContainerType(returnType);
+        if (unwrappedType == null) return; // streamed body, no schema
+        registerSchema(returnType, unwrappedType, owner, location(owner, method, "response"), report, budget);
     }
 
-    private void processMethodParameters(Method method) {
+    private void processMethodParameters(Method method, Class<?> owner, BuildReport report, BuildBudget budget) {
         Parameter[] parameters = method.getParameters();
-        for (Parameter param : parameters) {
+        for (int i = 0; i < parameters.length; i++) {
+            Parameter param = parameters[i];
             JsonPropertyType jsonType = JsonPropertyTypeResolver.resolve(param.getType());
             if (jsonType.equals(JsonPropertyType.OBJECT)) {
-                Type rawParamType = param.getParameterizedType();
-                Type unwrappedType = unwrapContainerType(rawParamType);
-                registerSchema(rawParamType, unwrappedType);
+                MethodParameter methodParam = new MethodParameter(method, i).withContainingClass(owner);
+                ResolvableType paramType = ResolvableType.forMethodParameter(methodParam);
+                ResolvableType unwrappedType = unwrapContainerType(paramType);
+                if (unwrappedType == null) continue;
+                registerSchema(paramType, unwrappedType, owner, location(owner, method, "request"), report, budget);
             }
         }
     }
@@ -124,35 +133,85 @@ public class SchemaResolutionOrchestrator {
     /**
      * PERFECT MATCH: Key=WrappedType, Schema=UnwrappedType
      */
-    private void registerSchema(Type keyType, Type unwrappedType) {
+    private void registerSchema(ResolvableType keyType, ResolvableType unwrappedType, Class<?> owner, String location,
+                                BuildReport report, BuildBudget budget) {
         Class<?> rawClass = SchemaResolver.extractRawClass(unwrappedType);
         if (rawClass == null || rawClass.isPrimitive() || rawClass.isEnum() || isBasePackageClass(rawClass)) {
             return;
         }
 
-        Schema schema = SchemaResolver.initResolution(unwrappedType);
+        Set<Truncation> truncations = new LinkedHashSet<>();
+        Schema schema;
+        try {
+            long deadline = budget != null ? budget.typeDeadline() : SchemaResolver.NO_DEADLINE;
+            schema = SchemaResolver.initResolution(unwrappedType, truncations, deadline);
+        } catch (ResolutionTimeoutException e) {
+            // Publish the endpoint without this schema rather than stall the build
+            log.warn("Schema resolution for {} ({}) timed out at {}; skipped.",
+                    keyType, location, e.getTypeName());
+            if (report != null) {
+                report.addTimeout(owner, location, keyType.toString(), e.getTypeName());
+            }
+            return;
+        }
         schemaRegistry.register(keyType, schema);
-        log.debug("Registered: {} → {}", keyType.getTypeName(), schema.getClass().getSimpleName());
+
+        if (report != null) {
+            truncations.forEach(truncation -> report.addTruncation(owner, location, truncation));
+        }
+        log.debug("Registered: {} → {}", keyType, schema.getClass().getSimpleName());
+    }
+
+    private boolean budgetExhausted(Class<?> owner, BuildReport report, BuildBudget budget) {
+        if (budget == null || !budget.isExhausted()) return false;
+        if (report != null) {
+            report.addCancellation(owner, "schemas skipped, build budget exhausted");
+        }
+        return true;
+    }
+
+    private String location(Class<?> owner, Method method, String part) {
+        return owner.getSimpleName() + "#" + method.getName() + " (" + part + ")";
     }
 
     // === TYPE UNWRAPPING ===
 
-    private Type unwrapContainerType(Type type) {
+    /**
+     * Returns the type whose schema documents the body, or null for bodies written by the
+     * handler itself (SseEmitter, StreamingResponseBody), which have none.
+     */
+    private ResolvableType unwrapContainerType(ResolvableType type) {
         Class<?> rawType = SchemaResolver.extractRawClass(type);
 
-        // ResponseEntity<T> → T
-        if (rawType == ResponseEntity.class && type instanceof ParameterizedType pt) {
-            return pt.getActualTypeArguments()[0];
+        if (ExecutionModelResolver.isStreamingBody(rawType)) {
+            return null;
+        }
+
+        // CompletableFuture<T>, DeferredResult<T>, Callable<T>, WebAsyncTask<T>, Mono<T> → T,
+        // unwrapped further (CompletableFuture<ResponseEntity<T>>)
+        ResolvableType asyncResult = ExecutionModelResolver.asyncResultType(type);
+        if (asyncResult != null) {
+            return unwrapContainerType(asyncResult);
+        }
+
+        // Flux<T> → List<T>: serialized as a JSON array unless streamed
+        if ("reactor.core.publisher.Flux".equals(rawType.getName()) && type.hasGenerics()) {
+            return ResolvableType.forClassWithGenerics(List.class, type.getGeneric(0));
+        }
+
+        // ResponseEntity<T> → T, unwrapped further (ResponseEntity<StreamingResponseBody>)
+        if (rawType == ResponseEntity.class && type.hasGenerics()) {
+            return unwrapContainerType(type.getGeneric(0));
         }
 
         // Optional<T> → T
-        if (rawType == Optional.class && type instanceof ParameterizedType pt) {
-            return pt.getActualTypeArguments()[0];
+        if (rawType == Optional.class && type.hasGenerics()) {
+            return type.getGeneric(0);
         }
 
         // Page<T> → T
-        if ("org.springframework.data.domain.Page".equals(rawType.getName()) && type instanceof ParameterizedType pt) {
-            return pt.getActualTypeArguments()[0];
+        if ("org.springframework.data.domain.Page".equals(rawType.getName()) && type.hasGenerics()) {
+            return type.getGeneric(0);
         }
 
         return type; // Simple types
@@ -166,20 +225,6 @@ public class SchemaResolutionOrchestrator {
     // === FILTERING ===
 
     private boolean isBasePackageClass(Class<?> clazz) {
-        if (clazz == null) return true;
-        String packageName = clazz.getPackageName();
-        return SchemaConfig.getBasePackages().stream()
-                .noneMatch(packageName::startsWith);
-    }
-
-    // === ENDPOINT DETECTION ===
-
-    private boolean isRestEndpoint(Method method) {
-        return method.isAnnotationPresent(RequestMapping.class) ||
-                method.isAnnotationPresent(GetMapping.class) ||
-                method.isAnnotationPresent(PostMapping.class) ||
-                method.isAnnotationPresent(PutMapping.class) ||
-                method.isAnnotationPresent(DeleteMapping.class) ||
-                method.isAnnotationPresent(PatchMapping.class);
+        return !context.getConfig().getScope().includesType(clazz);
     }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.engine;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Holds the currently published {@link DocumentSnapshot} and coordinates rebuilds.
+ * <p>
+ * Readers get the current snapshot with a single volatile read and never wait for a
+ * build. One refresh runs at a time and the new snapshot is swapped in atomically once it
+ * completes. A {@link #refresh refresh} requested while another is running joins it; a
+ * {@link #rebuild rebuild} joins only a running rebuild, and otherwise runs once the
+ * running refresh (e.g. a patch or load) is done, so that it always starts from scratch.
+ * <p>
+ * The snapshot may be {@link #evict() evicted}; versions keep increasing across evictions.
+ */
+public final class SnapshotHolder {
+
+    private final AtomicReference<DocumentSnapshot> current = new AtomicReference<>();
+    private final AtomicLong lastVersion = new AtomicLong();
+
+    // Guarded by this
+    private Flight running;
+    private Flight queued;
+
+    /**
+     * Returns the published snapshot, or null before the first build completed.
+     */
+    public DocumentSnapshot get() {
+        return current.get();
+    }
+
+    /**
+     * Returns true while a build is running or queued.
+     */
+    public synchronized boolean isRefreshing() {
+        return running != null || queued != null;
+    }
+
+    /**
+     * Runs the build on the given executor and publishes its result, unless a build is
+     * already running or queued, in which case that build's future is returned.
+     *
+     * @param build    produces the snapshot; a version of 0 is assigned on publication, any
+     *                 other is kept (e.g. a snapshot reloaded from disk). Returning the
+     *                 current snapshot itself publishes nothing
+     * @param executor runs the build; {@code Runnable::run} builds on the calling thread
+     * @return completes with the published snapshot, or exceptionally if the build failed,
+     * leaving the previous snapshot in place
+     */
+    public CompletableFuture<DocumentSnapshot> refresh(Supplier<DocumentSnapshot> build, Executor executor) {
+        Flight flight;
+        synchronized (this) {
+            if (queued != null) return queued.future();
+            if (running != null) return running.future();
+            flight = running = new Flight(build, executor, false);
+        }
+        start(flight);
+        return flight.future();
+    }
+
+    /**
+     * Like {@link #refresh}, but for a full rebuild: joins a running or queued rebuild, and
+     * is queued behind any other running refresh instead of sharing its result.
+     */
+    public CompletableFuture<DocumentSnapshot> rebuild(Supplier<DocumentSnapshot> build, Executor executor) {
+        Flight flight;
+        synchronized (this) {
+            if (queued != null) return queued.future();
+            if (running != null) {
+                if (running.rebuild()) return running.future();
+                queued = new Flight(build, executor, true);
+                return queued.future();
+            }
+            flight = running = new Flight(build, executor, true);
+        }
+        start(flight);
+        return flight.future();
+    }
+
+    /**
+     * Drops the published snapshot unless a build is running or queued.
+     *
+     * @return true if a snapshot was dropped
+     */
+    public synchronized boolean evict() {
+        if (running != null || queued != null) return false;
+        return current.getAndSet(null) != null;
+    }
+
+    private void start(Flight flight) {
+        try {
+            flight.executor().execute(() -> publish(flight));
+        } catch (RejectedExecutionException e) {
+            finish(flight, null, e);
+        }
+    }
+
+    private void publish(Flight flight) {
+        DocumentSnapshot published = null;
+        Throwable failure = null;
+        try {
+            DocumentSnapshot previous = current.get();
+            DocumentSnapshot built = flight.build().get();
+            if (built == previous) {
+                published = previous;
+            } else if (built != null) {
+                published = built.version() > 0
+                        ? built
+                        : built.withVersion(lastVersion.get() + 1);
+                lastVersion.accumulateAndGet(published.version(), Math::max);
+                current.set(published);
+            }
+        } catch (Throwable t) {
+            failure = t;
+        }
+        finish(flight, published, failure);
+    }
+
+    private void finish(Flight flight, DocumentSnapshot published, Throwable failure) {
+        Flight next;
+        // Release before completing, so callers reacting to completion can start a new build
+        synchronized (this) {
+            next = queued;
+            queued = null;
+            running = next;
+        }
+
+        if (failure != null) {
+            flight.future().completeExceptionally(failure);
+        } else {
+            flight.future().complete(published);
+        }
+        if (next != null) {
+            start(next);
+        }
+    }
+
+    private record Flight(Supplier<DocumentSnapshot> build, Executor executor, boolean rebuild,
+                          CompletableFuture<DocumentSnapshot> future) {
+
+        Flight(Supplier<DocumentSnapshot> build, Executor executor, boolean rebuild) {
+            this(build, executor, rebuild, new CompletableFuture<>());
+        }
+    }
+}
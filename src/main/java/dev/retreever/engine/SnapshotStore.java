@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.engine;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import dev.retreever.view.DocumentFreezer;
+import dev.retreever.view.dto.ApiDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persists the published {@link DocumentSnapshot} as JSON, so that an evicted document can
+ * be reloaded without rebuilding it. Failures are logged and otherwise ignored: the
+ * document can always be rebuilt.
+ * <p>
+ * The same format is used for documents precomputed during AOT processing, through
+ * {@link #write(DocumentSnapshot, OutputStream)} and {@link #read(InputStream)}.
+ */
+public class SnapshotStore {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotStore.class);
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private final Path path;
+
+    public SnapshotStore(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Replaces the stored snapshot; readers never see a partially written file.
+     */
+    public synchronized void save(DocumentSnapshot snapshot) {
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(temp)) {
+                    write(snapshot, out);
+                }
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            log.debug("Retreever snapshot v{} written to {}", snapshot.version(), path);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write Retreever snapshot to {}", path, e);
+        }
+    }
+
+    /**
+     * Reads the stored snapshot, with its document frozen like a freshly built one.
+     *
+     * @return the snapshot, or null if there is none or it cannot be read
+     */
+    public synchronized DocumentSnapshot load() {
+        if (!Files.isRegularFile(path)) return null;
+        try (InputStream in = Files.newInputStream(path)) {
+            return read(in);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not read Retreever snapshot from {}; rebuilding instead.", path, e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes the snapshot as JSON; the stream is left open.
+     */
+    public static void write(DocumentSnapshot snapshot, OutputStream out) throws IOException {
+        MAPPER.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValue(out, new Stored(snapshot.version(), snapshot.builtAt(),
+                        snapshot.report().getIssues(), snapshot.document(), snapshot.mappings()));
+    }
+
+    /**
+     * Reads a snapshot written by {@link #write}, with its document frozen like a freshly
+     * built one.
+     *
+     * @return the snapshot, or null if the JSON holds no document
+     */
+    public static DocumentSnapshot read(InputStream in) throws IOException {
+        Stored stored = MAPPER.readValue(in, Stored.class);
+        if (stored.document() == null) return null;
+
+        ApiDocument doc = stored.document();
+        List<ApiDocument.ApiGroup> groups = doc.groups() == null ? List.of()
+                : doc.groups().stream().map(DocumentFreezer::freeze).toList();
+        ApiDocument frozen = DocumentFreezer.freezeDocument(new ApiDocument(
+                doc.name(), doc.description(), doc.version(), doc.uriPrefix(), doc.upTime(), groups));
+
+        BuildReport report = new BuildReport();
+        if (stored.issues() != null) {
+            report.addAll(stored.issues());
+        }
+        return new DocumentSnapshot(stored.version(), frozen, report, stored.builtAt(), stored.mappings());
+    }
+
+    /**
+     * Serialized form of a snapshot.
+     */
+    public record Stored(long version,
+                         Instant builtAt,
+                         List<BuildReport.Issue> issues,
+                         ApiDocument document,
+                         Map<String, List<String>> mappings) {
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.engine;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import dev.retreever.endpoint.resolver.ClassFiles;
+import org.springframework.core.annotation.AnnotationUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.net.URL;
+import java.security.CodeSource;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Finds the application classes a controller's documentation depends on and
+ * fingerprints their bytecode, for incremental builds.
+ * <p>
+ * The walk over-approximates: every type mentioned by a tracked class's fields, method
+ * signatures, supertypes, documented subtypes and class-valued annotation attributes is a
+ * dependency. Library classes are not tracked, since they cannot change while the JVM runs.
+ */
+final class TypeDependencies {
+
+    /**
+     * Fingerprint of a class whose bytecode could not be read; never equal to a real one.
+     */
+    static final long UNKNOWN = -1L;
+
+    private TypeDependencies() {}
+
+    /**
+     * Collects the tracked classes reachable from the root, including the root.
+     *
+     * @param tracked decides which classes are followed and reported
+     */
+    static Set<Class<?>> collect(Class<?> root, Predicate<Class<?>> tracked) {
+        Set<Class<?>> seen = new LinkedHashSet<>();
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        Predicate<Class<?>> follow = tracked.and(TypeDependencies::isApplicationClass);
+        enqueue(root, follow, seen, pending);
+
+        while (!pending.isEmpty()) {
+            Class<?> type = pending.poll();
+
+            enqueueType(type.getGenericSuperclass(), follow, seen, pending);
+            for (Type iface : type.getGenericInterfaces()) {
+                enqueueType(iface, follow, seen, pending);
+            }
+            for (Field field : type.getDeclaredFields()) {
+                enqueueType(field.getGenericType(), follow, seen, pending);
+                enqueueAnnotations(field, follow, seen, pending);
+            }
+            for (Method method : type.getDeclaredMethods()) {
+                enqueueType(method.getGenericReturnType(), follow, seen, pending);
+                for (Type param : method.getGenericParameterTypes()) {
+                    enqueueType(param, follow, seen, pending);
+                }
+                for (Class<?> thrown : method.getExceptionTypes()) {
+                    enqueue(thrown, follow, seen, pending);
+                }
+                enqueueAnnotations(method, follow, seen, pending);
+                for (Annotation[] paramAnnotations : method.getParameterAnnotations()) {
+                    for (Annotation annotation : paramAnnotations) {
+                        enqueueAnnotation(annotation, follow, seen, pending);
+                    }
+                }
+            }
+            enqueueAnnotations(type, follow, seen, pending);
+
+            JsonSubTypes subTypes = type.getAnnotation(JsonSubTypes.class);
+            if (subTypes != null) {
+                for (JsonSubTypes.Type subType : subTypes.value()) {
+                    enqueue(subType.value(), follow, seen, pending);
+                }
+            }
+            Class<?>[] permitted = type.getPermittedSubclasses();
+            if (permitted != null) {
+                for (Class<?> subclass : permitted) {
+                    enqueue(subclass, follow, seen, pending);
+                }
+            }
+        }
+        return seen;
+    }
+
+    /**
+     * Fingerprints a class by its bytecode as seen by the given class loader, without loading it.
+     *
+     * @return a checksum of the class file, or {@link #UNKNOWN} if it cannot be read
+     */
+    static long fingerprint(ClassLoader loader, String className) {
+        byte[] bytes = loader != null ? ClassFiles.read(className, loader) : null;
+        return bytes != null ? ClassFiles.fingerprint(bytes) : UNKNOWN;
+    }
+
+    /**
+     * Returns true for classes not loaded by the JDK's own class loaders.
+     */
+    static boolean isApplicationClass(Class<?> type) {
+        ClassLoader loader = type.getClassLoader();
+        return loader != null && loader != ClassLoader.getPlatformClassLoader();
+    }
+
+    /**
+     * Returns true if the class was loaded from a directory rather than a jar, i.e. is part
+     * of the project being developed.
+     */
+    static boolean isFromDirectory(Class<?> type) {
+        CodeSource source = type.getProtectionDomain().getCodeSource();
+        URL location = source != null ? source.getLocation() : null;
+        return location != null && location.getPath().endsWith("/");
+    }
+
+    private static void enqueueAnnotations(AnnotatedElement element, Predicate<Class<?>> follow,
+                                           Set<Class<?>> seen, Deque<Class<?>> pending) {
+        for (Annotation annotation : element.getDeclaredAnnotations()) {
+            enqueueAnnotation(annotation, follow, seen, pending);
+        }
+    }
+
+    private static void enqueueAnnotation(Annotation annotation, Predicate<Class<?>> follow,
+                                          Set<Class<?>> seen, Deque<Class<?>> pending) {
+        enqueue(annotation.annotationType(), follow, seen, pending);
+        Map<String, Object> attributes = AnnotationUtils.getAnnotationAttributes(annotation);
+        for (Object value : attributes.values()) {
+            if (value instanceof Class<?> c) {
+                enqueue(c, follow, seen, pending);
+            } else if (value instanceof Class<?>[] classes) {
+                for (Class<?> c : classes) {
+                    enqueue(c, follow, seen, pending);
+                }
+            }
+        }
+    }
+
+    private static void enqueueType(Type type, Predicate<Class<?>> follow,
+                                    Set<Class<?>> seen, Deque<Class<?>> pending) {
+        if (type instanceof Class<?> c) {
+            enqueue(c, follow, seen, pending);
+        } else if (type instanceof ParameterizedType pt) {
+            enqueueType(pt.getRawType(), follow, seen, pending);
+            for (Type arg : pt.getActualTypeArguments()) {
+                enqueueType(arg, follow, seen, pending);
+            }
+        } else if (type instanceof GenericArrayType at) {
+            enqueueType(at.getGenericComponentType(), follow, seen, pending);
+        } else if (type instanceof WildcardType wt) {
+            for (Type bound : wt.getUpperBounds()) enqueueType(bound, follow, seen, pending);
+            for (Type bound : wt.getLowerBounds()) enqueueType(bound, follow, seen, pending);
+        } else if (type instanceof TypeVariable<?> tv) {
+            for (Type bound : tv.getBounds()) enqueueType(bound, follow, seen, pending);
+        }
+    }
+
+    private static void enqueue(Class<?> type, Predicate<Class<?>> follow,
+                                Set<Class<?>> seen, Deque<Class<?>> pending) {
+        while (type != null && type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type == null || type.isPrimitive() || !follow.test(type) || !seen.add(type)) {
+            return;
+        }
+        pending.add(type);
+    }
+}
@@ -11,10 +11,9 @@ package dev.retreever.group.resolver;
 import dev.retreever.annotation.ApiGroup;
 import org.springframework.web.bind.annotation.RestController;
 import dev.retreever.endpoint.model.ApiEndpoint;
+import dev.retreever.endpoint.model.MappedEndpoint;
 import dev.retreever.endpoint.resolver.ApiEndpointResolver;
-import dev.retreever.endpoint.resolver.EndpointPathAndMethodResolver;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -46,6 +45,43 @@ public class ApiGroupResolver {
      * @return resolved ApiGroup or {@code null} if class is not a controller
      */
     public dev.retreever.endpoint.model.ApiGroup resolve(Class<?> controllerClass) {
+        return resolve(controllerClass, MappedEndpoint.declared(controllerClass));
+    }
+
+    /**
+     * Builds an {@link dev.retreever.endpoint.model.ApiGroup} with exactly the given
+     * endpoints, e.g. those currently registered in the request mappings.
+     *
+     * @param controllerClass Spring REST controller class
+     * @param mappedEndpoints the controller's request mappings, in document order
+     * @return resolved ApiGroup or {@code null} if class is not a controller
+     */
+    public dev.retreever.endpoint.model.ApiGroup resolve(Class<?> controllerClass,
+                                                         List<MappedEndpoint> mappedEndpoints) {
+
+        dev.retreever.endpoint.model.ApiGroup group = resolveMetadata(controllerClass);
+        if (group == null) {
+            return null;
+        }
+
+        // Resolve endpoints
+        List<ApiEndpoint> endpoints = new ArrayList<>();
+        for (MappedEndpoint mapped : mappedEndpoints) {
+            endpoints.add(endpointResolver.resolve(controllerClass, mapped));
+        }
+
+        group.setEndpoints(endpoints);
+        return group;
+    }
+
+    /**
+     * Reads only the group's name, description and deprecation, without resolving
+     * any endpoint.
+     *
+     * @param controllerClass Spring REST controller class
+     * @return the group without endpoints, or {@code null} if class is not a controller
+     */
+    public dev.retreever.endpoint.model.ApiGroup resolveMetadata(Class<?> controllerClass) {
 
         // Must be a Spring controller
         if (!controllerClass.isAnnotationPresent(RestController.class)) {
@@ -58,35 +94,26 @@ public class ApiGroupResolver {
         ApiGroup ann =
                 controllerClass.getAnnotation(ApiGroup.class);
 
-        if (ann != null) {
-            group.setName(ann.name());
-            group.setDescription(ann.description());
-        } else {
-            // fallback: prettify class name
-            group.setName(prettifyName(controllerClass.getSimpleName()));
-            group.setDescription("");
-        }
+        group.setName(groupName(controllerClass));
+        group.setDescription(ann != null ? ann.description() : "");
 
         // Deprecated marker
         if (controllerClass.isAnnotationPresent(Deprecated.class)) {
             group.deprecate();
         }
 
-        // Resolve endpoints
-        List<ApiEndpoint> endpoints = new ArrayList<>();
-
-        for (Method method : controllerClass.getDeclaredMethods()) {
-            // Only consider methods with a valid HTTP mapping
-            if (EndpointPathAndMethodResolver.resolveHttpMethod(method) != null) {
-                ApiEndpoint ep = endpointResolver.resolve(method);
-                endpoints.add(ep);
-            }
-        }
-
-        group.setEndpoints(endpoints);
         return group;
     }
 
+    /**
+     * Returns the name under which the controller's group is documented: the
+     * {@code @ApiGroup} name, else the prettified class name.
+     */
+    public static String groupName(Class<?> controllerClass) {
+        ApiGroup ann = controllerClass.getAnnotation(ApiGroup.class);
+        return ann != null ? ann.name() : prettifyName(controllerClass.getSimpleName());
+    }
+
     /**
      * Converts a controller class name into a clean API group name.
      * Example:
@@ -95,7 +122,7 @@ public class ApiGroupResolver {
      *     AccountRestController -> Account APIs
      * </pre>
      */
-    private String prettifyName(String raw) {
+    private static String prettifyName(String raw) {
         if (raw == null || raw.isBlank()) {
             return "API Group";
         }
@@ -14,27 +14,26 @@ import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Type;
 import java.util.Collection;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Thread-safe singleton registry storing ApiError definitions resolved from @ExceptionHandler methods.
- * Keyed by the exception's fully qualified class name.
+ * Registry storing ApiError definitions resolved from @ExceptionHandler methods.
+ * Keyed by the exception's fully qualified class name. One instance is owned by each orchestrator.
+ * <p>
+ * Lookups follow the exception hierarchy like Spring's {@code ExceptionHandlerMethodResolver}:
+ * an exception without its own handler gets the error of its nearest handled superclass
+ * (or interface). The outcome is memoized per exception class until the registry changes;
+ * the memo belongs to this registry, so no entry outlives it or its application classes.
  * <p>
  * No schema resolving is done here.
  */
 public final class ApiErrorRegistry extends DocRegistry<ApiError> {
 
-    private static final ApiErrorRegistry INSTANCE = new ApiErrorRegistry();
-    private static final Map<String, ApiError> errors = new ConcurrentHashMap<>();
     private static final Logger log = LoggerFactory.getLogger(ApiErrorRegistry.class);
 
-    private ApiErrorRegistry() {
-    }
-
-    public static ApiErrorRegistry getInstance() {
-        return INSTANCE;
-    }
+    private final Map<Class<?>, Optional<ApiError>> lookups = new ConcurrentHashMap<>();
 
     /**
      * Registers an ApiError using its exception class name. Deduplicates automatically.
@@ -44,18 +43,57 @@ public final class ApiErrorRegistry extends DocRegistry<ApiError> {
         if (!contains(key)) {
             log.debug("Registering ApiError: {}", error);
             add(key, error);
+            lookups.clear();
         }
     }
 
     /**
-     * Look up an ApiError by exception class.
+     * Look up an ApiError by exception type: its own handler if registered, else the
+     * handler of the nearest superclass or interface.
      */
     public ApiError get(Type exceptionType) {
         if (exceptionType == null) return null;
         log.debug("Looking up ApiError for: {}", exceptionType.getTypeName());
+        if (exceptionType instanceof Class<?> exceptionClass) {
+            return lookups.computeIfAbsent(exceptionClass, type -> Optional.ofNullable(findNearest(type)))
+                    .orElse(null);
+        }
         return get(exceptionType.getTypeName());
     }
 
+    @Override
+    public void clear() {
+        super.clear();
+        lookups.clear();
+    }
+
+    /**
+     * Walks up the superclass chain; at each level the class itself wins over
+     * the interfaces it declares.
+     */
+    private ApiError findNearest(Class<?> exceptionClass) {
+        for (Class<?> c = exceptionClass; c != null && c != Object.class; c = c.getSuperclass()) {
+            ApiError error = get(c.getName());
+            if (error != null) return error;
+
+            error = findInInterfaces(c.getInterfaces());
+            if (error != null) return error;
+        }
+        return null;
+    }
+
+    private ApiError findInInterfaces(Class<?>[] interfaces) {
+        for (Class<?> iface : interfaces) {
+            ApiError error = get(iface.getName());
+            if (error != null) return error;
+        }
+        for (Class<?> iface : interfaces) {
+            ApiError error = findInInterfaces(iface.getInterfaces());
+            if (error != null) return error;
+        }
+        return null;
+    }
+
     /**
      * Retrieves all registered ApiErrors.
      */
@@ -67,17 +105,6 @@ public final class ApiErrorRegistry extends DocRegistry<ApiError> {
      * Optimizes registry: log stats.
      */
     public void optimize() {
-        System.out.println("ApiErrorRegistry: " + errors.size() + " unique errors registered");
-    }
-
-    /**
-     * Clears all registered errors.
-     */
-    public void clear() {
-        errors.clear();
-    }
-
-    public int size() {
-        return errors.size();
+        log.info("ApiErrorRegistry: {} unique errors registered", size());
     }
 }
@@ -19,14 +19,12 @@ import java.util.List;
  */
 public class ApiHeaderRegistry extends DocRegistry<ApiHeader> {
 
-    private static final ApiHeaderRegistry registry = new ApiHeaderRegistry();
-    private ApiHeaderRegistry() {
+    public ApiHeaderRegistry() {
         // Initialize with an empty map
     }
 
-    public static ApiHeaderRegistry init(List<ApiHeader> headers) {
-        registry.addHeaders(headers);
-        return registry;
+    public ApiHeaderRegistry(List<ApiHeader> headers) {
+        addHeaders(headers);
     }
 
     public List<ApiHeader> getHeaders() {
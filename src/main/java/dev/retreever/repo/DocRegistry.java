@@ -41,4 +41,11 @@ public class DocRegistry<T> {
     public int size() {
         return items.size();
     }
+
+    /**
+     * Removes all items.
+     */
+    public void clear() {
+        items.clear();
+    }
 }
@@ -12,44 +12,47 @@ import dev.retreever.schema.model.Schema;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Type;
+import org.springframework.core.ResolvableType;
+
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.Map;
 
 /**
- * Thread-safe singleton registry for resolved schemas using Type.getTypeName() keys.
+ * Thread-safe registry for resolved schemas, keyed by the resolved type.
  * Type-only registration for maximum safety and simplicity.
+ * <p>
+ * Keys are types as bound against their controller, e.g. {@code ResponseEntity<OrderDto>}
+ * for {@code ResponseEntity<T>} inherited by an order controller, so controllers sharing a
+ * generic base class register distinct schemas.
+ * <p>
+ * One instance is owned by each orchestrator, so schemas live exactly as long as
+ * the application context that produced them.
  */
 public final class SchemaRegistry {
     Logger log = LoggerFactory.getLogger(SchemaRegistry.class);
-    private static final SchemaRegistry INSTANCE = new SchemaRegistry();
-    private static final Map<String, Schema> schemas = new ConcurrentHashMap<>();
-
-    private SchemaRegistry() {}
-
-    public static SchemaRegistry getInstance() {
-        return INSTANCE;
-    }
+    private final Map<String, Schema> schemas = new ConcurrentHashMap<>();
 
     /**
-     * Registers schema for the given type using Type.getTypeName(). Deduplicates automatically.
+     * Registers schema for the given resolved type. Deduplicates automatically.
      */
-    public void register(Type type, Schema schema) {
+    public void register(ResolvableType type, Schema schema) {
         if (type == null || schema == null) return;
-
-        String typeName = type.getTypeName();
-        if (typeName != null) {
-            schemas.putIfAbsent(typeName, schema);
-        }
+        schemas.putIfAbsent(key(type), schema);
     }
 
     /**
-     * Retrieves schema by type.
+     * Retrieves schema by resolved type.
      */
-    public Schema getSchema(Type type) {
+    public Schema getSchema(ResolvableType type) {
         if (type == null) return null;
-        String typeName = type.getTypeName();
-        return typeName != null ? schemas.get(typeName) : null;
+        return schemas.get(key(type));
+    }
+
+    /**
+     * The type's name with all variables substituted, e.g. {@code java.util.List<dev.app.OrderDto>}.
+     */
+    private static String key(ResolvableType type) {
+        return type.toString();
     }
 
     /**
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.schema.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable validation rule attached to a property or parameter.
+ * <p>
+ * Flag-only rules (e.g. NOT_NULL) are shared singletons obtained through {@link #flag(Kind)};
+ * parameterized rules carry a numeric bound, digit counts, a regex or allowed values.
+ * Formatting for the API document happens at render time.
+ */
+public final class Constraint {
+
+    /**
+     * Constraint kinds. Flag-only kinds come first so they fit a compact bitset.
+     */
+    public enum Kind {
+        NOT_NULL(true),
+        NOT_BLANK(true),
+        NOT_EMPTY(true),
+        EMAIL(true),
+        FUTURE(true),
+        FUTURE_OR_PRESENT(true),
+        PAST(true),
+        PAST_OR_PRESENT(true),
+        ASSERT_TRUE(true),
+        ASSERT_FALSE(true),
+        MIN_LENGTH(false),
+        MAX_LENGTH(false),
+        MIN_VALUE(false),
+        MAX_VALUE(false),
+        EXCLUSIVE_MIN_VALUE(false),
+        EXCLUSIVE_MAX_VALUE(false),
+        DIGITS(false),
+        REGEX(false),
+        ALLOWED_VALUES(false);
+
+        private final boolean flag;
+
+        Kind(boolean flag) {
+            this.flag = flag;
+        }
+
+        public boolean isFlag() {
+            return flag;
+        }
+    }
+
+    private static final Kind[] KINDS = Kind.values();
+    private static final Constraint[] FLAGS = new Constraint[KINDS.length];
+    private static final Constraint MIN_VALUE_ZERO = new Constraint(Kind.MIN_VALUE, 0, 0, null, null);
+    private static final Constraint MAX_VALUE_ZERO = new Constraint(Kind.MAX_VALUE, 0, 0, null, null);
+    private static final Constraint EXCLUSIVE_MIN_VALUE_ZERO = new Constraint(Kind.EXCLUSIVE_MIN_VALUE, 0, 0, null, null);
+    private static final Constraint EXCLUSIVE_MAX_VALUE_ZERO = new Constraint(Kind.EXCLUSIVE_MAX_VALUE, 0, 0, null, null);
+
+    static {
+        for (Kind kind : KINDS) {
+            if (kind.isFlag()) {
+                FLAGS[kind.ordinal()] = new Constraint(kind, 0, 0, null, null);
+            }
+        }
+    }
+
+    private final Kind kind;
+    private final double value;
+    private final int fraction;
+    private final String pattern;
+    private final List<String> allowedValues;
+
+    private Constraint(Kind kind, double value, int fraction, String pattern, List<String> allowedValues) {
+        this.kind = kind;
+        this.value = value;
+        this.fraction = fraction;
+        this.pattern = pattern;
+        this.allowedValues = allowedValues;
+    }
+
+    // --- Factories ---
+
+    /**
+     * Returns the shared instance of a flag-only constraint.
+     */
+    public static Constraint flag(Kind kind) {
+        if (!kind.isFlag()) {
+            throw new IllegalArgumentException(kind + " requires a value");
+        }
+        return FLAGS[kind.ordinal()];
+    }
+
+    public static Constraint minLength(int minLength) {
+        return new Constraint(Kind.MIN_LENGTH, minLength, 0, null, null);
+    }
+
+    public static Constraint maxLength(int maxLength) {
+        return new Constraint(Kind.MAX_LENGTH, maxLength, 0, null, null);
+    }
+
+    public static Constraint minValue(double minValue) {
+        return minValue == 0 ? MIN_VALUE_ZERO : new Constraint(Kind.MIN_VALUE, minValue, 0, null, null);
+    }
+
+    public static Constraint maxValue(double maxValue) {
+        return maxValue == 0 ? MAX_VALUE_ZERO : new Constraint(Kind.MAX_VALUE, maxValue, 0, null, null);
+    }
+
+    public static Constraint exclusiveMinValue(double minValue) {
+        return minValue == 0
+                ? EXCLUSIVE_MIN_VALUE_ZERO
+                : new Constraint(Kind.EXCLUSIVE_MIN_VALUE, minValue, 0, null, null);
+    }
+
+    public static Constraint exclusiveMaxValue(double maxValue) {
+        return maxValue == 0
+                ? EXCLUSIVE_MAX_VALUE_ZERO
+                : new Constraint(Kind.EXCLUSIVE_MAX_VALUE, maxValue, 0, null, null);
+    }
+
+    public static Constraint digits(int integer, int fraction) {
+        return new Constraint(Kind.DIGITS, integer, fraction, null, null);
+    }
+
+    public static Constraint regex(String regex) {
+        return new Constraint(Kind.REGEX, 0, 0, Objects.requireNonNull(regex, "regex cannot be null"), null);
+    }
+
+    public static Constraint allowedValues(List<String> values) {
+        return allowedValues(values, 0);
+    }
+
+    /**
+     * @param omitted number of further values left out because of a size limit
+     */
+    public static Constraint allowedValues(List<String> values, int omitted) {
+        return new Constraint(Kind.ALLOWED_VALUES, omitted, 0, null, List.copyOf(values));
+    }
+
+    // --- Getters ---
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Numeric payload: the bound for length/value kinds, the integer digit count for DIGITS,
+     * the number of omitted values for ALLOWED_VALUES.
+     */
+    public double getValue() {
+        return value;
+    }
+
+    /**
+     * Fraction digit count for DIGITS.
+     */
+    public int getFraction() {
+        return fraction;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public List<String> getAllowedValues() {
+        return allowedValues != null ? allowedValues : List.of();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Constraint other)) return false;
+        return kind == other.kind
+                && Double.compare(value, other.value) == 0
+                && fraction == other.fraction
+                && Objects.equals(pattern, other.pattern)
+                && Objects.equals(allowedValues, other.allowedValues);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, value, fraction, pattern, allowedValues);
+    }
+
+    @Override
+    public String toString() {
+        if (kind.isFlag()) return kind.name();
+        Object payload = switch (kind) {
+            case REGEX -> pattern;
+            case ALLOWED_VALUES -> allowedValues;
+            case DIGITS -> (int) value + "," + fraction;
+            default -> value;
+        };
+        return kind.name() + "(" + payload + ")";
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.schema.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Immutable, compact set of {@link Constraint}s.
+ * <p>
+ * Flag-only constraints are stored as bits of a single int; only parameterized constraints
+ * occupy an array slot. Properties without constraints all share {@link #EMPTY}.
+ */
+public final class Constraints implements Iterable<Constraint> {
+
+    private static final Constraint[] NO_VALUES = new Constraint[0];
+
+    public static final Constraints EMPTY = new Constraints(0, NO_VALUES);
+
+    private final int flags;
+    private final Constraint[] valued;
+
+    private Constraints(int flags, Constraint[] valued) {
+        this.flags = flags;
+        this.valued = valued;
+    }
+
+    /**
+     * Returns a set containing the given constraint in addition to this set's constraints.
+     */
+    public Constraints with(Constraint constraint) {
+        if (constraint == null) return this;
+
+        if (constraint.getKind().isFlag()) {
+            int bit = 1 << constraint.getKind().ordinal();
+            return (flags & bit) != 0 ? this : new Constraints(flags | bit, valued);
+        }
+
+        for (Constraint existing : valued) {
+            if (existing.equals(constraint)) return this;
+        }
+        Constraint[] grown = Arrays.copyOf(valued, valued.length + 1);
+        grown[valued.length] = constraint;
+        return new Constraints(flags, grown);
+    }
+
+    /**
+     * Returns the union of this set and the given one.
+     */
+    public Constraints with(Constraints other) {
+        if (other == null || other.isEmpty()) return this;
+        if (isEmpty()) return other;
+
+        Constraints merged = new Constraints(flags | other.flags, valued);
+        for (Constraint constraint : other.valued) {
+            merged = merged.with(constraint);
+        }
+        return merged;
+    }
+
+    public boolean has(Constraint.Kind kind) {
+        if (kind.isFlag()) {
+            return (flags & (1 << kind.ordinal())) != 0;
+        }
+        for (Constraint constraint : valued) {
+            if (constraint.getKind() == kind) return true;
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return flags == 0 && valued.length == 0;
+    }
+
+    public int size() {
+        return Integer.bitCount(flags) + valued.length;
+    }
+
+    public Stream<Constraint> stream() {
+        return toList().stream();
+    }
+
+    /**
+     * Flags in kind order, followed by parameterized constraints in insertion order.
+     */
+    public List<Constraint> toList() {
+        List<Constraint> list = new ArrayList<>(size());
+        for (Constraint.Kind kind : Constraint.Kind.values()) {
+            if (kind.isFlag() && (flags & (1 << kind.ordinal())) != 0) {
+                list.add(Constraint.flag(kind));
+            }
+        }
+        list.addAll(Arrays.asList(valued));
+        return list;
+    }
+
+    @Override
+    public Iterator<Constraint> iterator() {
+        return toList().iterator();
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+}
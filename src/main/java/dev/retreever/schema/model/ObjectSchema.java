@@ -10,6 +10,7 @@ import java.util.Map;
 public class ObjectSchema implements Schema {
 
     private final Map<String, Property> properties = new LinkedHashMap<>();
+    private Truncation truncation;
 
     public void addProperty(Property property) {
         if (property == null) return;
@@ -29,6 +30,20 @@ public class ObjectSchema implements Schema {
         return properties.isEmpty();
     }
 
+    /**
+     * Marks this object as documenting only part of its properties.
+     */
+    public void markTruncated(Truncation truncation) {
+        this.truncation = truncation;
+    }
+
+    /**
+     * @return the limit that cut off further properties, or null if complete
+     */
+    public Truncation getTruncation() {
+        return truncation;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("ObjectSchema{");
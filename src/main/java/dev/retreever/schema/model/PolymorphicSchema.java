@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.schema.model;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Represents a polymorphic JSON object: exactly one of several subtype schemas,
+ * told apart by an optional discriminator property.
+ * Subtypes are stored in declaration order, keyed by their type id.
+ */
+public class PolymorphicSchema implements Schema {
+
+    private final String discriminator;
+    private final Map<String, Schema> subtypes = new LinkedHashMap<>();
+
+    /**
+     * @param discriminator name of the type id property, or null when the type id
+     *                      is not carried as a property (e.g. wrapper objects)
+     */
+    public PolymorphicSchema(String discriminator) {
+        this.discriminator = discriminator;
+    }
+
+    public void addSubtype(String typeId, Schema schema) {
+        if (typeId == null || schema == null) return;
+        subtypes.put(typeId, schema);
+    }
+
+    public String getDiscriminator() {
+        return discriminator;
+    }
+
+    public Map<String, Schema> getSubtypes() {
+        return Collections.unmodifiableMap(subtypes);
+    }
+
+    @Override
+    public String toString() {
+        return "PolymorphicSchema{discriminator=" + discriminator + ", oneOf=" + subtypes + "}";
+    }
+}
@@ -1,10 +1,13 @@
 package dev.retreever.schema.model;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Represents a named field/property within a JSON object.
+ * <p>
+ * Description, required flag and constraints may be resolved lazily: a deferred
+ * enricher runs once, thread-safely, on first access to any of them. Response-only
+ * schemas never render that metadata and so never pay for it.
  */
 public class Property implements Schema {
 
@@ -15,7 +18,11 @@ public class Property implements Schema {
     private boolean required = false;
     private String description;
     private Object example;
-    private final Set<String> constraints = new HashSet<>();
+    private Constraints constraints = Constraints.EMPTY;
+
+    private Consumer<Property> enricher;
+    private volatile boolean enriched = true;
+    private boolean enriching;
 
     public Property(String name, JsonPropertyType type, Schema value) {
         this.name = name;
@@ -38,10 +45,12 @@ public class Property implements Schema {
     }
 
     public boolean isRequired() {
+        ensureEnriched();
         return required;
     }
 
     public String getDescription() {
+        ensureEnriched();
         return description;
     }
 
@@ -49,18 +58,51 @@ public class Property implements Schema {
         return example;
     }
 
-    public Set<String> getConstraints() {
+    public Constraints getConstraints() {
+        ensureEnriched();
         return constraints;
     }
 
+    // --- Lazy metadata ---
+
+    /**
+     * Defers description, required and constraint resolution until first accessed.
+     *
+     * @param enricher applies the metadata to this property; runs at most once
+     */
+    public synchronized void deferMetadata(Consumer<Property> enricher) {
+        this.enricher = enricher;
+        this.enriched = false;
+    }
+
+    private void ensureEnriched() {
+        if (enriched) return;
+
+        synchronized (this) {
+            // Re-entrant calls from the enricher itself see the partial state
+            if (enriched || enriching) return;
+
+            enriching = true;
+            try {
+                enricher.accept(this);
+            } finally {
+                enricher = null;
+                enriching = false;
+                enriched = true;
+            }
+        }
+    }
+
     // --- Mutators (fluent) ---
 
     public Property required() {
+        ensureEnriched();
         this.required = true;
         return this;
     }
 
     public Property description(String desc) {
+        ensureEnriched();
         this.description = desc;
         return this;
     }
@@ -70,17 +112,23 @@ public class Property implements Schema {
         return this;
     }
 
-    public void addConstraint(String constraint) {
-        if (constraint != null && !constraint.isBlank()) {
-            this.constraints.add(constraint);
-        }
+    public void addConstraint(Constraint constraint) {
+        ensureEnriched();
+        this.constraints = constraints.with(constraint);
+    }
+
+    public void addConstraints(Constraints constraints) {
+        ensureEnriched();
+        this.constraints = this.constraints.with(constraints);
     }
 
     public void setRequired(boolean required) {
+        ensureEnriched();
         this.required = required;
     }
 
     public void setDescription(String description) {
+        ensureEnriched();
         this.description = description;
     }
 
@@ -113,7 +161,7 @@ public class Property implements Schema {
         }
 
         if (!constraints.isEmpty()) {
-            sb.append(", constraints=[").append(String.join(", ", constraints)).append("]");
+            sb.append(", constraints=").append(constraints);
         }
 
         sb.append("}");
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.schema.model;
+
+/**
+ * Placeholder for a schema node that was not resolved because a limit was reached.
+ * Rendered as an explicit truncation marker instead of silently dropping the node.
+ */
+public class TruncatedSchema implements Schema {
+
+    private final Truncation truncation;
+
+    public TruncatedSchema(Truncation truncation) {
+        this.truncation = truncation;
+    }
+
+    public Truncation getTruncation() {
+        return truncation;
+    }
+
+    @Override
+    public String toString() {
+        return "TruncatedSchema{" + truncation + "}";
+    }
+}
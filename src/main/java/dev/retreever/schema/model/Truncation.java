@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.schema.model;
+
+/**
+ * Records that part of a schema was cut off because a resolution limit was reached.
+ *
+ * @param reason   which limit was hit
+ * @param typeName the type whose resolution was cut off
+ * @param limit    the configured limit
+ */
+public record Truncation(Reason reason, String typeName, int limit) {
+
+    public enum Reason {
+        MAX_DEPTH,
+        MAX_PROPERTIES,
+        MAX_NODES,
+        MAX_ENUM_VALUES
+    }
+
+    @Override
+    public String toString() {
+        return reason + "(" + limit + ") at " + typeName;
+    }
+}
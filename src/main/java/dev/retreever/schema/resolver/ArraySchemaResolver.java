@@ -8,32 +8,29 @@
 
 package dev.retreever.schema.resolver;
 
-import dev.retreever.schema.context.ResolverContext;
 import dev.retreever.schema.model.ArraySchema;
 import dev.retreever.schema.model.Schema;
+import org.springframework.core.ResolvableType;
 
-import java.lang.reflect.GenericArrayType;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
-
+/**
+ * Resolves arrays and collections into ArraySchema representations.
+ * The element type is taken from the component type of arrays or the
+ * {@code Collection<E>} binding of collection types (also for subclasses such as
+ * {@code class Orders extends ArrayList<Order>}).
+ */
 public class ArraySchemaResolver {
 
-    public static Schema resolve(Type type) {
-        ResolverContext ctx = SchemaResolver.CONTEXT.get();
-        Type elementType = ctx.substitute(extractElementType(type));
+    public static Schema resolve(ResolvableType type) {
+        ResolvableType elementType = extractElementType(type);
         Schema elementSchema = SchemaResolver.resolve(elementType);
         return new ArraySchema(elementSchema);
     }
 
-    private static Type extractElementType(Type type) {
-        if (type instanceof Class<?> cls && cls.isArray()) {
-            return cls.getComponentType();
-        } else if (type instanceof ParameterizedType pt) {
-            Type[] args = pt.getActualTypeArguments();
-            return args.length > 0 ? args[0] : Object.class;
-        } else if (type instanceof GenericArrayType at) {
-            return at.getGenericComponentType();
+    private static ResolvableType extractElementType(ResolvableType type) {
+        if (type.isArray()) {
+            return type.getComponentType();
         }
-        return Object.class;
+        ResolvableType element = type.asCollection().getGeneric(0);
+        return element == ResolvableType.NONE ? ResolvableType.forClass(Object.class) : element;
     }
 }
@@ -25,9 +25,40 @@ import java.util.UUID;
  * (UUID, temporal types, binary types, URI/URL, enums, collections, etc.)
  * to more precise schema categories instead of treating everything as
  * a generic string or object.
+ * <p>
+ * Classification runs the {@link TypeHandler}s of the bound {@link ResolutionContext} first,
+ * then well-known library types, then the built-in rules. Built-in verdicts depend on nothing
+ * but the class and are cached in a {@link ClassValue}, so every later lookup is a single O(1) read.
  */
 public class JsonPropertyTypeResolver {
 
+    /**
+     * Library types matched by name, so no optional dependency is needed on the classpath.
+     */
+    private static final Map<String, JsonPropertyType> KNOWN_TYPES = Map.ofEntries(
+            Map.entry("org.bson.types.ObjectId", JsonPropertyType.STRING),
+            Map.entry("org.joda.time.DateTime", JsonPropertyType.DATE_TIME),
+            Map.entry("org.joda.time.Instant", JsonPropertyType.DATE_TIME),
+            Map.entry("org.joda.time.LocalDateTime", JsonPropertyType.DATE_TIME),
+            Map.entry("org.joda.time.LocalDate", JsonPropertyType.DATE),
+            Map.entry("org.joda.time.LocalTime", JsonPropertyType.TIME),
+            Map.entry("org.joda.time.Duration", JsonPropertyType.DURATION),
+            Map.entry("org.joda.time.Period", JsonPropertyType.PERIOD),
+            Map.entry("java.util.Date", JsonPropertyType.DATE_TIME),
+            Map.entry("java.sql.Timestamp", JsonPropertyType.DATE_TIME),
+            Map.entry("java.sql.Date", JsonPropertyType.DATE),
+            Map.entry("java.sql.Time", JsonPropertyType.TIME),
+            Map.entry("java.util.Currency", JsonPropertyType.STRING),
+            Map.entry("java.util.Locale", JsonPropertyType.STRING)
+    );
+
+    private static final ClassValue<JsonPropertyType> BUILT_IN = new ClassValue<>() {
+        @Override
+        protected JsonPropertyType computeValue(Class<?> type) {
+            return classify(type);
+        }
+    };
+
     /**
      * Determines the JSON-like schema type for the given Java class.
      *
@@ -35,10 +66,28 @@ public class JsonPropertyTypeResolver {
      * @return inferred {@link JsonPropertyType}
      */
     public static JsonPropertyType resolve(Class<?> clazz) {
-
         if (clazz == null) {
             return JsonPropertyType.OBJECT;
         }
+        return ResolutionContext.isBound()
+                ? ResolutionContext.current().classify(clazz)
+                : BUILT_IN.get(clazz);
+    }
+
+    /**
+     * Classifies the class with the built-in rules only.
+     */
+    static JsonPropertyType resolveBuiltIn(Class<?> clazz) {
+        return BUILT_IN.get(clazz);
+    }
+
+    private static JsonPropertyType classify(Class<?> clazz) {
+
+        // Well-known library types, including their subclasses
+        for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+            JsonPropertyType type = KNOWN_TYPES.get(c.getName());
+            if (type != null) return type;
+        }
 
         // Primitive types
         if (clazz.isPrimitive()) {
@@ -8,77 +8,184 @@
 
 package dev.retreever.schema.resolver;
 
+import dev.retreever.config.SchemaConfig;
 import dev.retreever.schema.model.ObjectSchema;
 import dev.retreever.schema.model.Property;
 import dev.retreever.schema.model.Schema;
+import dev.retreever.schema.model.Truncation;
+import dev.retreever.schema.resolver.source.SchemaPropertySource;
+import dev.retreever.schema.resolver.source.SourceProperty;
+import org.springframework.core.ResolvableType;
 
-import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 /**
- * Reflectively resolves a Java {@link Type} into an {@link ObjectSchema} by processing all fields.
+ * Reflectively resolves a Java {@link Type} into an {@link ObjectSchema} by processing the
+ * properties reported by the configured {@link SchemaPropertySource} (declared fields by default).
  * Uses {@link PropertyResolver} for metadata enrichment and recursive delegation for nested schemas.
+ * <p>
+ * Members whose declared type does not reference a type variable are resolved once per raw
+ * class and shared by every generic instantiation (e.g. {@code ApiResponse<OrderDto>} and
+ * {@code ApiResponse<UserDto>} share {@code timestamp}, {@code traceId}, ...). Only the
+ * type-variable-dependent members are resolved per instantiation. Layouts are cached in the
+ * bound {@link ResolutionContext}.
  */
 public class ObjectSchemaResolver {
 
-    public static Schema resolve(Type type) {
+    public static Schema resolve(ResolvableType type) {
         Class<?> clazz = SchemaResolver.extractRawClass(type);
         if (clazz == null || clazz.isPrimitive() || clazz.isEnum()) {
             return new ObjectSchema();
         }
 
+        Map<Class<?>, ClassLayout> layouts = ResolutionContext.current().layouts();
+        ClassLayout layout = layouts.get(clazz);
+        if (layout == null) {
+            layout = ClassLayout.resolve(clazz);
+            if (layout.shareable()) {
+                layouts.putIfAbsent(clazz, layout);
+            }
+        } else {
+            // Reported while the layout was built; every reuse reports them again
+            layout.truncations().forEach(SchemaResolver::reportTruncation);
+        }
+
+        if (layout.invariant()) {
+            return layout.shared();
+        }
+
         ObjectSchema objectSchema = new ObjectSchema();
-        Field[] fields = getAllFields(clazz);
+        objectSchema.markTruncated(layout.truncation());
+        for (Member member : layout.members()) {
+            if (member.shared() != null) {
+                objectSchema.addProperty(member.shared());
+            } else {
+                objectSchema.addProperty(resolveMember(member.property(), type));
+            }
+        }
 
-        for (Field field : fields) {
-            field.setAccessible(true);
-            Type fieldType = field.getGenericType();
+        return objectSchema.isEmpty() ? new ObjectSchema() : objectSchema;
+    }
 
-            // Resolve nested schema structure first
-            Schema fieldSchema = SchemaResolver.resolveField(field, clazz, fieldType);
+    private static Property resolveMember(SourceProperty source, ResolvableType owner) {
+        // Resolve nested schema structure first
+        Schema fieldSchema = SchemaResolver.resolve(source.resolveType(owner));
 
-            // Enrich with metadata using PropertyResolver
-            Property property = PropertyResolver.resolve(field);
-            if (property != null) {
-                property.setValue(fieldSchema);
-                objectSchema.addProperty(property);
+        // Enrich with metadata using PropertyResolver
+        Property property = PropertyResolver.resolve(source);
+        if (property != null) {
+            property.setValue(fieldSchema);
+        }
+        return property;
+    }
+
+    /**
+     * Returns true if the type mentions a type variable anywhere, e.g. {@code T},
+     * {@code List<T>}, {@code T[]} or {@code Map<String, ? extends T>}.
+     */
+    private static boolean dependsOnTypeVariable(Type type) {
+        if (type instanceof TypeVariable<?>) {
+            return true;
+        }
+        if (type instanceof ParameterizedType pt) {
+            for (Type arg : pt.getActualTypeArguments()) {
+                if (dependsOnTypeVariable(arg)) return true;
             }
+            return pt.getOwnerType() != null && dependsOnTypeVariable(pt.getOwnerType());
+        }
+        if (type instanceof GenericArrayType at) {
+            return dependsOnTypeVariable(at.getGenericComponentType());
         }
+        if (type instanceof WildcardType wt) {
+            for (Type bound : wt.getUpperBounds()) {
+                if (dependsOnTypeVariable(bound)) return true;
+            }
+            for (Type bound : wt.getLowerBounds()) {
+                if (dependsOnTypeVariable(bound)) return true;
+            }
+        }
+        return false;
+    }
 
-        return objectSchema.isEmpty() ? new ObjectSchema() : objectSchema;
+    /**
+     * A single member of a class layout. Type-independent members carry their
+     * resolved, shared {@link Property}; dependent ones only carry the source property.
+     */
+    private record Member(SourceProperty property, Property shared) {
     }
 
     /**
-     * Collects all declared instance fields from class hierarchy.
-     * - walks child -> parent, stopping before java.lang.Object
-     * - skips java.* classes (prevents module reflection errors)
-     * - skips synthetic and static fields (e.g. serialVersionUID)
+     * Ordered members of a raw class.
+     *
+     * @param members   members in source order
+     * @param shared     complete schema when no member depends on a type variable, else null
+     * @param truncation set when the class has more properties than the configured maximum
+     * @param truncations every truncation reported while building the layout, including
+     *                    {@code truncation} and those of shared members' schemas
+     * @param shareable  whether the layout may be reused; false when a recursion cycle was cut
+     *                   back to a type outside the layout, since the result then depends on
+     *                   the resolution path
      */
-    private static Field[] getAllFields(Class<?> clazz) {
-        List<Field> fields = new ArrayList<>();
-        Class<?> current = clazz;
-
-        while (current != null && current != Object.class) {
-            // Avoid traversing into JDK/internal classes
-            String pkg = current.getPackage() == null ? "" : current.getPackageName();
-            if (pkg.startsWith("java.")) {
-                break; // stop climbing into java.* superclasses
+    record ClassLayout(List<Member> members, ObjectSchema shared, Truncation truncation,
+                       List<Truncation> truncations, boolean shareable) {
+
+        boolean invariant() {
+            return shared != null;
+        }
+
+        static ClassLayout resolve(Class<?> clazz) {
+            int depth = SchemaResolver.currentDepth();
+            int outer = SchemaResolver.beginCutTracking();
+            List<Truncation> outerCapture = SchemaResolver.beginTruncationCapture();
+
+            List<Member> members = new ArrayList<>();
+            boolean invariant = true;
+
+            SchemaConfig config = ResolutionContext.currentConfig();
+            List<SourceProperty> sources = config.getPropertySource().properties(clazz);
+            int maxProperties = config.getLimits().maxProperties();
+            Truncation truncation = null;
+            if (sources.size() > maxProperties) {
+                truncation = new Truncation(Truncation.Reason.MAX_PROPERTIES, clazz.getName(), maxProperties);
+                sources = sources.subList(0, maxProperties);
+                SchemaResolver.reportTruncation(truncation);
             }
 
-            for (Field f : current.getDeclaredFields()) {
-                // Skip JVM-injected / non-instance fields
-                if (f.isSynthetic()) continue;
-                if (java.lang.reflect.Modifier.isStatic(f.getModifiers())) continue;
+            for (SourceProperty source : sources) {
+                if (dependsOnTypeVariable(source.genericType())) {
+                    members.add(new Member(source, null));
+                    invariant = false;
+                } else {
+                    Property property = resolveMember(source, ResolvableType.forClass(clazz));
+                    if (property != null) {
+                        members.add(new Member(source, property));
+                    }
+                }
+            }
 
-                fields.add(f);
+            ObjectSchema shared = null;
+            if (invariant) {
+                shared = new ObjectSchema();
+                for (Member member : members) {
+                    shared.addProperty(member.shared());
+                }
+                shared.markTruncated(truncation);
             }
 
-            current = current.getSuperclass();
+            // Cuts back to types entered within this layout are path-independent; so is a cut
+            // back to the class itself when the class is not generic.
+            List<Truncation> truncations = SchemaResolver.endTruncationCapture(outerCapture);
+            int lowestCut = SchemaResolver.endCutTracking(outer);
+            boolean shareable = lowestCut > depth
+                    || (lowestCut == depth && clazz.getTypeParameters().length == 0);
+            return new ClassLayout(List.copyOf(members), shared, truncation, truncations, shareable);
         }
-
-        return fields.toArray(new Field[0]);
     }
 }
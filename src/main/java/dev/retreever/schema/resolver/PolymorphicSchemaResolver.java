@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.schema.resolver;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import dev.retreever.schema.model.PolymorphicSchema;
+import dev.retreever.schema.model.Schema;
+import dev.retreever.schema.model.Truncation;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves polymorphic hierarchies into a {@link PolymorphicSchema}.
+ * <p>
+ * Subtypes are enumerated from Jackson's {@link JsonSubTypes} (found anywhere in the
+ * hierarchy) and from the permitted subclasses of sealed types. Each subtype schema is
+ * resolved once and kept in a shared cache, so a hierarchy referenced by many endpoints
+ * is not re-resolved per occurrence.
+ */
+public class PolymorphicSchemaResolver {
+
+    private PolymorphicSchemaResolver() {}
+
+    /**
+     * Returns true if the class has documented subtypes other than itself.
+     */
+    public static boolean isPolymorphic(Class<?> clazz) {
+        return !subtypesOf(clazz).isEmpty();
+    }
+
+    public static Schema resolve(ResolvableType type) {
+        Class<?> base = SchemaResolver.extractRawClass(type);
+        PolymorphicSchema schema = new PolymorphicSchema(discriminatorOf(base));
+
+        // A concrete base is itself a valid variant
+        if (isConcrete(base)) {
+            schema.addSubtype(typeIdOf(base, null), ObjectSchemaResolver.resolve(type));
+        }
+
+        int depth = SchemaResolver.currentDepth();
+        for (Subtype subtype : subtypesOf(base)) {
+            schema.addSubtype(subtype.typeId(), resolveSubtype(subtype.type(), base, depth));
+        }
+        return schema;
+    }
+
+    private static Schema resolveSubtype(Class<?> subtype, Class<?> base, int depth) {
+        Map<Class<?>, SubtypeSchema> subtypeSchemas = ResolutionContext.current().subtypeSchemas();
+        SubtypeSchema cached = subtypeSchemas.get(subtype);
+        if (cached != null) {
+            cached.truncations().forEach(SchemaResolver::reportTruncation);
+            return cached.schema();
+        }
+
+        int outer = SchemaResolver.beginCutTracking();
+        List<Truncation> outerCapture = SchemaResolver.beginTruncationCapture();
+        Schema schema = SchemaResolver.resolve(ResolvableType.forClass(subtype));
+        List<Truncation> truncations = SchemaResolver.endTruncationCapture(outerCapture);
+        int lowestCut = SchemaResolver.endCutTracking(outer);
+
+        // Same rule as member layouts: only path-independent results are shared
+        if (lowestCut > depth || (lowestCut == depth && base.getTypeParameters().length == 0)) {
+            subtypeSchemas.putIfAbsent(subtype, new SubtypeSchema(schema, truncations));
+        }
+        return schema;
+    }
+
+    // === SUBTYPE DISCOVERY ===
+
+    private static List<Subtype> subtypesOf(Class<?> clazz) {
+        if (clazz == null || clazz.isPrimitive() || clazz.isArray() || clazz.isEnum()) {
+            return List.of();
+        }
+        return ResolutionContext.current().subtypes().computeIfAbsent(clazz, PolymorphicSchemaResolver::discoverSubtypes);
+    }
+
+    private static List<Subtype> discoverSubtypes(Class<?> base) {
+        Set<Class<?>> seen = new LinkedHashSet<>();
+        List<Subtype> result = new ArrayList<>();
+
+        JsonSubTypes jsonSubTypes = AnnotatedElementUtils.findMergedAnnotation(base, JsonSubTypes.class);
+        if (jsonSubTypes != null) {
+            for (JsonSubTypes.Type declared : jsonSubTypes.value()) {
+                Class<?> type = declared.value();
+                if (type == base || !base.isAssignableFrom(type) || !seen.add(type)) continue;
+                String name = declared.name().isEmpty() ? null : declared.name();
+                result.add(new Subtype(typeIdOf(type, name), type));
+            }
+        }
+
+        collectPermitted(base, base, seen, result);
+        return List.copyOf(result);
+    }
+
+    /**
+     * Flattens sealed hierarchies: abstract permitted subtypes are expanded into
+     * their own permitted subtypes, concrete ones become variants.
+     */
+    private static void collectPermitted(Class<?> base, Class<?> clazz, Set<Class<?>> seen, List<Subtype> out) {
+        if (!clazz.isSealed()) return;
+
+        for (Class<?> permitted : clazz.getPermittedSubclasses()) {
+            if (isConcrete(permitted) && seen.add(permitted)) {
+                out.add(new Subtype(typeIdOf(permitted, null), permitted));
+            }
+            collectPermitted(base, permitted, seen, out);
+        }
+    }
+
+    private static boolean isConcrete(Class<?> clazz) {
+        return !clazz.isInterface() && !Modifier.isAbstract(clazz.getModifiers());
+    }
+
+    // === TYPE IDS ===
+
+    private static String discriminatorOf(Class<?> base) {
+        JsonTypeInfo info = AnnotatedElementUtils.findMergedAnnotation(base, JsonTypeInfo.class);
+        if (info == null) return null;
+
+        return switch (info.include()) {
+            case PROPERTY, EXISTING_PROPERTY, EXTERNAL_PROPERTY ->
+                    info.property().isEmpty() ? info.use().getDefaultPropertyName() : info.property();
+            default -> null;
+        };
+    }
+
+    /**
+     * Derives the type id Jackson would write: explicit name, then {@link JsonTypeName},
+     * then a class-based id according to {@link JsonTypeInfo#use()}.
+     */
+    private static String typeIdOf(Class<?> type, String declaredName) {
+        if (declaredName != null) return declaredName;
+
+        JsonTypeName typeName = type.getAnnotation(JsonTypeName.class);
+        if (typeName != null && !typeName.value().isEmpty()) {
+            return typeName.value();
+        }
+
+        JsonTypeInfo info = AnnotatedElementUtils.findMergedAnnotation(type, JsonTypeInfo.class);
+        if (info != null && (info.use() == JsonTypeInfo.Id.CLASS || info.use() == JsonTypeInfo.Id.MINIMAL_CLASS)) {
+            return type.getName();
+        }
+        return type.getSimpleName();
+    }
+
+    record Subtype(String typeId, Class<?> type) {
+    }
+
+    /**
+     * A cached subtype schema with the truncations reported while resolving it.
+     */
+    record SubtypeSchema(Schema schema, List<Truncation> truncations) {
+    }
+}
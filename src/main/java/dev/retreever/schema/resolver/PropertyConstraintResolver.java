@@ -8,15 +8,18 @@
 
 package dev.retreever.schema.resolver;
 
+import dev.retreever.schema.model.Constraint;
+import dev.retreever.schema.model.Constraints;
 import dev.retreever.schema.model.Property;
 import dev.retreever.schema.resolver.util.ConstraintResolver;
-import dev.retreever.schema.resolver.util.JsonPropertyConstraint;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Applies validation-based constraints to a {@link Property}.
@@ -35,35 +38,57 @@ public class PropertyConstraintResolver {
      * @param field    the source field inspected via reflection
      */
     public static void resolve(Property prop, Field field) {
+        resolve(prop, field, field.getType());
+    }
+
+    /**
+     * Populates constraint markers on the given property based on the validation
+     * annotations declared on any annotated element (field or getter).
+     *
+     * @param prop    the property being enriched
+     * @param element the element carrying the validation annotations
+     * @param type    the declared type of the property
+     */
+    public static void resolve(Property prop, AnnotatedElement element, Class<?> type) {
+        resolve(prop, element, type, ResolutionContext.currentConfig().getLimits().maxEnumValues());
+    }
+
+    /**
+     * Same as {@link #resolve(Property, AnnotatedElement, Class)} with an explicit enum
+     * value limit, for enrichment running after the resolution context is gone.
+     *
+     * @param maxEnumValues number of enum constants listed before the rest is summarised
+     */
+    public static void resolve(Property prop, AnnotatedElement element, Class<?> type, int maxEnumValues) {
         constraintLog.debug("Resolving Constraint for prop: {}", prop.getName());
-        Annotation[] anns = field.getAnnotations();
+        Annotation[] anns = element.getAnnotations();
 
-        // Normal constraints
-        Set<String> constraints = ConstraintResolver.resolve(anns);
-        constraints.forEach(prop::addConstraint);
+        // Normal constraints and required flag, in one pass
+        ConstraintResolver.Result result = ConstraintResolver.resolve(anns);
+        Constraints constraints = result.constraints();
+        prop.addConstraints(constraints);
 
         // ENUM handling
-        Class<?> type = field.getType();
         if (type.isEnum()) {
-            appendAllowedValueConstraintIfEnum(prop, type);
+            appendAllowedValueConstraintIfEnum(prop, type, maxEnumValues);
         }
 
-        if (ConstraintResolver.isRequired(anns)) {
+        if (result.required()) {
             prop.required();
         }
 
         constraintLog.debug("Property: {}, Constraints: {}", prop.getName(), constraints);
     }
 
-    private static void appendAllowedValueConstraintIfEnum(Property prop, Class<?> type) {
+    private static void appendAllowedValueConstraintIfEnum(Property prop, Class<?> type, int maxEnumValues) {
         Object[] constants = type.getEnumConstants();
-        String[] names = new String[constants.length];
+        int listed = Math.min(constants.length, maxEnumValues);
+        List<String> names = new ArrayList<>(listed);
 
-        for (int i = 0; i < constants.length; i++) {
-            names[i] = ((Enum<?>) constants[i]).name();
+        for (int i = 0; i < listed; i++) {
+            names.add(((Enum<?>) constants[i]).name());
         }
 
-        String enumConstraint = JsonPropertyConstraint.enumValue(names);
-        prop.addConstraint(enumConstraint);
+        prop.addConstraint(Constraint.allowedValues(names, constants.length - listed));
     }
 }
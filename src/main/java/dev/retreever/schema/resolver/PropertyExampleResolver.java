@@ -13,7 +13,7 @@ import dev.retreever.schema.model.Property;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
+import java.lang.reflect.AnnotatedElement;
 
 /**
  * Resolves example values for a {@link Property} from {@link FieldInfo}.
@@ -24,18 +24,18 @@ public class PropertyExampleResolver {
     private static final Logger exLog = LoggerFactory.getLogger(PropertyExampleResolver.class);
 
     /**
-     * Applies an example value to the given JSON property, if the field
+     * Applies an example value to the given JSON property, if the element
      * contains a {@link FieldInfo} annotation with a defined example.
      *
      * @param property the property to update
-     * @param field    the field annotated with FieldInfo
+     * @param element  the field (or other element) annotated with FieldInfo
      */
-    public static void resolve(Property property, Field field) {
-        if (property == null || field == null) {
+    public static void resolve(Property property, AnnotatedElement element) {
+        if (property == null || element == null) {
             return;
         }
 
-        FieldInfo fieldInfo = field.getAnnotation(FieldInfo.class);
+        FieldInfo fieldInfo = element.getAnnotation(FieldInfo.class);
         if (fieldInfo != null) {
             String example = fieldInfo.example();
             if (example != null && !example.isBlank()) {
@@ -10,14 +10,19 @@ package dev.retreever.schema.resolver;
 
 import dev.retreever.schema.model.JsonPropertyType;
 import dev.retreever.schema.model.Property;
+import dev.retreever.schema.model.Truncation;
+import dev.retreever.schema.resolver.source.SourceProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Field;
 
 /**
- * Resolves Field instances into fully enriched Property instances,
- * including constraints, description, and example metadata from annotations.
+ * Resolves Field instances (or any {@link SourceProperty}) into fully enriched Property
+ * instances, including constraints, description, and example metadata from annotations.
+ * <p>
+ * Examples are resolved eagerly since every rendered schema shows them; constraints and
+ * descriptions are deferred until first read (see {@link Property#deferMetadata}).
  */
 public class PropertyResolver {
 
@@ -34,17 +39,42 @@ public class PropertyResolver {
         if (field == null) {
             return null;
         }
+        return resolve(SourceProperty.of(field));
+    }
 
-        Class<?> rawType = field.getType();
+    /**
+     * Resolves a property reported by a schema property source. Metadata is read from
+     * the property's annotated element (its backing field when one exists).
+     *
+     * @param source the property to resolve
+     * @return fully enriched Property instance, or null if source is null
+     */
+    public static Property resolve(SourceProperty source) {
+        if (source == null) {
+            return null;
+        }
+
+        Class<?> rawType = source.rawType();
         JsonPropertyType propType = JsonPropertyTypeResolver.resolve(rawType);
 
-        Property property = new Property(field.getName(), propType, null);
+        Property property = new Property(source.name(), propType, null);
+
+        // Oversized enums are listed partially; report it while the resolution is active
+        int maxEnumValues = ResolutionContext.currentConfig().getLimits().maxEnumValues();
+        if (rawType.isEnum()) {
+            if (rawType.getEnumConstants().length > maxEnumValues) {
+                SchemaResolver.reportTruncation(
+                        new Truncation(Truncation.Reason.MAX_ENUM_VALUES, rawType.getName(), maxEnumValues));
+            }
+        }
 
-        propLog.debug("Resolving metadata for prop: {}", property.getName());
         // Enrich with metadata using existing resolvers (safe for all types)
-        PropertyConstraintResolver.resolve(property, field);
-        PropertyDescriptionResolver.resolve(property, field);
-        PropertyExampleResolver.resolve(property, field);
+        PropertyExampleResolver.resolve(property, source.annotations());
+        property.deferMetadata(p -> {
+            propLog.debug("Resolving metadata for prop: {}", p.getName());
+            PropertyConstraintResolver.resolve(p, source.annotations(), rawType, maxEnumValues);
+            PropertyDescriptionResolver.resolve(p, source.annotations());
+        });
 
         return property;
     }
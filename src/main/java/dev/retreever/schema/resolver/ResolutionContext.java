@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.schema.resolver;
+
+import dev.retreever.config.SchemaConfig;
+import dev.retreever.schema.model.JsonPropertyType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Schema resolution state owned by one {@code RetreeverOrchestrator}: its
+ * {@link SchemaConfig} and the caches built while resolving (class layouts, polymorphic
+ * subtypes, type classifications).
+ * <p>
+ * The static resolvers find the context bound to the current thread via {@link #bind()}.
+ * Nothing is kept in static state, so each application context's classes are released
+ * together with its orchestrator.
+ */
+public final class ResolutionContext {
+
+    private static final ThreadLocal<ResolutionContext> CURRENT = new ThreadLocal<>();
+
+    private final SchemaConfig config;
+    private final Map<Class<?>, ObjectSchemaResolver.ClassLayout> layouts = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<PolymorphicSchemaResolver.Subtype>> subtypes = new ConcurrentHashMap<>();
+    private final Map<Class<?>, PolymorphicSchemaResolver.SubtypeSchema> subtypeSchemas = new ConcurrentHashMap<>();
+    private final Map<Class<?>, JsonPropertyType> typeVerdicts = new ConcurrentHashMap<>();
+
+    public ResolutionContext(SchemaConfig config) {
+        this.config = config != null ? config : SchemaConfig.DEFAULT;
+    }
+
+    /**
+     * Returns the context bound to this thread, or a fresh default context.
+     */
+    public static ResolutionContext current() {
+        ResolutionContext context = CURRENT.get();
+        return context != null ? context : new ResolutionContext(SchemaConfig.DEFAULT);
+    }
+
+    /**
+     * Returns the configuration of the context bound to this thread, or the defaults.
+     */
+    public static SchemaConfig currentConfig() {
+        ResolutionContext context = CURRENT.get();
+        return context != null ? context.config : SchemaConfig.DEFAULT;
+    }
+
+    /**
+     * Returns true if a context is bound to this thread.
+     */
+    static boolean isBound() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Binds this context to the current thread until the returned binding is closed,
+     * which restores the previously bound context.
+     */
+    public Binding bind() {
+        ResolutionContext previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    public SchemaConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Drops every cached layout, subtype and classification.
+     */
+    public void clear() {
+        layouts.clear();
+        subtypes.clear();
+        subtypeSchemas.clear();
+        typeVerdicts.clear();
+    }
+
+    /**
+     * Classifies a type with the configured handlers first, then the built-in rules.
+     * Handler verdicts are memoized per context; built-in ones are shared.
+     */
+    JsonPropertyType classify(Class<?> type) {
+        List<TypeHandler> handlers = config.getTypeHandlers();
+        if (handlers.isEmpty()) {
+            return JsonPropertyTypeResolver.resolveBuiltIn(type);
+        }
+        return typeVerdicts.computeIfAbsent(type, t -> {
+            for (TypeHandler handler : handlers) {
+                JsonPropertyType verdict = handler.classify(t);
+                if (verdict != null) return verdict;
+            }
+            return JsonPropertyTypeResolver.resolveBuiltIn(t);
+        });
+    }
+
+    Map<Class<?>, ObjectSchemaResolver.ClassLayout> layouts() {
+        return layouts;
+    }
+
+    Map<Class<?>, List<PolymorphicSchemaResolver.Subtype>> subtypes() {
+        return subtypes;
+    }
+
+    Map<Class<?>, PolymorphicSchemaResolver.SubtypeSchema> subtypeSchemas() {
+        return subtypeSchemas;
+    }
+
+    /**
+     * Scope of a {@link #bind()} call; closing it never throws.
+     */
+    @FunctionalInterface
+    public interface Binding extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
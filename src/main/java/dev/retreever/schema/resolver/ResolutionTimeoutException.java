@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.schema.resolver;
+
+/**
+ * Thrown by {@link SchemaResolver} when a schema resolution runs past its deadline.
+ * Resolution is abandoned cooperatively; the caller decides how to degrade.
+ */
+public class ResolutionTimeoutException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String typeName;
+
+    public ResolutionTimeoutException(String typeName) {
+        super("Schema resolution timed out at " + typeName);
+        this.typeName = typeName;
+    }
+
+    /**
+     * @return the type being resolved when the deadline passed
+     */
+    public String getTypeName() {
+        return typeName;
+    }
+}
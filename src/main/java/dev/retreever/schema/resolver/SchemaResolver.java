@@ -8,86 +8,312 @@
 
 package dev.retreever.schema.resolver;
 
-import dev.retreever.schema.context.ResolverContext;
+import dev.retreever.config.SchemaLimits;
 import dev.retreever.schema.model.JsonPropertyType;
 import dev.retreever.schema.model.Schema;
+import dev.retreever.schema.model.TruncatedSchema;
+import dev.retreever.schema.model.Truncation;
 import dev.retreever.schema.model.ValueSchema;
+import org.springframework.core.ResolvableType;
 
 import java.lang.reflect.*;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Central dispatcher for schema resolution using the instance-per-resolution pattern.
  * Delegates to specialized resolvers based on type classification.
+ * <p>
+ * Generic substitution is delegated to Spring's {@link ResolvableType}: every node carries
+ * its owner's type bindings, so nested ({@code List<T>} inside {@code Page<T>}), inherited,
+ * wildcard and array generics resolve without any substitution maps of our own.
+ * <p>
+ * Each resolution is bounded by the configured {@link SchemaLimits}: nodes beyond the
+ * maximum depth or node count are replaced by a {@link TruncatedSchema}, and every
+ * truncation is reported to the collection handed to {@link #initResolution(ResolvableType, Collection)}.
+ * A resolution may also carry a deadline, checked cooperatively while walking; once it
+ * passes, a {@link ResolutionTimeoutException} abandons the resolution.
+ * <p>
+ * Configuration and caches come from the {@link ResolutionContext} bound to the current
+ * thread; a top-level resolution without one runs in a fresh default context.
  */
 public class SchemaResolver {
-    static final ThreadLocal<ResolverContext> CONTEXT =
-            ThreadLocal.withInitial(ResolverContext::new);
 
-    private static final ThreadLocal<Set<Type>> RESOLVING =
-            ThreadLocal.withInitial(HashSet::new);
+    /**
+     * Marker for a resolution without deadline.
+     */
+    public static final long NO_DEADLINE = Long.MIN_VALUE;
+
+    /**
+     * Resolved type names currently being resolved on this thread, mapped to their stack depth.
+     */
+    private static final ThreadLocal<Map<String, Integer>> RESOLVING =
+            ThreadLocal.withInitial(HashMap::new);
+
+    /**
+     * Lowest stack depth a cycle cut has pointed back to since cut tracking began.
+     */
+    private static final ThreadLocal<int[]> LOWEST_CUT =
+            ThreadLocal.withInitial(() -> new int[]{Integer.MAX_VALUE});
+
+    /**
+     * Schema nodes resolved so far by the current top-level resolution on this thread.
+     */
+    private static final ThreadLocal<int[]> NODES = ThreadLocal.withInitial(() -> new int[1]);
+
+    /**
+     * Receives truncations of the current top-level resolution on this thread.
+     */
+    private static final ThreadLocal<Collection<Truncation>> TRUNCATIONS = new ThreadLocal<>();
+
+    /**
+     * Truncations reported within the innermost capture scope on this thread, if any; see
+     * {@link #beginTruncationCapture()}.
+     */
+    private static final ThreadLocal<List<Truncation>> CAPTURED = new ThreadLocal<>();
+
+    /**
+     * Deadline of the current top-level resolution on this thread, in {@link System#nanoTime()} terms.
+     */
+    private static final ThreadLocal<long[]> DEADLINE = ThreadLocal.withInitial(() -> new long[]{NO_DEADLINE});
+
+    /**
+     * The deadline is checked every this many nodes (a power of two).
+     */
+    private static final int DEADLINE_CHECK_INTERVAL = 64;
+
+    /**
+     * Cut depth recorded for truncations; below every real stack depth, so no layout
+     * containing a truncated node is ever shared.
+     */
+    private static final int PATH_DEPENDENT = -1;
 
     private SchemaResolver() {}
 
     /**
-     * Entry point for schema resolution with generic context initialization.
+     * Entry point for schema resolution of a plain Java type.
      */
     public static Schema initResolution(Type type) {
-        CONTEXT.set(ResolverContext.fromRoot(type));
+        return initResolution(type == null ? ResolvableType.NONE : ResolvableType.forType(type));
+    }
+
+    /**
+     * Entry point for schema resolution of a type that already carries its generic context,
+     * e.g. one obtained from a {@link org.springframework.core.MethodParameter}.
+     */
+    public static Schema initResolution(ResolvableType type) {
+        return initResolution(type, new ArrayList<>());
+    }
+
+    /**
+     * Entry point collecting the limits hit while resolving the type.
+     *
+     * @param truncations receives one entry per truncated node
+     */
+    public static Schema initResolution(ResolvableType type, Collection<Truncation> truncations) {
+        return initResolution(type, truncations, NO_DEADLINE);
+    }
+
+    /**
+     * Entry point collecting truncations and bounded by a deadline.
+     *
+     * @param deadline {@link System#nanoTime()} value after which resolution is abandoned,
+     *                 or {@link #NO_DEADLINE}
+     * @throws ResolutionTimeoutException if the deadline passes before resolution completes
+     */
+    public static Schema initResolution(ResolvableType type, Collection<Truncation> truncations, long deadline) {
+        if (!ResolutionContext.isBound()) {
+            ResolutionContext.Binding binding = ResolutionContext.current().bind();
+            try {
+                return initResolution(type, truncations, deadline);
+            } finally {
+                binding.close();
+            }
+        }
+
+        TRUNCATIONS.set(truncations);
+        DEADLINE.get()[0] = deadline;
         try {
             return resolve(type);
         } finally {
-            CONTEXT.remove();
             RESOLVING.get().clear();
+            LOWEST_CUT.remove();
+            NODES.remove();
+            TRUNCATIONS.remove();
+            CAPTURED.remove();
+            DEADLINE.remove();
         }
     }
 
     /**
-     * Entry point used by all resolvers - handles substitution + recursion guard.
+     * Resolves a plain Java type without any owner context.
      */
     public static Schema resolve(Type type) {
-        if (type == null) {
+        return resolve(type == null ? ResolvableType.NONE : ResolvableType.forType(type));
+    }
+
+    /**
+     * Entry point used by all resolvers - handles classification + recursion guard.
+     */
+    public static Schema resolve(ResolvableType type) {
+        if (type == null || type == ResolvableType.NONE) {
             return new ValueSchema(JsonPropertyType.NULL);
         }
 
-        Set<Type> resolving = RESOLVING.get();
-        if (!resolving.add(type)) {
+        String key = type.toString();
+        Map<String, Integer> resolving = RESOLVING.get();
+        Integer cutDepth = resolving.get(key);
+        if (cutDepth != null) {
+            markCut(cutDepth);
             return new ValueSchema(JsonPropertyType.OBJECT);
         }
 
+        SchemaLimits limits = ResolutionContext.currentConfig().getLimits();
+        if (resolving.size() >= limits.maxDepth()) {
+            return truncate(Truncation.Reason.MAX_DEPTH, type, limits.maxDepth());
+        }
+        int nodes = ++NODES.get()[0];
+        if (nodes > limits.maxNodes()) {
+            return truncate(Truncation.Reason.MAX_NODES, type, limits.maxNodes());
+        }
+        if (((nodes - 1) & (DEADLINE_CHECK_INTERVAL - 1)) == 0) {
+            checkDeadline(type);
+        }
+
+        resolving.put(key, resolving.size());
+
         try {
-            Type resolvedType = CONTEXT.get().substitute(type);
-            Class<?> rawType = extractRawClass(resolvedType);
+            Class<?> rawType = extractRawClass(type);
             JsonPropertyType kind = JsonPropertyTypeResolver.resolve(rawType);
 
             return switch (kind) {
-                case ARRAY -> ArraySchemaResolver.resolve(resolvedType);
-                case OBJECT -> ObjectSchemaResolver.resolve(resolvedType);
-                case MAP -> MapSchemaResolver.resolve(resolvedType);
-                default -> ValueSchemaResolver.resolve(resolvedType);
+                case ARRAY -> ArraySchemaResolver.resolve(type);
+                case OBJECT -> PolymorphicSchemaResolver.isPolymorphic(rawType)
+                        ? PolymorphicSchemaResolver.resolve(type)
+                        : ObjectSchemaResolver.resolve(type);
+                case MAP -> MapSchemaResolver.resolve(type);
+                default -> ValueSchemaResolver.resolve(type);
             };
         } finally {
-            resolving.remove(type);
+            resolving.remove(key);
         }
     }
 
     /**
-     * Field resolution entry point - captures field-level generic context.
-     * Used by ObjectSchemaResolver, ArraySchemaResolver for nested types.
+     * Field resolution entry point - resolves the field type against the owner's
+     * type bindings, including fields inherited from generic superclasses.
+     * Used by ObjectSchemaResolver for nested types.
      */
-    public static Schema resolveField(Field field, Type declaringType, Type fieldType) {
-        ResolverContext fieldCtx = ResolverContext.fromField(field, declaringType);
-        ResolverContext mergedCtx = CONTEXT.get().merge(fieldCtx);
+    public static Schema resolveField(Field field, ResolvableType owner) {
+        return resolve(ResolvableType.forField(field, owner));
+    }
 
-        CONTEXT.set(mergedCtx);
-        try {
-            return resolve(fieldType);
-        } finally {
-            CONTEXT.set(CONTEXT.get()); // Restore parent context
+    /**
+     * Reports a truncation to the current top-level resolution, if any, and to the
+     * innermost capture scope.
+     */
+    static void reportTruncation(Truncation truncation) {
+        Collection<Truncation> truncations = TRUNCATIONS.get();
+        if (truncations != null) {
+            truncations.add(truncation);
+        }
+        List<Truncation> captured = CAPTURED.get();
+        if (captured != null) {
+            captured.add(truncation);
+        }
+    }
+
+    /**
+     * Starts capturing the truncations of a nested scope, e.g. a cached layout, so they can
+     * be reported again whenever the cached result is reused.
+     *
+     * @return the outer scope's capture, to be handed back to {@link #endTruncationCapture(List)}
+     */
+    static List<Truncation> beginTruncationCapture() {
+        List<Truncation> outer = CAPTURED.get();
+        CAPTURED.set(new ArrayList<>());
+        return outer;
+    }
+
+    /**
+     * Ends a scope started with {@link #beginTruncationCapture()}; its truncations also
+     * count for the outer scope.
+     *
+     * @return the truncations reported within the scope
+     */
+    static List<Truncation> endTruncationCapture(List<Truncation> outer) {
+        List<Truncation> inner = CAPTURED.get();
+        if (outer != null) {
+            outer.addAll(inner);
+            CAPTURED.set(outer);
+        } else {
+            CAPTURED.remove();
+        }
+        return inner == null ? List.of() : List.copyOf(inner);
+    }
+
+    private static Schema truncate(Truncation.Reason reason, ResolvableType type, int limit) {
+        Truncation truncation = new Truncation(reason, type.toString(), limit);
+        reportTruncation(truncation);
+        markCut(PATH_DEPENDENT);
+        return new TruncatedSchema(truncation);
+    }
+
+    private static void checkDeadline(ResolvableType type) {
+        long deadline = DEADLINE.get()[0];
+        if (deadline != NO_DEADLINE && System.nanoTime() - deadline > 0) {
+            throw new ResolutionTimeoutException(type.toString());
         }
     }
 
+    private static void markCut(int depth) {
+        int[] lowest = LOWEST_CUT.get();
+        lowest[0] = Math.min(lowest[0], depth);
+    }
+
+    /**
+     * Returns the stack depth of the type currently being resolved on this thread.
+     */
+    static int currentDepth() {
+        return RESOLVING.get().size() - 1;
+    }
+
+    /**
+     * Starts tracking cycle cuts for a nested scope.
+     *
+     * @return the outer scope's state, to be handed back to {@link #endCutTracking(int)}
+     */
+    static int beginCutTracking() {
+        int[] lowest = LOWEST_CUT.get();
+        int outer = lowest[0];
+        lowest[0] = Integer.MAX_VALUE;
+        return outer;
+    }
+
+    /**
+     * Ends a scope started with {@link #beginCutTracking()}.
+     *
+     * @return the lowest stack depth a cycle cut pointed back to within the scope,
+     * or {@link Integer#MAX_VALUE} if no cycle was cut
+     */
+    static int endCutTracking(int outer) {
+        int[] lowest = LOWEST_CUT.get();
+        int inner = lowest[0];
+        lowest[0] = Math.min(outer, inner);
+        return inner;
+    }
+
+    /**
+     * Extracts the raw Class of a resolvable type, falling back to Object
+     * for unresolvable type variables.
+     */
+    public static Class<?> extractRawClass(ResolvableType type) {
+        return type.resolve(Object.class);
+    }
+
     /**
      * Extracts raw Class from any Type for classification.
      */
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.schema.resolver;
+
+import dev.retreever.schema.model.JsonPropertyType;
+
+/**
+ * Extension point for classifying Java types that Retreever does not know about,
+ * e.g. {@code BigMoney} or {@code ObjectId}.
+ * <p>
+ * Handlers are consulted before the built-in rules, in registration order. Declare them
+ * as Spring beans or pass them to {@link dev.retreever.config.SchemaConfig}.
+ * A type classified as anything other than OBJECT, ARRAY or MAP is documented as a single
+ * value and never walked field by field.
+ */
+@FunctionalInterface
+public interface TypeHandler {
+
+    /**
+     * Classifies the given type.
+     *
+     * @param type the Java type to inspect
+     * @return the JSON type, or null if this handler does not handle the type
+     */
+    JsonPropertyType classify(Class<?> type);
+
+    /**
+     * Handler mapping a type and all of its subtypes to a fixed JSON type.
+     */
+    static TypeHandler of(Class<?> type, JsonPropertyType jsonType) {
+        return candidate -> type.isAssignableFrom(candidate) ? jsonType : null;
+    }
+}
@@ -12,7 +12,7 @@ import dev.retreever.schema.model.JsonPropertyType;
 import dev.retreever.schema.model.Schema;
 import dev.retreever.schema.model.ValueSchema;
 
-import java.lang.reflect.Type;
+import org.springframework.core.ResolvableType;
 
 /**
  * Resolves primitive/atomic types into ValueSchema representations.
@@ -27,8 +27,8 @@ public class ValueSchemaResolver {
      * @param type the primitive/atomic type (String, Number, UUID, etc.)
      * @return ValueSchema with resolved JsonPropertyType
      */
-    public static Schema resolve(Type type) {
-        if (type == null) {
+    public static Schema resolve(ResolvableType type) {
+        if (type == null || type == ResolvableType.NONE) {
             return new ValueSchema(JsonPropertyType.NULL);
         }
 
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.schema.resolver.source;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Default property source documenting every declared instance field of a class hierarchy
+ * under its Java name.
+ */
+public class FieldPropertySource implements SchemaPropertySource {
+
+    /**
+     * Collects all declared instance fields from class hierarchy.
+     * - walks child -> parent, stopping before java.lang.Object
+     * - skips java.* classes (prevents module reflection errors)
+     * - skips synthetic and static fields (e.g. serialVersionUID)
+     */
+    @Override
+    public List<SourceProperty> properties(Class<?> clazz) {
+        List<SourceProperty> properties = new ArrayList<>();
+        Class<?> current = clazz;
+
+        while (current != null && current != Object.class) {
+            // Avoid traversing into JDK/internal classes
+            String pkg = current.getPackage() == null ? "" : current.getPackageName();
+            if (pkg.startsWith("java.")) {
+                break; // stop climbing into java.* superclasses
+            }
+
+            for (Field f : current.getDeclaredFields()) {
+                // Skip JVM-injected / non-instance fields
+                if (f.isSynthetic()) continue;
+                if (Modifier.isStatic(f.getModifiers())) continue;
+
+                properties.add(SourceProperty.of(f));
+            }
+
+            current = current.getSuperclass();
+        }
+
+        return properties;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.schema.resolver.source;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Member;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Property source backed by the application's {@link ObjectMapper}.
+ * <p>
+ * Properties come from Jackson's own serialization introspection
+ * ({@link SerializationConfig#introspect}), so getters, {@code @JsonProperty} renames,
+ * {@code @JsonIgnore}, mix-ins and the configured naming strategy are all honoured and the
+ * documented shape matches the wire format.
+ */
+public class JacksonPropertySource implements SchemaPropertySource {
+
+    private final ObjectMapper objectMapper;
+
+    public JacksonPropertySource(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public List<SourceProperty> properties(Class<?> clazz) {
+        SerializationConfig config = objectMapper.getSerializationConfig();
+        BeanDescription description = config.introspect(config.constructType(clazz));
+
+        List<SourceProperty> properties = new ArrayList<>();
+        for (BeanPropertyDefinition definition : description.findProperties()) {
+            if (!definition.couldSerialize()) continue;
+
+            AnnotatedMember accessor = definition.getAccessor();
+            if (accessor == null || accessor.getMember() == null) continue;
+
+            Member member = accessor.getMember();
+            properties.add(new SourceProperty(definition.getName(), member, annotationsOf(definition, member)));
+        }
+        return properties;
+    }
+
+    /**
+     * Validation and documentation annotations usually sit on the backing field,
+     * even when Jackson serializes through a getter.
+     */
+    private static AnnotatedElement annotationsOf(BeanPropertyDefinition definition, Member member) {
+        AnnotatedField field = definition.getField();
+        if (field != null && field.getAnnotated() != null) {
+            return field.getAnnotated();
+        }
+        return (AnnotatedElement) member;
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.schema.resolver.source;
+
+import java.util.List;
+
+/**
+ * Supplies the properties an object schema is built from.
+ * Implementations decide which members of a class are documented and under which names.
+ */
+public interface SchemaPropertySource {
+
+    /**
+     * Returns the documented properties of the given class, in output order.
+     *
+     * @param clazz the raw class being resolved
+     * @return its properties, never null
+     */
+    List<SourceProperty> properties(Class<?> clazz);
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.schema.resolver.source;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+
+/**
+ * A single documented property of a class, as reported by a {@link SchemaPropertySource}.
+ *
+ * @param name        the serialized property name
+ * @param member      the field or getter the value is read from
+ * @param annotations the element carrying documentation/validation annotations;
+ *                    the backing field when one exists, otherwise the member itself
+ */
+public record SourceProperty(String name, Member member, AnnotatedElement annotations) {
+
+    public static SourceProperty of(Field field) {
+        return new SourceProperty(field.getName(), field, field);
+    }
+
+    /**
+     * Returns the declared raw type of the property.
+     */
+    public Class<?> rawType() {
+        return member instanceof Field field
+                ? field.getType()
+                : ((Method) member).getReturnType();
+    }
+
+    /**
+     * Returns the declared generic type of the property.
+     */
+    public Type genericType() {
+        return member instanceof Field field
+                ? field.getGenericType()
+                : ((Method) member).getGenericReturnType();
+    }
+
+    /**
+     * Resolves the property type against the type bindings of the owning type.
+     */
+    public ResolvableType resolveType(ResolvableType owner) {
+        if (member instanceof Field field) {
+            return ResolvableType.forField(field, owner);
+        }
+        return ResolvableType.forMethodParameter(new MethodParameter((Method) member, -1), owner);
+    }
+}
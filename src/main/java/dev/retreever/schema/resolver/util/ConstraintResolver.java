@@ -8,81 +8,208 @@
 
 package dev.retreever.schema.resolver.util;
 
+import dev.retreever.schema.model.Constraint;
+import dev.retreever.schema.model.Constraint.Kind;
+import dev.retreever.schema.model.Constraints;
+import jakarta.validation.OverridesAttribute;
 import jakarta.validation.constraints.*;
+import org.springframework.core.annotation.AnnotationUtils;
+
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
-import static dev.retreever.schema.resolver.util.JsonPropertyConstraint.*;
+import static dev.retreever.schema.model.Constraint.*;
 
 /**
  * Resolves validation constraints from Jakarta Bean Validation annotations.
  * Used during schema generation to attach rules such as nullability,
  * size limits, numeric ranges, and regex patterns to JsonProperty nodes.
+ * <p>
+ * Each annotation type is mapped once to a handler, cached in a {@link ClassValue}.
+ * Composed constraints (annotations meta-annotated with {@link jakarta.validation.Constraint} and other
+ * constraints) are expanded into their composing constraints, honouring
+ * {@link OverridesAttribute}.
  */
 public class ConstraintResolver {
 
+    private static final Handler NONE = (a, out) -> { };
+
+    private static final Map<Class<? extends Annotation>, Handler> BUILT_IN = builtInHandlers();
+
+    private static final ClassValue<Handler> HANDLERS = new ClassValue<>() {
+        @Override
+        protected Handler computeValue(Class<?> type) {
+            return handlerFor(type, new HashSet<>());
+        }
+    };
+
     /**
-     * Extracts constraint descriptors from the given annotations.
-     * Only a subset of commonly used validation annotations is supported.
+     * Extracts constraint descriptors and the required flag from the given annotations
+     * in a single pass.
      *
      * @param annotations the annotations declared on a field or parameter
-     * @return a set of formatted constraint strings
+     * @return typed constraints and whether a value must be present
      */
-    public static Set<String> resolve(Annotation[] annotations) {
+    public static Result resolve(Annotation[] annotations) {
+        Result result = new Result();
+        for (Annotation a : annotations) {
+            HANDLERS.get(a.annotationType()).apply(a, result);
+        }
+        return result;
+    }
 
-        Set<String> result = new HashSet<>();
+    /**
+     * Constraints collected from one annotation array.
+     */
+    public static final class Result {
 
-        for (Annotation a : annotations) {
+        private Constraints constraints = Constraints.EMPTY;
+        private boolean required;
 
-            switch (a.annotationType().getSimpleName()) {
+        private Result() {
+        }
 
-                case "NotNull" -> result.add(NOT_NULL);
-                case "NotBlank" -> result.add(NOT_BLANK);
-                case "NotEmpty" -> result.add(NOT_EMPTY);
+        public Constraints constraints() {
+            return constraints;
+        }
 
-                case "Size" -> {
-                    Size s = (Size) a;
-                    if (s.min() > 0) result.add(minLength(s.min()));
-                    if (s.max() < Integer.MAX_VALUE) result.add(maxLength(s.max()));
-                }
+        /**
+         * @return true if a NotNull, NotBlank, or NotEmpty constraint is present
+         */
+        public boolean required() {
+            return required;
+        }
 
-                case "Min" -> {
-                    Min m = (Min) a;
-                    result.add(minValue(m.value()));
-                }
+        void add(Constraint constraint) {
+            constraints = constraints.with(constraint);
+        }
 
-                case "Max" -> {
-                    Max m = (Max) a;
-                    result.add(maxValue(m.value()));
-                }
+        void markRequired() {
+            required = true;
+        }
+    }
 
-                case "Pattern" -> {
-                    Pattern p = (Pattern) a;
-                    result.add(regex( p.regexp()));
-                }
-            }
+    @FunctionalInterface
+    private interface Handler {
+        void apply(Annotation annotation, Result out);
+    }
+
+    // === HANDLER TABLE ===
+
+    private static Map<Class<? extends Annotation>, Handler> builtInHandlers() {
+        Map<Class<? extends Annotation>, Handler> handlers = new HashMap<>();
+
+        handlers.put(NotNull.class, (a, out) -> { out.add(flag(Kind.NOT_NULL)); out.markRequired(); });
+        handlers.put(NotBlank.class, (a, out) -> { out.add(flag(Kind.NOT_BLANK)); out.markRequired(); });
+        handlers.put(NotEmpty.class, (a, out) -> { out.add(flag(Kind.NOT_EMPTY)); out.markRequired(); });
+
+        handlers.put(Size.class, (a, out) -> {
+            Size s = (Size) a;
+            if (s.min() > 0) out.add(minLength(s.min()));
+            if (s.max() < Integer.MAX_VALUE) out.add(maxLength(s.max()));
+        });
+
+        handlers.put(Min.class, (a, out) -> out.add(minValue(((Min) a).value())));
+        handlers.put(Max.class, (a, out) -> out.add(maxValue(((Max) a).value())));
+        handlers.put(DecimalMin.class, (a, out) -> {
+            DecimalMin m = (DecimalMin) a;
+            Double value = parse(m.value());
+            if (value != null) out.add(m.inclusive() ? minValue(value) : exclusiveMinValue(value));
+        });
+        handlers.put(DecimalMax.class, (a, out) -> {
+            DecimalMax m = (DecimalMax) a;
+            Double value = parse(m.value());
+            if (value != null) out.add(m.inclusive() ? maxValue(value) : exclusiveMaxValue(value));
+        });
+        handlers.put(Positive.class, (a, out) -> out.add(exclusiveMinValue(0)));
+        handlers.put(PositiveOrZero.class, (a, out) -> out.add(minValue(0)));
+        handlers.put(Negative.class, (a, out) -> out.add(exclusiveMaxValue(0)));
+        handlers.put(NegativeOrZero.class, (a, out) -> out.add(maxValue(0)));
+        handlers.put(Digits.class, (a, out) -> {
+            Digits d = (Digits) a;
+            out.add(digits(d.integer(), d.fraction()));
+        });
+
+        handlers.put(Pattern.class, (a, out) -> out.add(regex(((Pattern) a).regexp())));
+        handlers.put(Email.class, (a, out) -> {
+            out.add(flag(Kind.EMAIL));
+            String regexp = ((Email) a).regexp();
+            if (!".*".equals(regexp)) out.add(regex(regexp));
+        });
+
+        handlers.put(Future.class, (a, out) -> out.add(flag(Kind.FUTURE)));
+        handlers.put(FutureOrPresent.class, (a, out) -> out.add(flag(Kind.FUTURE_OR_PRESENT)));
+        handlers.put(Past.class, (a, out) -> out.add(flag(Kind.PAST)));
+        handlers.put(PastOrPresent.class, (a, out) -> out.add(flag(Kind.PAST_OR_PRESENT)));
+
+        handlers.put(AssertTrue.class, (a, out) -> out.add(flag(Kind.ASSERT_TRUE)));
+        handlers.put(AssertFalse.class, (a, out) -> out.add(flag(Kind.ASSERT_FALSE)));
+
+        return Map.copyOf(handlers);
+    }
+
+    private static Handler handlerFor(Class<?> type, Set<Class<?>> visiting) {
+        Handler builtIn = BUILT_IN.get(type);
+        if (builtIn != null) return builtIn;
+
+        // Only composed Bean Validation constraints are expanded
+        if (!type.isAnnotation() || !type.isAnnotationPresent(jakarta.validation.Constraint.class) || !visiting.add(type)) {
+            return NONE;
         }
 
-        return result;
+        List<Handler> parts = new ArrayList<>();
+        for (Annotation meta : type.getAnnotations()) {
+            Class<? extends Annotation> metaType = meta.annotationType();
+            if (metaType.getName().startsWith("java.lang.annotation")) continue;
+
+            Handler delegate = handlerFor(metaType, visiting);
+            if (delegate == NONE) continue;
+
+            Map<String, Method> overrides = overridesFor(type, metaType);
+            parts.add(overrides.isEmpty()
+                    ? (a, out) -> delegate.apply(meta, out)
+                    : (a, out) -> delegate.apply(override(meta, overrides, a), out));
+        }
+        visiting.remove(type);
+
+        if (parts.isEmpty()) return NONE;
+        return (a, out) -> parts.forEach(part -> part.apply(a, out));
     }
 
     /**
-     * Determines whether the provided annotations imply the value must be present.
-     *
-     * @param annotations the annotations to inspect
-     * @return true if a NotNull, NotBlank, or NotEmpty annotation is present
+     * Collects the composing-annotation attributes that override attributes of the given
+     * composing constraint, keyed by the overridden attribute name.
      */
-    public static boolean isRequired(Annotation[] annotations) {
-        return has(annotations, NotNull.class)
-                || has(annotations, NotBlank.class)
-                || has(annotations, NotEmpty.class);
+    private static Map<String, Method> overridesFor(Class<?> composed, Class<? extends Annotation> metaType) {
+        Map<String, Method> overrides = new HashMap<>();
+        for (Method attribute : composed.getDeclaredMethods()) {
+            for (OverridesAttribute o : attribute.getAnnotationsByType(OverridesAttribute.class)) {
+                if (o.constraint() == metaType) {
+                    overrides.put(o.name().isEmpty() ? attribute.getName() : o.name(), attribute);
+                }
+            }
+        }
+        return overrides;
     }
 
-    private static boolean has(Annotation[] annotations, Class<? extends Annotation> aClass) {
-        for (Annotation a : annotations) {
-            if (a.annotationType() == aClass) return true;
+    private static Annotation override(Annotation meta, Map<String, Method> overrides, Annotation composed) {
+        Map<String, Object> attributes = new HashMap<>(AnnotationUtils.getAnnotationAttributes(meta));
+        overrides.forEach((name, attribute) ->
+                attributes.put(name, AnnotationUtils.getValue(composed, attribute.getName())));
+        return AnnotationUtils.synthesizeAnnotation(attributes, meta.annotationType(), null);
+    }
+
+    private static Double parse(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return null;
         }
-        return false;
     }
 }
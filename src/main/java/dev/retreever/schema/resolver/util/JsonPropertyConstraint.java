@@ -8,60 +8,55 @@
 
 package dev.retreever.schema.resolver.util;
 
+import dev.retreever.schema.model.Constraint;
+import dev.retreever.schema.model.Constraints;
+
+import java.util.List;
+
 /**
- * Utility class for building constraint descriptors used in JSON schema output.
- * Produces simple string markers for rules such as nullability, length,
- * numeric ranges, regex patterns, and allowed enum values.
+ * Utility class for formatting constraint descriptors used in JSON schema output.
+ * Produces simple string markers such as {@code NOT_NULL}, {@code MIN_LENGTH:3},
+ * {@code MIN_VALUE:1.0}, {@code REGEX:^[a-z]+$} or {@code ALLOWED_VALUES:[A, B]}.
+ * Applied at render time; the schema model itself keeps typed {@link Constraint}s.
  */
 public final class JsonPropertyConstraint {
 
-    // Core constraints
-    public static final String NOT_NULL = "NOT_NULL";
-    public static final String NOT_BLANK = "NOT_BLANK";
-    public static final String NOT_EMPTY = "NOT_EMPTY";
-
-    // Parameterized constraints
-    private static final String ENUM = "ALLOWED_VALUES";
-    private static final String MIN_LENGTH = "MIN_LENGTH";
-    private static final String MAX_LENGTH = "MAX_LENGTH";
-    private static final String MIN_VALUE = "MIN_VALUE";
-    private static final String MAX_VALUE = "MAX_VALUE";
-    private static final String REGEX = "REGEX";
-
     private JsonPropertyConstraint() {
         // utility class
     }
 
-    // Length constraints
-    public static String minLength(int minLength) {
-        return format(MIN_LENGTH, minLength);
-    }
-
-    public static String maxLength(int maxLength) {
-        return format(MAX_LENGTH, maxLength);
-    }
-
-    // Value range constraints
-    public static String minValue(double minValue) {
-        return format(MIN_VALUE, minValue);
-    }
-
-    public static String maxValue(double maxValue) {
-        return format(MAX_VALUE, maxValue);
+    /**
+     * Formats every constraint of the set, flags first.
+     */
+    public static List<String> format(Constraints constraints) {
+        if (constraints == null || constraints.isEmpty()) return List.of();
+        return constraints.stream().map(JsonPropertyConstraint::format).toList();
     }
 
-    // Regex constraint
-    public static String regex(String regex) {
-        return format(REGEX, regex);
+    public static String format(Constraint constraint) {
+        Constraint.Kind kind = constraint.getKind();
+        return switch (kind) {
+            case MIN_LENGTH, MAX_LENGTH -> format(kind, (int) constraint.getValue());
+            case MIN_VALUE, MAX_VALUE, EXCLUSIVE_MIN_VALUE, EXCLUSIVE_MAX_VALUE -> format(kind, constraint.getValue());
+            case DIGITS -> format(kind, (int) constraint.getValue() + "," + constraint.getFraction());
+            case REGEX -> format(kind, constraint.getPattern());
+            case ALLOWED_VALUES -> format(kind, allowedValues(constraint));
+            default -> kind.name();
+        };
     }
 
-    // Allowed enum values
-    public static String enumValue(String... enumValues) {
-        return ENUM + ":[" + String.join(", ", enumValues) + "]";
+    // Truncated lists end with a marker, e.g. [A, B, ...+40 more]
+    private static String allowedValues(Constraint constraint) {
+        String values = String.join(", ", constraint.getAllowedValues());
+        int omitted = (int) constraint.getValue();
+        if (omitted > 0) {
+            values += (values.isEmpty() ? "" : ", ") + "...+" + omitted + " more";
+        }
+        return "[" + values + "]";
     }
 
     // Generic formatter
-    private static String format(String type, Object value) {
-        return type + ":" + value;
+    private static String format(Constraint.Kind kind, Object value) {
+        return kind.name() + ":" + value;
     }
 }
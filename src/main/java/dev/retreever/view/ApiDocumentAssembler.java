@@ -13,14 +13,15 @@ import dev.retreever.repo.ApiErrorRegistry;
 import dev.retreever.repo.SchemaRegistry;
 import dev.retreever.schema.model.Schema;
 import dev.retreever.schema.resolver.SchemaResolver;
+import dev.retreever.schema.resolver.util.JsonPropertyConstraint;
 import dev.retreever.view.dto.ApiDocument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.ResolvableType;
 import org.springframework.http.HttpStatus;
 
 import java.lang.reflect.Type;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -51,9 +52,18 @@ public class ApiDocumentAssembler {
                 apiDoc.getGroups().size(), countTotalEndpoints(apiDoc));
 
         List<ApiDocument.ApiGroup> groups = apiDoc.getGroups().stream()
-                .map(this::mapGroup)
+                .map(this::assembleGroup)
                 .collect(Collectors.toList());
 
+        return assemble(apiDoc, groups);
+    }
+
+    /**
+     * Assembles the document from the doc's metadata and already assembled groups,
+     * e.g. groups reused from a previous build. The document is frozen; the groups
+     * must come from {@link #assembleGroup(ApiGroup)}.
+     */
+    public ApiDocument assemble(ApiDoc apiDoc, List<ApiDocument.ApiGroup> groups) {
         ApiDocument doc = new ApiDocument(
                 apiDoc.getName(),
                 apiDoc.getDescription(),
@@ -64,7 +74,14 @@ public class ApiDocumentAssembler {
         );
 
         log.debug("ApiDocument assembled successfully");
-        return doc;
+        return DocumentFreezer.freezeDocument(doc);
+    }
+
+    /**
+     * Assembles a single group into its frozen, immutable form.
+     */
+    public ApiDocument.ApiGroup assembleGroup(ApiGroup group) {
+        return DocumentFreezer.freeze(mapGroup(group));
     }
 
     // GROUP MAPPING
@@ -97,6 +114,7 @@ public class ApiDocumentAssembler {
                 endpoint.getStatus().value(),
                 safeList(endpoint.getConsumes()),
                 safeList(endpoint.getProduces()),
+                endpoint.getExecutionModel().name(),
                 mapPathVariables(endpoint.getPathVariables()),
                 mapQueryParams(endpoint.getQueryParams()),
                 mapHeaders(endpoint.getHeaders()),
@@ -107,30 +125,30 @@ public class ApiDocumentAssembler {
     }
 
     // SCHEMA RENDERING (WITH FULL DEBUG)
-    private Map<String, Object> renderRequest(Type type) {
+    private Map<String, Object> renderRequest(ResolvableType type) {
         return renderSchema(type, "REQUEST");
     }
 
-    private Map<String, Object> renderResponse(Type type) {
+    private Map<String, Object> renderResponse(ResolvableType type) {
         return renderSchema(type, "RESPONSE");
     }
 
-    private Map<String, Object> renderSchema(Type type, String typeName) {
+    private Map<String, Object> renderSchema(ResolvableType type, String typeName) {
         if (type == null) {
             log.debug("{} TYPE NULL", typeName);
             return null;
         }
 
-        log.debug("Looking for {} schema: {}", typeName, type.getTypeName());
+        log.debug("Looking for {} schema: {}", typeName, type);
 
         Schema schema = schemaRegistry.getSchema(type);
         if (schema == null) {
             log.debug("{} SCHEMA MISSING: {} (SchemaRegistry size: {})",
-                    typeName, type.getTypeName(), schemaRegistry.size());
+                    typeName, type, schemaRegistry.size());
             return null;
         }
 
-        log.debug("{} SCHEMA FOUND: {}", typeName, type.getTypeName());
+        log.debug("{} SCHEMA FOUND: {}", typeName, type);
         Map<String, Object> rendered = typeName.equals("REQUEST")
                 ? SchemaViewRenderer.renderRequest(schema)
                 : SchemaViewRenderer.renderResponse(schema);
@@ -142,24 +160,29 @@ public class ApiDocumentAssembler {
     // ERROR MAPPING (ApiErrorRegistry INTEGRATED)
     private List<ApiDocument.Error> mapErrors(ApiEndpoint endpoint) {
         log.debug("Mapping {} errors", endpoint.getErrorTypes().size());
+        // Several thrown types may share one handler; each handler is listed once
         return endpoint.getErrorTypes().stream()
-                .map(this::renderError)
+                .map(this::lookupError)
                 .filter(Objects::nonNull)
+                .distinct()
+                .map(this::renderError)
                 .collect(Collectors.toList());
     }
 
-    private ApiDocument.Error renderError(Type errorType) {
+    private ApiError lookupError(Type errorType) {
         if (errorType == null) return null;
 
-        // 2. Lookup ApiError from registry
         ApiError apiError = errorRegistry.get(errorType);
         if (apiError == null) {
             log.debug("No ApiError for: {}", errorType.getTypeName());
-            return null;
         }
+        return apiError;
+    }
+
+    private ApiDocument.Error renderError(ApiError apiError) {
 
         // 3. Render error body schema (if present)
-        Type errorBodyType = apiError.getErrorBodyType();
+        ResolvableType errorBodyType = apiError.getErrorBodyType();
         Schema schema = schemaRegistry.getSchema(errorBodyType);
 
         Map<String, Object> response = null;
@@ -167,7 +190,7 @@ public class ApiDocumentAssembler {
             response = SchemaViewRenderer.renderResponse(schema);
             log.debug("Error schema rendered, for type: {}", apiError.getErrorType().getTypeName());
         }
-        else log.debug("No Schema found in registry for: {}", errorBodyType.getTypeName());
+        else log.debug("No Schema found in registry for: {}", errorBodyType);
 
         // 4. Map to final DTO
         ApiDocument.Error error = new ApiDocument.Error(
@@ -190,7 +213,7 @@ public class ApiDocumentAssembler {
                         v.getName(),
                         v.getType().displayName(),
                         v.getRequired(),
-                        new ArrayList<>(v.getConstraints()),
+                        JsonPropertyConstraint.format(v.getConstraints()),
                         v.getDescription()
                 ))
                 .collect(Collectors.toList());
@@ -205,7 +228,7 @@ public class ApiDocumentAssembler {
                         p.getType().displayName(),
                         p.isRequired(),
                         p.getDefaultValue(),
-                        new ArrayList<>(p.getConstraints())
+                        JsonPropertyConstraint.format(p.getConstraints())
                 ))
                 .collect(Collectors.toList());
     }
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.view;
+
+import dev.retreever.view.dto.ApiDocument;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Final build stage: copies assembled DTOs into right-sized, immutable structures.
+ * <p>
+ * Lists become array-backed immutable lists, rendered schema maps become ordered
+ * array-backed maps, and names, types and descriptions are interned, so that documents
+ * built repeatedly share their strings. The result holds no reference to resolver models
+ * or registries.
+ */
+public final class DocumentFreezer {
+
+    private DocumentFreezer() {}
+
+    /**
+     * Freezes the document's own fields. Its groups are kept as they are, so they must
+     * already be frozen with {@link #freeze(ApiDocument.ApiGroup)}; this lets groups reused
+     * across builds be shared rather than copied.
+     */
+    public static ApiDocument freezeDocument(ApiDocument doc) {
+        return new ApiDocument(
+                intern(doc.name()),
+                intern(doc.description()),
+                intern(doc.version()),
+                intern(doc.uriPrefix()),
+                doc.upTime(),
+                freezeList(doc.groups(), Function.identity())
+        );
+    }
+
+    public static ApiDocument.ApiGroup freeze(ApiDocument.ApiGroup group) {
+        if (group == null) return null;
+        return new ApiDocument.ApiGroup(
+                intern(group.name()),
+                intern(group.description()),
+                group.deprecated(),
+                freezeList(group.endpoints(), DocumentFreezer::freeze)
+        );
+    }
+
+    private static ApiDocument.Endpoint freeze(ApiDocument.Endpoint ep) {
+        return new ApiDocument.Endpoint(
+                intern(ep.name()),
+                ep.deprecated(),
+                intern(ep.description()),
+                ep.secured(),
+                intern(ep.method()),
+                intern(ep.path()),
+                intern(ep.status()),
+                ep.statusCode(),
+                freezeList(ep.consumes(), DocumentFreezer::intern),
+                freezeList(ep.produces(), DocumentFreezer::intern),
+                intern(ep.executionModel()),
+                freezeList(ep.pathVariables(), DocumentFreezer::freeze),
+                freezeList(ep.queryParams(), DocumentFreezer::freeze),
+                freezeList(ep.headers(), DocumentFreezer::freeze),
+                freezeMap(ep.request()),
+                freezeMap(ep.response()),
+                freezeList(ep.errors(), DocumentFreezer::freeze)
+        );
+    }
+
+    private static ApiDocument.Error freeze(ApiDocument.Error error) {
+        return new ApiDocument.Error(
+                intern(error.status()),
+                error.statusCode(),
+                intern(error.description()),
+                intern(error.errorCode()),
+                freezeMap(error.response())
+        );
+    }
+
+    private static ApiDocument.Param freeze(ApiDocument.Param param) {
+        return new ApiDocument.Param(
+                intern(param.name()),
+                intern(param.description()),
+                intern(param.type()),
+                param.required(),
+                intern(param.defaultValue()),
+                freezeList(param.constraints(), DocumentFreezer::intern)
+        );
+    }
+
+    private static ApiDocument.Header freeze(ApiDocument.Header header) {
+        return new ApiDocument.Header(
+                intern(header.name()),
+                intern(header.type()),
+                header.required(),
+                intern(header.description())
+        );
+    }
+
+    private static ApiDocument.PathVariable freeze(ApiDocument.PathVariable variable) {
+        return new ApiDocument.PathVariable(
+                intern(variable.name()),
+                intern(variable.type()),
+                variable.required(),
+                freezeList(variable.constraints(), DocumentFreezer::intern),
+                intern(variable.description())
+        );
+    }
+
+    // === RENDERED SCHEMAS ===
+
+    private static Map<String, Object> freezeMap(Map<String, Object> map) {
+        return map == null ? null : freezeRendered(map);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T freezeValue(Object value) {
+        if (value instanceof Map<?, ?> map) return (T) freezeRendered(map);
+        if (value instanceof List<?> list) return (T) freezeList(list, DocumentFreezer::freezeValue);
+        if (value instanceof String s) return (T) s.intern();
+        return (T) value;
+    }
+
+    private static Map<String, Object> freezeRendered(Map<?, ?> map) {
+        if (map instanceof FrozenMap frozen) return frozen;
+        if (map.isEmpty()) return Map.of();
+
+        String[] keys = new String[map.size()];
+        Object[] values = new Object[map.size()];
+        int i = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            keys[i] = String.valueOf(entry.getKey()).intern();
+            values[i] = freezeValue(entry.getValue());
+            i++;
+        }
+        return new FrozenMap(keys, values);
+    }
+
+    // === HELPERS ===
+
+    private static <T> List<T> freezeList(List<? extends T> list, Function<T, T> freezer) {
+        if (list == null) return null;
+        if (list.isEmpty()) return List.of();
+
+        // Wraps the exact-size array; unlike List.copyOf this allows null examples
+        Object[] items = new Object[list.size()];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = freezer.apply(list.get(i));
+        }
+
+        @SuppressWarnings("unchecked")
+        List<T> frozen = (List<T>) Arrays.asList(items);
+        return Collections.unmodifiableList(frozen);
+    }
+
+    private static String intern(String s) {
+        return s == null ? null : s.intern();
+    }
+
+    /**
+     * Immutable map over parallel key and value arrays, keeping insertion order. Rendered
+     * schemas are small and only ever iterated for serialization, so lookups scan linearly.
+     */
+    private static final class FrozenMap extends AbstractMap<String, Object> {
+
+        private final String[] keys;
+        private final Object[] values;
+
+        FrozenMap(String[] keys, Object[] values) {
+            this.keys = keys;
+            this.values = values;
+        }
+
+        @Override
+        public int size() {
+            return keys.length;
+        }
+
+        @Override
+        public Object get(Object key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].equals(key)) return values[i];
+            }
+            return null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            for (String k : keys) {
+                if (k.equals(key)) return true;
+            }
+            return false;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return keys.length;
+                }
+
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return new Iterator<>() {
+                        private int next;
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < keys.length;
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            if (next >= keys.length) throw new NoSuchElementException();
+                            int i = next++;
+                            return new SimpleImmutableEntry<>(keys[i], values[i]);
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
@@ -9,6 +9,7 @@
 package dev.retreever.view;
 
 import dev.retreever.schema.model.*;
+import dev.retreever.schema.resolver.util.JsonPropertyConstraint;
 
 import java.util.*;
 
@@ -23,6 +24,9 @@ public final class SchemaViewRenderer {
     public static final String DESCRIPTION = "description";
     public static final String CONSTRAINTS = "constraints";
     public static final String REQUIRED = "required";
+    public static final String DISCRIMINATOR = "discriminator";
+    public static final String ONE_OF = "one_of";
+    public static final String TRUNCATED = "_truncated";
 
     private SchemaViewRenderer() {}
 
@@ -61,11 +65,28 @@ public final class SchemaViewRenderer {
             for (Property p : obj.getProperties().values()) {
                 out.put(p.getName(), renderModel(p));
             }
+            if (obj.getTruncation() != null) {
+                out.put(TRUNCATED, truncationMarker(obj.getTruncation()));
+            }
             return out;
         }
+        if (s instanceof TruncatedSchema truncated) {
+            return Map.of(TRUNCATED, truncationMarker(truncated.getTruncation()));
+        }
         if (s instanceof MapSchema map) {
             return Map.of(map.getKeyType().displayName(), renderModel(map.getValueSchema()));
         }
+        if (s instanceof PolymorphicSchema poly) {
+            Map<String, Object> variants = new LinkedHashMap<>();
+            poly.getSubtypes().forEach((typeId, subtype) -> variants.put(typeId, renderModel(subtype)));
+
+            Map<String, Object> out = new LinkedHashMap<>();
+            if (poly.getDiscriminator() != null) {
+                out.put(DISCRIMINATOR, poly.getDiscriminator());
+            }
+            out.put(ONE_OF, variants);
+            return out;
+        }
         return null;
     }
 
@@ -99,9 +120,39 @@ public final class SchemaViewRenderer {
             return valEx != null ? Map.of(keyEx, valEx) : null;
         }
 
+        if (s instanceof PolymorphicSchema poly) {
+            return renderPolymorphicExample(poly);
+        }
+
         return generateLeafExample(s);
     }
 
+    /**
+     * Explicit marker for content left out because a resolution limit was hit,
+     * e.g. {@code max_depth:32}.
+     */
+    private static String truncationMarker(Truncation truncation) {
+        return truncation.reason().name().toLowerCase() + ":" + truncation.limit();
+    }
+
+    /**
+     * Uses the first subtype as the example, tagged with its type id.
+     */
+    private static Object renderPolymorphicExample(PolymorphicSchema poly) {
+        for (Map.Entry<String, Schema> entry : poly.getSubtypes().entrySet()) {
+            Object example = renderExample(entry.getValue());
+            if (poly.getDiscriminator() == null || !(example instanceof Map<?, ?> fields)) {
+                return example;
+            }
+
+            Map<String, Object> out = new LinkedHashMap<>();
+            out.put(poly.getDiscriminator(), entry.getKey());
+            fields.forEach((k, v) -> out.putIfAbsent(String.valueOf(k), v));
+            return out;
+        }
+        return null;
+    }
+
     private static Object generateLeafExample(Schema s) {
         if (s instanceof ValueSchema vs) {
             return switch (vs.getType()) {
@@ -130,7 +181,7 @@ public final class SchemaViewRenderer {
             Map<String, Object> meta = new LinkedHashMap<>();
             meta.put(DESCRIPTION, p.getDescription() != null ? p.getDescription() : "");
             meta.put(REQUIRED, p.isRequired());
-            meta.put(CONSTRAINTS, new ArrayList<>(p.getConstraints()));
+            meta.put(CONSTRAINTS, JsonPropertyConstraint.format(p.getConstraints()));
             out.put(path.isEmpty() ? p.getName() : path, meta);
             return;
         }
@@ -146,6 +197,13 @@ public final class SchemaViewRenderer {
                 String newPath = path.isEmpty() ? p.getName() : path + "." + p.getName();
                 buildMetadata(p, newPath, out);
             }
+            return;
+        }
+
+        // Subtype fields are keyed as path<TypeId>.field
+        if (s instanceof PolymorphicSchema poly) {
+            poly.getSubtypes().forEach((typeId, subtype) ->
+                    buildMetadata(subtype, path + "<" + typeId + ">", out));
         }
     }
 }
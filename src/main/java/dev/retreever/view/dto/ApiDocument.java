@@ -37,6 +37,16 @@ public record ApiDocument(
             @JsonProperty("endpoints") List<Endpoint> endpoints
     ) {}
 
+    /**
+     * Index entry of a group, available before the group itself is resolved.
+     */
+    public record GroupSummary(
+            @JsonProperty("name") String name,
+            @JsonProperty("description") String description,
+            @JsonProperty("deprecated") boolean deprecated,
+            @JsonProperty("endpoint_count") int endpointCount
+    ) {}
+
     /**
      * Represents a single documented API endpoint and all associated metadata.
      */
@@ -51,6 +61,7 @@ public record ApiDocument(
             @JsonProperty("status_code") int statusCode,
             @JsonProperty("consumes") List<String> consumes,
             @JsonProperty("produces") List<String> produces,
+            @JsonProperty("execution_model") String executionModel,
 
             @JsonProperty("path_variables") List<PathVariable> pathVariables,
             @JsonProperty("query_params") List<Param> queryParams,
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import dev.retreever.boot.RetreeverBootstrap;
+import dev.retreever.config.RetreeverProperties;
+import dev.retreever.config.TestEnvironmentConfig;
+import dev.retreever.endpoint.model.MappedEndpoint;
+import dev.retreever.engine.ControllerScanner;
+import dev.retreever.engine.RetreeverOrchestrator;
+import dev.retreever.sample.OrderController;
+import dev.retreever.sample.SampleApplication;
+import dev.retreever.sample.SampleErrorAdvice;
+import dev.retreever.sample.UserController;
+import dev.retreever.view.dto.ApiDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReactiveRetreeverControllerTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private GenericApplicationContext context;
+    private RetreeverOrchestrator orchestrator;
+    private RetreeverBootstrap bootstrap;
+    private ReactiveRetreeverController controller;
+
+    @AfterEach
+    void stop() {
+        if (bootstrap != null) bootstrap.destroy();
+        if (orchestrator != null) orchestrator.close();
+        if (context != null) context.close();
+    }
+
+    @Test
+    void reactiveMappingsAreScanned() {
+        start();
+
+        // Same methods as declared, each documented from its annotation
+        Map<Class<?>, List<MappedEndpoint>> scanned = ControllerScanner.scanMappings(context);
+        assertEquals(2, scanned.size());
+        for (Class<?> type : List.of(OrderController.class, UserController.class)) {
+            assertEquals(methods(MappedEndpoint.declared(type)), methods(scanned.get(type)));
+            assertTrue(scanned.get(type).stream().noneMatch(MappedEndpoint::isRegistered));
+        }
+    }
+
+    @Test
+    void servesTheDocumentSerializedOncePerVersion() throws Exception {
+        start();
+
+        DataBuffer first = controller.getDoc().block(TIMEOUT).getBody();
+        DataBuffer second = controller.getDoc().block(TIMEOUT).getBody();
+        assertSame(backingArray(first), backingArray(second));
+
+        ApiDocument document = bootstrap.getLoadedSnapshot().document();
+        assertEquals(objectMapper.writeValueAsString(document), text(first));
+
+        bootstrap.rebuild();
+        while (bootstrap.isRebuilding()) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, bootstrap.getLoadedSnapshot().version());
+        assertNotSame(backingArray(first), backingArray(controller.getDoc().block(TIMEOUT).getBody()));
+    }
+
+    @Test
+    void documentIsUnavailableBeforeTheFirstBuild() {
+        RetreeverProperties properties = new RetreeverProperties();
+        orchestrator = new RetreeverOrchestrator(List.of("dev.retreever.sample"), List.of(), null, properties);
+        bootstrap = new RetreeverBootstrap(orchestrator, properties);
+        controller = new ReactiveRetreeverController(bootstrap, new TestEnvironmentConfig(), objectMapper);
+
+        ResponseEntity<DataBuffer> response = controller.getDoc().block(TIMEOUT);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void servesGroups() {
+        start();
+
+        List<ApiDocument.GroupSummary> summaries = controller.getGroups().block(TIMEOUT).getBody();
+        assertEquals(List.of("Order APIs", "Users"), summaries.stream().map(ApiDocument.GroupSummary::name).sorted().toList());
+
+        ResponseEntity<ApiDocument.ApiGroup> users = controller.getGroup("Users").block(TIMEOUT);
+        assertEquals("Users", users.getBody().name());
+        assertEquals(HttpStatus.NOT_FOUND, controller.getGroup("Missing").block(TIMEOUT).getStatusCode());
+    }
+
+    private void start() {
+        context = new GenericApplicationContext();
+        context.registerBean(OrderController.class);
+        context.registerBean(UserController.class);
+        context.registerBean(SampleErrorAdvice.class);
+        context.registerBean(RequestMappingHandlerMapping.class);
+        context.refresh();
+
+        RetreeverProperties properties = new RetreeverProperties();
+        orchestrator = new RetreeverOrchestrator(List.of("dev.retreever.sample"), List.of(), null, properties);
+        bootstrap = new RetreeverBootstrap(orchestrator, properties);
+        controller = new ReactiveRetreeverController(bootstrap, new TestEnvironmentConfig(), objectMapper);
+
+        SpringApplication application = new SpringApplication(SampleApplication.class);
+        application.setMainApplicationClass(SampleApplication.class);
+        bootstrap.init(new ApplicationReadyEvent(application, new String[0], context, Duration.ZERO));
+    }
+
+    private static List<Method> methods(List<MappedEndpoint> endpoints) {
+        return endpoints.stream().map(MappedEndpoint::method).toList();
+    }
+
+    private static byte[] backingArray(DataBuffer buffer) {
+        return ((DefaultDataBuffer) buffer).getNativeBuffer().array();
+    }
+
+    private static String text(DataBuffer buffer) {
+        String text = buffer.toString(StandardCharsets.UTF_8);
+        DataBufferUtils.release(buffer);
+        return text;
+    }
+}
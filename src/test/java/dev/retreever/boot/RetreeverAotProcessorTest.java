@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.boot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.retreever.config.RetreeverProperties;
+import dev.retreever.endpoint.model.ApiHeader;
+import dev.retreever.engine.ControllerScanner;
+import dev.retreever.engine.DocumentSnapshot;
+import dev.retreever.engine.MappingTracker;
+import dev.retreever.engine.RetreeverOrchestrator;
+import dev.retreever.engine.SnapshotStore;
+import dev.retreever.sample.OrderController;
+import dev.retreever.sample.SampleApplication;
+import dev.retreever.sample.SampleErrorAdvice;
+import dev.retreever.sample.UserController;
+import dev.retreever.schema.resolver.TypeHandler;
+import dev.retreever.view.dto.ApiDocument;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.GeneratedFiles;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.javapoet.ClassName;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RetreeverAotProcessorTest {
+
+    @Test
+    void precomputedDocumentMatchesRuntimeBuild() throws IOException {
+        DefaultListableBeanFactory beanFactory = beanFactory(Map.of());
+
+        BeanFactoryInitializationAotContribution contribution = new RetreeverAotProcessor().processAheadOfTime(beanFactory);
+        assertNotNull(contribution);
+
+        InMemoryGeneratedFiles files = new InMemoryGeneratedFiles();
+        DefaultGenerationContext generationContext = new DefaultGenerationContext(
+                new ClassNameGenerator(ClassName.get(SampleApplication.class)), files);
+        contribution.applyTo(generationContext, null);
+
+        InputStreamSource resource = files.getGeneratedFile(GeneratedFiles.Kind.RESOURCE, RetreeverAotProcessor.DOCUMENT_RESOURCE);
+        assertNotNull(resource);
+        DocumentSnapshot precomputed;
+        try (InputStream in = resource.getInputStream()) {
+            precomputed = SnapshotStore.read(in);
+        }
+        assertTrue(RuntimeHintsPredicates.resource().forResource(RetreeverAotProcessor.DOCUMENT_RESOURCE)
+                .test(generationContext.getRuntimeHints()));
+        // Compared against the runtime mappings before it is served
+        assertEquals(MappingTracker.describe(ControllerScanner.scanMappings(List.of(OrderController.class, UserController.class))),
+                precomputed.mappings());
+
+        // Built as by the auto-configured orchestrator, from the runtime mappings
+        try (RetreeverOrchestrator orchestrator = new RetreeverOrchestrator(
+                List.of("dev.retreever.sample", "java.util"), List.of(), null, new RetreeverProperties())) {
+            ApiDocument built = orchestrator.build(SampleApplication.class,
+                    Set.of(OrderController.class, UserController.class), Set.of(SampleErrorAdvice.class));
+
+            ApiDocument document = precomputed.document();
+            assertEquals(built.name(), document.name());
+            assertEquals(json(byName(built.groups())), json(byName(document.groups())));
+        }
+    }
+
+    @Test
+    void leavesBeanDependentDocumentsToRuntime() {
+        DefaultListableBeanFactory withHeader = beanFactory(Map.of());
+        withHeader.registerBeanDefinition("header", new RootBeanDefinition(ApiHeader.class));
+        assertNull(new RetreeverAotProcessor().processAheadOfTime(withHeader));
+
+        DefaultListableBeanFactory withHandler = beanFactory(Map.of());
+        withHandler.registerBeanDefinition("handler", new RootBeanDefinition(TypeHandler.class));
+        assertNull(new RetreeverAotProcessor().processAheadOfTime(withHandler));
+
+        DefaultListableBeanFactory jackson = beanFactory(Map.of("retreever.schema.property-source", "jackson"));
+        assertNull(new RetreeverAotProcessor().processAheadOfTime(jackson));
+    }
+
+    @Test
+    void contributesNothingWithoutOrchestratorOrApplication() {
+        DefaultListableBeanFactory disabled = beanFactory(Map.of());
+        disabled.removeBeanDefinition("orchestrator");
+        assertNull(new RetreeverAotProcessor().processAheadOfTime(disabled));
+
+        DefaultListableBeanFactory noApplication = beanFactory(Map.of());
+        noApplication.removeBeanDefinition("application");
+        assertNull(new RetreeverAotProcessor().processAheadOfTime(noApplication));
+    }
+
+    /**
+     * Bean definitions of the sample application, as seen by AOT processing.
+     */
+    private static DefaultListableBeanFactory beanFactory(Map<String, Object> properties) {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("environment", environment);
+        beanFactory.registerBeanDefinition("application", new RootBeanDefinition(SampleApplication.class));
+        beanFactory.registerBeanDefinition("orderController", new RootBeanDefinition(OrderController.class));
+        beanFactory.registerBeanDefinition("userController", new RootBeanDefinition(UserController.class));
+        beanFactory.registerBeanDefinition("errorAdvice", new RootBeanDefinition(SampleErrorAdvice.class));
+        beanFactory.registerBeanDefinition("orchestrator", new RootBeanDefinition(RetreeverOrchestrator.class));
+        return beanFactory;
+    }
+
+    /**
+     * Groups follow the iteration order of the controllers, which differs between the sets.
+     */
+    private static List<ApiDocument.ApiGroup> byName(List<ApiDocument.ApiGroup> groups) {
+        return groups.stream().sorted(Comparator.comparing(ApiDocument.ApiGroup::name)).toList();
+    }
+
+    private static String json(Object value) throws IOException {
+        return new ObjectMapper().writeValueAsString(value);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.boot;
+
+import dev.retreever.api.ReactiveRetreeverController;
+import dev.retreever.api.RetreeverController;
+import dev.retreever.config.RetreeverProperties;
+import dev.retreever.engine.RetreeverOrchestrator;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.reactive.context.AnnotationConfigReactiveWebApplicationContext;
+import org.springframework.boot.web.servlet.context.AnnotationConfigServletWebApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class RetreeverAutoConfigurationTest {
+
+    @Test
+    void isRegisteredAsAutoConfiguration() throws IOException {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(
+                "META-INF/spring/org.springframework.boot.autoconfigure.AutoConfiguration.imports")) {
+            assertNotNull(in);
+            List<String> imports = new String(in.readAllBytes(), StandardCharsets.UTF_8).lines()
+                    .map(String::trim)
+                    .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                    .toList();
+            assertEquals(List.of(RetreeverAutoConfiguration.class.getName()), imports);
+        }
+    }
+
+    @Test
+    void servletApplicationGetsLazyServletController() {
+        try (AnnotationConfigServletWebApplicationContext context = new AnnotationConfigServletWebApplicationContext()) {
+            context.register(RetreeverAutoConfiguration.class);
+            context.refresh();
+
+            assertNotNull(context.getBean(RetreeverOrchestrator.class));
+            assertNotNull(context.getBean(RetreeverBootstrap.class));
+            assertNotNull(context.getBean(RetreeverProperties.class));
+            assertEquals(0, context.getBeanNamesForType(ReactiveRetreeverController.class).length);
+
+            String[] controllers = context.getBeanNamesForType(RetreeverController.class, true, false);
+            assertEquals(1, controllers.length);
+            assertFalse(context.getBeanFactory().containsSingleton(controllers[0]));
+            assertNotNull(context.getBean(RetreeverController.class));
+        }
+    }
+
+    @Test
+    void reactiveApplicationGetsReactiveController() {
+        try (AnnotationConfigReactiveWebApplicationContext context = new AnnotationConfigReactiveWebApplicationContext()) {
+            context.register(RetreeverAutoConfiguration.class);
+            context.refresh();
+
+            assertNotNull(context.getBean(ReactiveRetreeverController.class));
+            assertEquals(0, context.getBeanNamesForType(RetreeverController.class).length);
+        }
+    }
+
+    @Test
+    void nonWebApplicationGetsNoBeans() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.register(RetreeverAutoConfiguration.class);
+            context.refresh();
+
+            assertNoRetreeverBeans(context);
+        }
+    }
+
+    @Test
+    void disabledApplicationGetsNoBeans() {
+        try (AnnotationConfigServletWebApplicationContext context = new AnnotationConfigServletWebApplicationContext()) {
+            context.getEnvironment().getPropertySources().addFirst(
+                    new MapPropertySource("test", Map.of("retreever.enabled", "false")));
+            context.register(RetreeverAutoConfiguration.class);
+            context.refresh();
+
+            assertNoRetreeverBeans(context);
+        }
+    }
+
+    @Test
+    void applicationOrchestratorTakesPrecedence() {
+        try (AnnotationConfigServletWebApplicationContext context = new AnnotationConfigServletWebApplicationContext()) {
+            context.register(CustomOrchestrator.class, RetreeverAutoConfiguration.class);
+            context.refresh();
+
+            RetreeverOrchestrator orchestrator = context.getBean(RetreeverOrchestrator.class);
+            assertSame(CustomOrchestrator.ORCHESTRATOR, orchestrator);
+        }
+    }
+
+    private static void assertNoRetreeverBeans(ApplicationContext context) {
+        for (Class<?> type : List.of(RetreeverOrchestrator.class, RetreeverBootstrap.class,
+                RetreeverProperties.class, RetreeverController.class, ReactiveRetreeverController.class)) {
+            assertEquals(0, context.getBeanNamesForType(type).length, type.getSimpleName());
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class CustomOrchestrator {
+
+        static final RetreeverOrchestrator ORCHESTRATOR = new RetreeverOrchestrator(List.of(), List.of());
+
+        @Bean
+        RetreeverOrchestrator customOrchestrator() {
+            return ORCHESTRATOR;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.boot;
+
+import dev.retreever.config.RetreeverProperties;
+import dev.retreever.endpoint.model.MappedEndpoint;
+import dev.retreever.engine.ControllerScanner;
+import dev.retreever.engine.DocumentSnapshot;
+import dev.retreever.engine.MappingTracker;
+import dev.retreever.engine.RetreeverOrchestrator;
+import dev.retreever.engine.SnapshotStore;
+import dev.retreever.sample.OrderController;
+import dev.retreever.sample.SampleApplication;
+import dev.retreever.sample.SampleErrorAdvice;
+import dev.retreever.sample.UserController;
+import dev.retreever.view.dto.ApiDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.context.support.GenericWebApplicationContext;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RetreeverBootstrapTest {
+
+    @TempDir
+    Path dir;
+
+    private GenericWebApplicationContext context;
+    private RetreeverOrchestrator orchestrator;
+    private RetreeverBootstrap bootstrap;
+
+    @AfterEach
+    void stop() {
+        System.clearProperty("spring.aot.enabled");
+        if (bootstrap != null) bootstrap.destroy();
+        if (orchestrator != null) orchestrator.close();
+        if (context != null) context.close();
+    }
+
+    @Test
+    void idleDocumentIsEvictedAndRebuiltOnNextRead() throws Exception {
+        RetreeverProperties properties = new RetreeverProperties();
+        properties.getBuild().setIdleTtl(Duration.ofMillis(100));
+        start(properties);
+
+        DocumentSnapshot built = bootstrap.getLoadedSnapshot();
+        assertEquals(1, built.version());
+
+        awaitEviction();
+        DocumentSnapshot reloaded = bootstrap.getSnapshot();
+        assertEquals(2, reloaded.version());
+        assertEquals(built.document().groups(), reloaded.document().groups());
+    }
+
+    @Test
+    void idleDocumentIsReloadedFromTheSnapshotStore() throws Exception {
+        Path file = dir.resolve("retreever.json");
+        RetreeverProperties properties = new RetreeverProperties();
+        properties.getBuild().setIdleTtl(Duration.ofMillis(100));
+        properties.getBuild().setSnapshotPath(file.toString());
+        start(properties);
+
+        DocumentSnapshot built = bootstrap.getLoadedSnapshot();
+        assertTrue(Files.isRegularFile(file));
+
+        awaitEviction();
+        DocumentSnapshot reloaded = bootstrap.getSnapshot();
+        assertEquals(built.version(), reloaded.version());
+        assertEquals(built.document(), reloaded.document());
+    }
+
+    @Test
+    void precomputedDocumentIsServedWithStartupUptime() throws Exception {
+        Instant started = Instant.now();
+        precompute();
+        start(new RetreeverProperties());
+
+        ApiDocument document = bootstrap.getDocument();
+        assertEquals("Precomputed", document.name());
+        assertFalse(document.upTime().isBefore(started));
+        assertEquals(document.upTime(), bootstrap.getUptime());
+    }
+
+    @Test
+    void precomputedDocumentIsBuiltWhenMappingsDiffer() throws Exception {
+        precompute();
+        initContext();
+        register("/members");
+        startBootstrap(new RetreeverProperties());
+
+        ApiDocument document = bootstrap.getDocument();
+        assertEquals("Sample", document.name());
+        assertTrue(paths(document).contains("/members"));
+    }
+
+    @Test
+    void mappingsChangedAfterStartupArePatchedOnTheJvm() throws Exception {
+        precompute();
+        start(new RetreeverProperties());
+        assertEquals("Precomputed", bootstrap.getDocument().name());
+
+        register("/members");
+        ApiDocument patched = bootstrap.refreshMappings().join().document();
+        assertTrue(paths(patched).contains("/members"));
+    }
+
+    /**
+     * Writes a precomputed document for the sample controllers, named apart from a built one,
+     * where the context's class loader finds it, and switches to AOT mode.
+     */
+    private void precompute() throws Exception {
+        try (RetreeverOrchestrator builder = new RetreeverOrchestrator(List.of("dev.retreever.sample"), List.of())) {
+            Map<Class<?>, List<MappedEndpoint>> mappings = ControllerScanner.scanMappings(List.of(OrderController.class, UserController.class));
+            ApiDocument built = builder.build(SampleApplication.class, mappings, Set.of(SampleErrorAdvice.class));
+            ApiDocument document = new ApiDocument("Precomputed", built.description(), built.version(),
+                    built.uriPrefix(), Instant.EPOCH, built.groups());
+
+            Path file = dir.resolve(RetreeverAotProcessor.DOCUMENT_RESOURCE);
+            Files.createDirectories(file.getParent());
+            try (OutputStream out = Files.newOutputStream(file)) {
+                SnapshotStore.write(new DocumentSnapshot(0, document, builder.getLastReport(), Instant.EPOCH,
+                        MappingTracker.describe(mappings)), out);
+            }
+        }
+        System.setProperty("spring.aot.enabled", "true");
+    }
+
+    private void register(String path) throws Exception {
+        context.getBean(RequestMappingHandlerMapping.class).registerMapping(
+                RequestMappingInfo.paths(path).methods(RequestMethod.GET).build(),
+                context.getBean(UserController.class), UserController.class.getMethod("list"));
+    }
+
+    private static List<String> paths(ApiDocument document) {
+        return document.groups().stream()
+                .flatMap(group -> group.endpoints().stream())
+                .map(ApiDocument.Endpoint::path)
+                .toList();
+    }
+
+    private void start(RetreeverProperties properties) throws Exception {
+        initContext();
+        startBootstrap(properties);
+    }
+
+    private void initContext() throws Exception {
+        context = new GenericWebApplicationContext();
+        context.setClassLoader(new URLClassLoader(new URL[]{dir.toUri().toURL()}, getClass().getClassLoader()));
+        context.registerBean(OrderController.class);
+        context.registerBean(UserController.class);
+        context.registerBean(SampleErrorAdvice.class);
+        context.registerBean(RequestMappingHandlerMapping.class);
+        context.refresh();
+    }
+
+    private void startBootstrap(RetreeverProperties properties) {
+        orchestrator = new RetreeverOrchestrator(List.of("dev.retreever.sample"), List.of(), null, properties);
+        bootstrap = new RetreeverBootstrap(orchestrator, properties);
+
+        SpringApplication application = new SpringApplication(SampleApplication.class);
+        application.setMainApplicationClass(SampleApplication.class);
+        bootstrap.init(new ApplicationReadyEvent(application, new String[0], context, Duration.ZERO));
+    }
+
+    /**
+     * Waits past the first eviction check, one second after startup, without reading the document.
+     */
+    private void awaitEviction() throws InterruptedException {
+        Thread.sleep(1600);
+        assertNull(bootstrap.getLoadedSnapshot());
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.config;
+
+import dev.retreever.sample.OrderController;
+import dev.retreever.sample.OrderDto;
+import dev.retreever.sample.UserController;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScopeFilterTest {
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Documented {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Internal {
+    }
+
+    @Documented
+    static class DocumentedDto {
+    }
+
+    @Internal
+    static class InternalDto {
+    }
+
+    @Test
+    void mostSpecificPackageRuleWins() {
+        RetreeverProperties.Scan scan = new RetreeverProperties.Scan();
+        scan.setExcludePackages(List.of("dev.retreever.sample"));
+        scan.setIncludePackages(List.of("java.util.concurrent.**"));
+        ScopeFilter scope = ScopeFilter.compile(List.of("dev.retreever"), scan);
+
+        assertTrue(scope.includesType(SchemaConfig.class));
+        assertFalse(scope.includesType(OrderDto.class));
+        assertFalse(scope.includesController(OrderController.class));
+        assertTrue(scope.includesType(java.util.concurrent.atomic.AtomicLong.class));
+        assertFalse(scope.includesType(ArrayList.class));
+    }
+
+    @Test
+    void matchesSegmentAndMultiSegmentGlobs() {
+        RetreeverProperties.Scan scan = new RetreeverProperties.Scan();
+        scan.setIncludePackages(List.of("dev.*.sample"));
+        ScopeFilter scope = ScopeFilter.compile(List.of(), scan);
+
+        assertTrue(scope.includesType(OrderDto.class));
+        assertFalse(scope.includesType(SchemaConfig.class));
+
+        // Exclusion globs win over any include rule
+        scan.setExcludePackages(List.of("**.sample"));
+        scope = ScopeFilter.compile(List.of("dev.retreever"), scan);
+        assertFalse(scope.includesType(OrderDto.class));
+        assertTrue(scope.includesType(SchemaConfig.class));
+    }
+
+    @Test
+    void annotationRulesApplyRegardlessOfPackage() {
+        RetreeverProperties.Scan scan = new RetreeverProperties.Scan();
+        scan.setIncludeAnnotations(List.of(Documented.class.getName()));
+        scan.setExcludeAnnotations(List.of(Internal.class.getName()));
+
+        ScopeFilter outside = ScopeFilter.compile(List.of("com.acme"), scan);
+        assertTrue(outside.includesType(DocumentedDto.class));
+        assertFalse(outside.includesType(ScopeFilterTest.class));
+
+        ScopeFilter inside = ScopeFilter.compile(List.of("dev.retreever"), scan);
+        assertFalse(inside.includesType(InternalDto.class));
+        assertFalse(inside.includesController(InternalDto.class));
+    }
+
+    @Test
+    void excludesControllersByNameGlobAndGroupName() {
+        RetreeverProperties.Scan scan = new RetreeverProperties.Scan();
+        scan.setExcludeControllers(List.of("*Order*"));
+        ScopeFilter scope = ScopeFilter.compile(List.of("dev.retreever"), scan);
+        assertFalse(scope.includesController(OrderController.class));
+        assertTrue(scope.includesController(UserController.class));
+
+        // @ApiGroup name, the prettified name and the simple class name all match
+        for (String group : List.of("Users", "Order APIs", "OrderController")) {
+            scan = new RetreeverProperties.Scan();
+            scan.setExcludeGroups(List.of(group));
+            scope = ScopeFilter.compile(List.of("dev.retreever"), scan);
+            assertFalse(scope.includesController(group.startsWith("User") ? UserController.class : OrderController.class), group);
+        }
+        assertTrue(scope.includesController(UserController.class));
+    }
+}
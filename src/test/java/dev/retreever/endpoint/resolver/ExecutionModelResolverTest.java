@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.endpoint.resolver;
+
+import dev.retreever.endpoint.model.ApiEndpoint;
+import dev.retreever.endpoint.model.ExecutionModel;
+import dev.retreever.engine.RetreeverOrchestrator;
+import dev.retreever.sample.OrderController;
+import dev.retreever.sample.OrderDto;
+import dev.retreever.sample.OrderStreamController;
+import dev.retreever.sample.SampleApplication;
+import dev.retreever.view.dto.ApiDocument;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExecutionModelResolverTest {
+
+    @Test
+    void plainBodiesAreSync() {
+        assertEquals(ExecutionModel.SYNC, model("plain"));
+        assertEquals(ExecutionModel.SYNC, model("entity"));
+    }
+
+    @Test
+    void deferredValuesAreAsync() {
+        assertEquals(ExecutionModel.ASYNC, model("future"));
+        assertEquals(ExecutionModel.ASYNC, model("deferred"));
+        assertEquals(ExecutionModel.ASYNC, model("callable"));
+        assertEquals(ExecutionModel.ASYNC, model("mono"));
+        assertEquals(ExecutionModel.ASYNC, model("flux", "application/json"));
+    }
+
+    @Test
+    void incrementallyWrittenBodiesAreStreaming() {
+        assertEquals(ExecutionModel.STREAMING, model("sse"));
+        assertEquals(ExecutionModel.STREAMING, model("streamingEntity"));
+        assertEquals(ExecutionModel.STREAMING, model("futureSse"));
+        assertEquals(ExecutionModel.STREAMING, model("flux", "text/event-stream"));
+        assertEquals(ExecutionModel.STREAMING, model("flux", "application/x-ndjson;charset=UTF-8"));
+    }
+
+    @Test
+    void unwrapsAsyncResultTypes() {
+        assertEquals(OrderDto.class, resultOf("future").resolve());
+        assertEquals(OrderDto.class, resultOf("callable").resolve());
+        assertEquals(OrderDto.class, resultOf("mono").resolve());
+        assertEquals(ResponseEntity.class, resultOf("deferred").resolve());
+        assertNull(resultOf("plain"));
+        assertNull(resultOf("flux"));
+
+        assertTrue(ExecutionModelResolver.isStreamingBody(SseEmitter.class));
+        assertTrue(ExecutionModelResolver.isStreamingBody(StreamingResponseBody.class));
+        assertFalse(ExecutionModelResolver.isStreamingBody(OrderDto.class));
+    }
+
+    @Test
+    void documentsUnwrappedBodiesAndExecutionModels() {
+        try (RetreeverOrchestrator orchestrator = new RetreeverOrchestrator(
+                List.of("dev.retreever.sample", "java.util"), List.of())) {
+            ApiDocument document = orchestrator.build(SampleApplication.class,
+                    Set.of(OrderController.class, OrderStreamController.class), Set.of());
+            Map<String, ApiDocument.Endpoint> endpoints = document.groups().stream()
+                    .flatMap(group -> group.endpoints().stream())
+                    .collect(Collectors.toMap(ApiDocument.Endpoint::path, Function.identity()));
+
+            ApiDocument.Endpoint sync = endpoints.get("/orders/{id}");
+            ApiDocument.Endpoint future = endpoints.get("/order-stream/{id}");
+            assertEquals("SYNC", sync.executionModel());
+            assertEquals("ASYNC", future.executionModel());
+            assertEquals(sync.response(), future.response());
+
+            ApiDocument.Endpoint all = endpoints.get("/order-stream/all");
+            assertEquals("ASYNC", all.executionModel());
+            assertTrue(all.response().get("model") instanceof List<?>);
+
+            assertEquals("STREAMING", endpoints.get("/order-stream/feed").executionModel());
+            assertEquals("STREAMING", endpoints.get("/order-stream/events").executionModel());
+            assertNull(endpoints.get("/order-stream/events").response());
+        }
+    }
+
+    private static ExecutionModel model(String method, String... produces) {
+        ApiEndpoint endpoint = new ApiEndpoint();
+        endpoint.setProduces(List.of(produces));
+        ExecutionModelResolver.resolve(endpoint, method(method));
+        return endpoint.getExecutionModel();
+    }
+
+    private static ResolvableType resultOf(String method) {
+        return ExecutionModelResolver.asyncResultType(ResolvableType.forMethodReturnType(method(method)));
+    }
+
+    private static Method method(String name) {
+        try {
+            return Handlers.class.getDeclaredMethod(name);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(name, e);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static class Handlers {
+
+        OrderDto plain() { return null; }
+
+        ResponseEntity<OrderDto> entity() { return null; }
+
+        CompletableFuture<OrderDto> future() { return null; }
+
+        DeferredResult<ResponseEntity<OrderDto>> deferred() { return null; }
+
+        Callable<OrderDto> callable() { return null; }
+
+        Mono<OrderDto> mono() { return null; }
+
+        Flux<OrderDto> flux() { return null; }
+
+        SseEmitter sse() { return null; }
+
+        ResponseEntity<StreamingResponseBody> streamingEntity() { return null; }
+
+        CompletableFuture<SseEmitter> futureSse() { return null; }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.endpoint.resolver;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ThrownExceptionResolverTest {
+
+    static class NotFound extends RuntimeException {
+    }
+
+    static class Conflict extends RuntimeException {
+    }
+
+    static class Wrapper extends RuntimeException {
+        Wrapper(Throwable cause) {
+            super(cause);
+        }
+    }
+
+    static class Service {
+        String find(String id) {
+            throw new NotFound();
+        }
+
+        void deeper() {
+            helper();
+        }
+
+        void helper() {
+            throw new Conflict();
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static class Endpoints {
+        private final Service service = new Service();
+
+        void declared() throws IOException {
+        }
+
+        void multiple(boolean missing) {
+            if (missing) throw new NotFound();
+            throw new Conflict();
+        }
+
+        void nested() {
+            throw new Wrapper(new Conflict());
+        }
+
+        void rethrow(RuntimeException e) {
+            new Conflict();
+            throw e;
+        }
+
+        String reference(Optional<String> value) {
+            return value.orElseThrow(NotFound::new);
+        }
+
+        void lambda() {
+            Runnable task = () -> {
+                throw new Conflict();
+            };
+            task.run();
+        }
+
+        String viaService() {
+            return service.find("1");
+        }
+
+        void twoLevels() {
+            service.deeper();
+        }
+    }
+
+    private final ThrownExceptionResolver resolver = new ThrownExceptionResolver(
+            type -> type.getName().startsWith("dev.retreever"), 1);
+
+    @Test
+    void collectsDeclaredAndThrownExceptions() throws Exception {
+        assertEquals(List.of(IOException.class), resolve("declared"));
+        assertEquals(List.of(NotFound.class, Conflict.class), resolve("multiple", boolean.class));
+    }
+
+    @Test
+    void pairsEachThrowWithItsOwnConstruction() throws Exception {
+        // The cause is constructed as an argument but never thrown itself
+        assertEquals(List.of(Wrapper.class), resolve("nested"));
+        // A discarded construction does not make a later throw of another value its own
+        assertEquals(List.of(), resolve("rethrow", RuntimeException.class));
+    }
+
+    @Test
+    void followsConstructorReferencesAndLambdas() throws Exception {
+        assertEquals(List.of(NotFound.class), resolve("reference", Optional.class));
+        assertEquals(List.of(Conflict.class), resolve("lambda"));
+    }
+
+    @Test
+    void followsCallsUpToTheConfiguredDepth() throws Exception {
+        assertEquals(List.of(NotFound.class), resolve("viaService"));
+        assertEquals(List.of(), resolve("twoLevels"));
+
+        ThrownExceptionResolver deep = new ThrownExceptionResolver(type -> type.getName().startsWith("dev.retreever"), 2);
+        assertEquals(List.of(Conflict.class), deep.resolve(Endpoints.class.getDeclaredMethod("twoLevels")));
+
+        ThrownExceptionResolver shallow = new ThrownExceptionResolver(type -> true, 0);
+        assertEquals(List.of(), shallow.resolve(Endpoints.class.getDeclaredMethod("viaService")));
+    }
+
+    @Test
+    void resultsAreStableAcrossBuilds() throws Exception {
+        List<Class<?>> first = resolve("viaService");
+        resolver.clear();
+        assertEquals(first, resolve("viaService"));
+    }
+
+    private List<Class<?>> resolve(String name, Class<?>... parameters) throws Exception {
+        Method method = Endpoints.class.getDeclaredMethod(name, parameters);
+        return resolver.resolve(method);
+    }
+}
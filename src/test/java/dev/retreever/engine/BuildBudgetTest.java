@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.engine;
+
+import dev.retreever.config.RetreeverProperties;
+import dev.retreever.sample.OrderController;
+import dev.retreever.sample.OrderDto;
+import dev.retreever.sample.SampleApplication;
+import dev.retreever.sample.SampleErrorAdvice;
+import dev.retreever.sample.UserController;
+import dev.retreever.schema.resolver.ResolutionTimeoutException;
+import dev.retreever.schema.resolver.SchemaResolver;
+import dev.retreever.view.dto.ApiDocument;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BuildBudgetTest {
+
+    @Test
+    void unlimitedBudgetHasNoDeadline() {
+        BuildBudget budget = new BuildBudget(Duration.ZERO, null);
+
+        assertFalse(budget.isExhausted());
+        assertEquals(SchemaResolver.NO_DEADLINE, budget.typeDeadline());
+    }
+
+    @Test
+    void typeDeadlineIsCappedByTheOverallDeadline() {
+        BuildBudget budget = new BuildBudget(Duration.ofSeconds(1), Duration.ofHours(1));
+
+        long remaining = budget.typeDeadline() - System.nanoTime();
+        assertTrue(remaining <= Duration.ofSeconds(1).toNanos());
+    }
+
+    @Test
+    void resolutionPastItsDeadlineIsAbandoned() {
+        long deadline = System.nanoTime() - 1;
+
+        ResolutionTimeoutException e = assertThrows(ResolutionTimeoutException.class, () ->
+                SchemaResolver.initResolution(ResolvableType.forClass(OrderDto.class), new ArrayList<>(), deadline));
+        assertEquals(OrderDto.class.getName(), e.getTypeName());
+    }
+
+    @Test
+    void timedOutSchemasAreReportedAndTheirEndpointsKept() {
+        RetreeverProperties properties = new RetreeverProperties();
+        properties.getBuild().setTypeTimeout(Duration.ofNanos(1));
+
+        try (RetreeverOrchestrator orchestrator = orchestrator(properties)) {
+            ApiDocument document = build(orchestrator);
+
+            assertEquals(2, document.groups().size());
+            List<BuildReport.Issue> issues = orchestrator.getLastReport().getIssues();
+            assertFalse(issues.isEmpty());
+            assertTrue(issues.stream().allMatch(issue -> issue.kind() == BuildReport.Kind.TIMED_OUT));
+            assertTrue(orchestrator.getLastReport().getAffectedLocations().contains("OrderController#create (request)"));
+        }
+    }
+
+    @Test
+    void exhaustedBuildBudgetPublishesAPartialDocument() {
+        RetreeverProperties properties = new RetreeverProperties();
+        properties.getBuild().setTimeout(Duration.ofNanos(1));
+
+        try (RetreeverOrchestrator orchestrator = orchestrator(properties)) {
+            ApiDocument document = build(orchestrator);
+
+            assertEquals("Sample", document.name());
+            assertTrue(document.groups().isEmpty());
+            assertTrue(orchestrator.getLastReport().getIssues().stream()
+                    .anyMatch(issue -> issue.kind() == BuildReport.Kind.CANCELLED && issue.concerns(OrderController.class)));
+        }
+    }
+
+    private static RetreeverOrchestrator orchestrator(RetreeverProperties properties) {
+        properties.getBuild().setParallelism(1);
+        return new RetreeverOrchestrator(List.of("dev.retreever.sample"), List.of(), null, properties);
+    }
+
+    private static ApiDocument build(RetreeverOrchestrator orchestrator) {
+        return orchestrator.build(SampleApplication.class,
+                Set.of(OrderController.class, UserController.class), Set.of(SampleErrorAdvice.class));
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.engine;
+
+import dev.retreever.config.RetreeverProperties;
+import dev.retreever.config.SchemaConfig;
+import dev.retreever.endpoint.model.MappedEndpoint;
+import dev.retreever.sample.OrderController;
+import dev.retreever.sample.OrderCrudController;
+import dev.retreever.sample.SampleApplication;
+import dev.retreever.sample.SampleErrorAdvice;
+import dev.retreever.sample.UserController;
+import dev.retreever.sample.UserCrudController;
+import dev.retreever.schema.resolver.ResolutionContext;
+import dev.retreever.schema.resolver.TypeHandler;
+import dev.retreever.view.dto.ApiDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BuildStagesTest {
+
+    private final ResolutionContext context = new ResolutionContext(new SchemaConfig(List.of("dev.retreever")));
+    private ExecutorService pool;
+
+    @AfterEach
+    void stop() {
+        if (pool != null) pool.shutdown();
+    }
+
+    @Test
+    void singleThreadedStagesRunOnTheCallerInOrder() {
+        List<String> order = new ArrayList<>();
+        Thread caller = Thread.currentThread();
+
+        BuildStages stages = new BuildStages(BuildStages.newPool(1), context);
+        CompletableFuture<String> first = stages.supply(() -> {
+            assertSame(caller, Thread.currentThread());
+            order.add("first");
+            return "first";
+        });
+        stages.run(() -> order.add("second"));
+        BuildStages.await(stages.then(first, value -> order.add("then " + value)));
+
+        assertEquals(List.of("first", "second", "then first"), order);
+    }
+
+    @Test
+    void parallelStagesRunWithTheContextBound() {
+        Thread caller = Thread.currentThread();
+        List<SchemaConfig> seen = Collections.synchronizedList(new ArrayList<>());
+
+        pool = BuildStages.newPool(4);
+        BuildStages stages = new BuildStages(pool, context);
+        List<CompletableFuture<Thread>> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(stages.supply(() -> {
+                seen.add(ResolutionContext.currentConfig());
+                return Thread.currentThread();
+            }));
+        }
+        threads.forEach(thread -> assertNotSame(caller, BuildStages.await(thread)));
+
+        assertEquals(8, seen.size());
+        seen.forEach(config -> assertSame(context.getConfig(), config));
+        assertSame(SchemaConfig.DEFAULT, ResolutionContext.currentConfig());
+    }
+
+    @Test
+    void awaitRethrowsTheStageFailure() {
+        pool = BuildStages.newPool(2);
+        CompletableFuture<Void> failed = new BuildStages(pool, context).run(() -> {
+            throw new IllegalArgumentException("bad stage");
+        });
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> BuildStages.await(failed));
+        assertEquals("bad stage", e.getMessage());
+    }
+
+    @Test
+    void parallelBuildEqualsSequentialBuild() {
+        List<ApiDocument.ApiGroup> sequential = build(1).groups();
+        // Controllers sharing a generic base resolve concurrently; each keeps its own bodies
+        for (int i = 0; i < 5; i++) {
+            assertEquals(sequential, build(4).groups());
+        }
+    }
+
+    @Test
+    void buildsShareTheOrchestratorsThreads() {
+        RetreeverProperties properties = new RetreeverProperties();
+        properties.getBuild().setParallelism(2);
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        TypeHandler recorder = type -> {
+            threads.add(Thread.currentThread());
+            return null;
+        };
+
+        try (RetreeverOrchestrator orchestrator = new RetreeverOrchestrator(
+                List.of("dev.retreever.sample"), List.of(), null, properties, List.of(recorder))) {
+            for (int i = 0; i < 3; i++) {
+                orchestrator.build(SampleApplication.class, mappings(), Set.of(SampleErrorAdvice.class));
+                orchestrator.resolveGroup(OrderCrudController.class,
+                        mappings().get(OrderCrudController.class), Set.of(SampleErrorAdvice.class));
+            }
+        }
+
+        assertTrue(threads.size() <= 2, threads::toString);
+        threads.forEach(thread -> assertTrue(thread.getName().startsWith("retreever-build-"), thread.getName()));
+    }
+
+    private static ApiDocument build(int parallelism) {
+        RetreeverProperties properties = new RetreeverProperties();
+        properties.getBuild().setParallelism(parallelism);
+        try (RetreeverOrchestrator orchestrator =
+                     new RetreeverOrchestrator(List.of("dev.retreever.sample"), List.of(), null, properties)) {
+            return orchestrator.build(SampleApplication.class, mappings(), Set.of(SampleErrorAdvice.class));
+        }
+    }
+
+    private static Map<Class<?>, List<MappedEndpoint>> mappings() {
+        List<Class<?>> controllers = List.of(OrderController.class, UserController.class,
+                OrderCrudController.class, UserCrudController.class);
+        Map<Class<?>, List<MappedEndpoint>> scanned = ControllerScanner.scanMappings(controllers);
+        Map<Class<?>, List<MappedEndpoint>> mappings = new LinkedHashMap<>();
+        controllers.forEach(controller -> mappings.put(controller, scanned.get(controller)));
+        return mappings;
+    }
+}
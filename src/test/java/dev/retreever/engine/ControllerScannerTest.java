@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.engine;
+
+import dev.retreever.endpoint.model.MappedEndpoint;
+import dev.retreever.sample.OrderController;
+import dev.retreever.sample.SampleApplication;
+import dev.retreever.sample.SampleErrorAdvice;
+import dev.retreever.sample.UserController;
+import dev.retreever.view.dto.ApiDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.context.support.GenericWebApplicationContext;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ControllerScannerTest {
+
+    private GenericWebApplicationContext context;
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @BeforeEach
+    void start() {
+        context = new GenericWebApplicationContext();
+        context.registerBean(OrderController.class);
+        context.registerBean(UserController.class);
+        context.registerBean(SampleErrorAdvice.class);
+        context.registerBean(RequestMappingHandlerMapping.class);
+        context.refresh();
+        handlerMapping = context.getBean(RequestMappingHandlerMapping.class);
+    }
+
+    @AfterEach
+    void stop() {
+        context.close();
+    }
+
+    @Test
+    void scansAnnotatedMappingsInDeclarationOrder() {
+        Map<Class<?>, List<MappedEndpoint>> mappings = ControllerScanner.scanMappings(context);
+
+        assertEquals(Set.of(OrderController.class, UserController.class), mappings.keySet());
+        List<MappedEndpoint> orders = mappings.get(OrderController.class);
+        assertEquals(List.of("get", "create"), orders.stream().map(endpoint -> endpoint.method().getName()).toList());
+        assertTrue(orders.stream().noneMatch(MappedEndpoint::isRegistered));
+        assertEquals(Set.of(SampleErrorAdvice.class), ControllerScanner.scanControllerAdvices(context));
+    }
+
+    @Test
+    void detachedScanMatchesTheRuntimeScan() {
+        assertEquals(ControllerScanner.scanMappings(context),
+                ControllerScanner.scanMappings(List.of(OrderController.class, UserController.class, SampleErrorAdvice.class)));
+    }
+
+    @Test
+    void tracksMappingsRegisteredAtRuntime() throws Exception {
+        MappingTracker tracker = new MappingTracker();
+        tracker.reset(ControllerScanner.scanMappings(context));
+
+        Method list = UserController.class.getMethod("list");
+        handlerMapping.registerMapping(RequestMappingInfo.paths("/members").methods(RequestMethod.GET)
+                .produces("application/json").build(), context.getBean(UserController.class), list);
+
+        Map<Class<?>, List<MappedEndpoint>> scanned = ControllerScanner.scanMappings(context);
+        assertEquals(Set.of(UserController.class), tracker.update(scanned));
+        assertEquals(Set.of(), tracker.update(ControllerScanner.scanMappings(context)));
+
+        MappedEndpoint registered = tracker.get(UserController.class).stream()
+                .filter(MappedEndpoint::isRegistered).findFirst().orElseThrow();
+        assertEquals("/members", registered.path());
+        assertEquals("GET", registered.httpMethod());
+        assertEquals(List.of("application/json"), registered.produces());
+    }
+
+    @Test
+    void prefixedRegistrationsAreDocumentedFromTheAnnotation() throws Exception {
+        handlerMapping.registerMapping(RequestMappingInfo.paths("/api/users").methods(RequestMethod.GET).build(),
+                context.getBean(UserController.class), UserController.class.getMethod("list"));
+
+        List<MappedEndpoint> users = ControllerScanner.scanMappings(context).get(UserController.class);
+        assertEquals(2, users.size());
+        assertTrue(users.stream().noneMatch(MappedEndpoint::isRegistered));
+    }
+
+    @Test
+    void updatePatchesOnlyTheChangedGroups() throws Exception {
+        MappingTracker tracker = new MappingTracker();
+        Map<Class<?>, List<MappedEndpoint>> initial = ControllerScanner.scanMappings(context);
+        tracker.reset(initial);
+
+        try (RetreeverOrchestrator orchestrator = new RetreeverOrchestrator(List.of("dev.retreever.sample"), List.of())) {
+            ApiDocument built = orchestrator.build(SampleApplication.class, initial, Set.of(SampleErrorAdvice.class));
+
+            handlerMapping.getHandlerMethods().keySet().stream()
+                    .filter(info -> info.getPatternValues().contains("/users"))
+                    .toList()
+                    .forEach(handlerMapping::unregisterMapping);
+            handlerMapping.registerMapping(RequestMappingInfo.paths("/members").methods(RequestMethod.GET).build(),
+                    context.getBean(UserController.class), UserController.class.getMethod("list"));
+
+            Map<Class<?>, List<MappedEndpoint>> current = ControllerScanner.scanMappings(context);
+            Set<Class<?>> changed = tracker.update(current);
+            ApiDocument patched = orchestrator.update(SampleApplication.class, current, Set.of(SampleErrorAdvice.class), changed);
+
+            ApiDocument.ApiGroup users = group(patched, "Users");
+            assertEquals(List.of("/members"), users.endpoints().stream().map(ApiDocument.Endpoint::path).toList());
+            assertFalse(group(built, "Users").endpoints().get(0).path().equals("/members"));
+            assertSame(group(built, "Order APIs"), group(patched, "Order APIs"));
+        }
+    }
+
+    private static ApiDocument.ApiGroup group(ApiDocument document, String name) {
+        return document.groups().stream().filter(group -> group.name().equals(name)).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.engine;
+
+import dev.retreever.sample.OrderCrudController;
+import dev.retreever.sample.SampleApplication;
+import dev.retreever.sample.UserCrudController;
+import dev.retreever.view.dto.ApiDocument;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GenericControllerTest {
+
+    @Test
+    void controllersSharingAGenericBaseDocumentTheirOwnBodies() {
+        try (RetreeverOrchestrator orchestrator = new RetreeverOrchestrator(List.of("dev.retreever.sample"), List.of())) {
+            // Inherited handlers are mapped as the handler mapping maps them
+            ApiDocument document = orchestrator.build(SampleApplication.class,
+                    ControllerScanner.scanMappings(List.of(OrderCrudController.class, UserCrudController.class)),
+                    Set.of());
+
+            for (ApiDocument.Endpoint endpoint : group(document, "Order CRUD").endpoints()) {
+                assertEquals(Set.of("number", "items"), model(endpoint.response()).keySet());
+            }
+            for (ApiDocument.Endpoint endpoint : group(document, "User CRUD").endpoints()) {
+                assertEquals(Set.of("name", "email"), model(endpoint.response()).keySet());
+            }
+            assertEquals(Set.of("number", "items"), model(endpoint(document, "Order CRUD", "POST").request()).keySet());
+            assertEquals(Set.of("name", "email"), model(endpoint(document, "User CRUD", "POST").request()).keySet());
+        }
+    }
+
+    private static ApiDocument.ApiGroup group(ApiDocument document, String name) {
+        return document.groups().stream().filter(group -> group.name().equals(name)).findFirst().orElseThrow();
+    }
+
+    private static ApiDocument.Endpoint endpoint(ApiDocument document, String group, String httpMethod) {
+        return group(document, group).endpoints().stream()
+                .filter(endpoint -> endpoint.method().equals(httpMethod))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static Map<?, ?> model(Map<String, Object> body) {
+        return (Map<?, ?>) body.get("model");
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.engine;
+
+import dev.retreever.endpoint.model.MappedEndpoint;
+import dev.retreever.sample.OrderController;
+import dev.retreever.sample.SampleApplication;
+import dev.retreever.sample.SampleErrorAdvice;
+import dev.retreever.sample.UserController;
+import dev.retreever.view.dto.ApiDocument;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupIndexTest {
+
+    private static final ApiDocument.ApiGroup ORDERS = new ApiDocument.ApiGroup("Order APIs", "", false, List.of());
+    private static final ApiDocument.ApiGroup USERS = new ApiDocument.ApiGroup("Users", "", false, List.of());
+
+    @Test
+    void concurrentCallersShareOneResolution() throws Exception {
+        GroupIndex index = index();
+        AtomicInteger resolutions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<CompletableFuture<ApiDocument.ApiGroup>> callers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            callers.add(CompletableFuture.supplyAsync(() -> index.group(OrderController.class, controller -> {
+                resolutions.incrementAndGet();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return ORDERS;
+            })));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        for (CompletableFuture<ApiDocument.ApiGroup> caller : callers) {
+            assertSame(ORDERS, caller.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, resolutions.get());
+        assertEquals(1, index.resolvedCount());
+        assertNull(index.group(String.class, controller -> ORDERS));
+    }
+
+    @Test
+    void failedResolutionIsRetried() {
+        GroupIndex index = index();
+
+        assertThrows(IllegalStateException.class, () -> index.group(OrderController.class, controller -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertEquals(0, index.resolvedCount());
+        assertSame(ORDERS, index.group(OrderController.class, controller -> ORDERS));
+    }
+
+    @Test
+    void carriesOverOnlyUnchangedGroups() {
+        GroupIndex index = index();
+        index.groups(controller -> controller == OrderController.class ? ORDERS : USERS);
+        assertEquals(2, index.resolvedCount());
+
+        GroupIndex next = index.carryOver(index(), Set.of(OrderController.class));
+        assertEquals(1, next.resolvedCount());
+        assertSame(USERS, next.group(UserController.class, controller -> {
+            throw new AssertionError("carried over");
+        }));
+        assertEquals(0, index.withoutGroups().resolvedCount());
+    }
+
+    @Test
+    void lazilyResolvedGroupsMatchTheFullBuild() {
+        Map<Class<?>, List<MappedEndpoint>> mappings = new LinkedHashMap<>();
+        mappings.put(OrderController.class, MappedEndpoint.declared(OrderController.class));
+        mappings.put(UserController.class, MappedEndpoint.declared(UserController.class));
+        Set<Class<?>> advices = Set.of(SampleErrorAdvice.class);
+
+        try (RetreeverOrchestrator orchestrator = new RetreeverOrchestrator(List.of("dev.retreever.sample"), List.of())) {
+            ApiDocument built = orchestrator.build(SampleApplication.class, mappings, advices);
+
+            GroupIndex index = orchestrator.index(mappings);
+            assertEquals(List.of(2, 1), index.getSummaries().stream().map(ApiDocument.GroupSummary::endpointCount).toList());
+            assertEquals(0, index.resolvedCount());
+
+            // Resolved one at a time, the second reusing the exception handlers of the first
+            ApiDocument.ApiGroup users = index.group(UserController.class,
+                    controller -> orchestrator.resolveGroup(controller, mappings.get(controller), advices));
+            ApiDocument.ApiGroup orders = index.group(index.findController("Order APIs"),
+                    controller -> orchestrator.resolveGroup(controller, mappings.get(controller), advices));
+
+            assertEquals(built.groups(), List.of(orders, users));
+            assertTrue(orders.endpoints().get(0).errors().stream().anyMatch(error -> error.response() != null));
+        }
+    }
+
+    private static GroupIndex index() {
+        Map<Class<?>, ApiDocument.GroupSummary> summaries = new LinkedHashMap<>();
+        summaries.put(OrderController.class, new ApiDocument.GroupSummary("Order APIs", "", false, 2));
+        summaries.put(UserController.class, new ApiDocument.GroupSummary("Users", "", false, 1));
+        return new GroupIndex(summaries);
+    }
+}
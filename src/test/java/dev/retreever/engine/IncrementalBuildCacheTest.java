@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.engine;
+
+import dev.retreever.config.RetreeverProperties;
+import dev.retreever.endpoint.model.MappedEndpoint;
+import dev.retreever.sample.OrderController;
+import dev.retreever.sample.OrderDto;
+import dev.retreever.sample.SampleApplication;
+import dev.retreever.sample.SampleErrorAdvice;
+import dev.retreever.sample.UserController;
+import dev.retreever.sample.UserDto;
+import dev.retreever.view.dto.ApiDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class IncrementalBuildCacheTest {
+
+    private static final String APPLICATION = "test.IncrementalApplication";
+
+    @AfterEach
+    void evict() {
+        IncrementalBuildCache.evict(APPLICATION);
+        IncrementalBuildCache.evict(SampleApplication.class.getName());
+    }
+
+    /**
+     * Serves the bytecode of the test classes, with one class optionally replaced.
+     */
+    static class ChangingLoader extends ClassLoader {
+        private String changed;
+
+        ChangingLoader() {
+            super(IncrementalBuildCacheTest.class.getClassLoader());
+        }
+
+        @Override
+        public InputStream getResourceAsStream(String name) {
+            if (changed != null && name.equals(changed.replace('.', '/') + ".class")) {
+                return new ByteArrayInputStream(new byte[]{1, 2, 3});
+            }
+            return super.getResourceAsStream(name);
+        }
+    }
+
+    @Test
+    void classChangesInvalidateOnlyTheirDependents() {
+        ChangingLoader loader = new ChangingLoader();
+        IncrementalBuildCache.GroupMemo orders = memo("Orders", List.of("GET /orders/{id}"));
+        IncrementalBuildCache.GroupMemo users = memo("Users", List.of("GET /users"));
+
+        IncrementalBuildCache.Plan first = IncrementalBuildCache.plan(APPLICATION, "key", loader);
+        assertNull(first.reusable(OrderController.class, orders.mappings()));
+        first.record(OrderController.class, orders, Set.of(OrderController.class, OrderDto.class));
+        first.record(UserController.class, users, Set.of(UserController.class, UserDto.class));
+        first.commit();
+
+        IncrementalBuildCache.Plan unchanged = IncrementalBuildCache.plan(APPLICATION, "key", loader);
+        assertSame(orders, unchanged.reusable(OrderController.class, orders.mappings()));
+        assertSame(users, unchanged.reusable(UserController.class, users.mappings()));
+        assertNull(unchanged.reusable(UserController.class, List.of("GET /users", "POST /users")));
+
+        loader.changed = OrderDto.class.getName();
+        IncrementalBuildCache.Plan changed = IncrementalBuildCache.plan(APPLICATION, "key", loader);
+        assertNull(changed.reusable(OrderController.class, orders.mappings()));
+        assertSame(users, changed.reusable(UserController.class, users.mappings()));
+        assertEquals(1, changed.getInvalidated());
+
+        IncrementalBuildCache.Plan reconfigured = IncrementalBuildCache.plan(APPLICATION, "other", loader);
+        assertNull(reconfigured.reusable(UserController.class, users.mappings()));
+    }
+
+    @Test
+    void keptGroupsCarryTheirDependenciesOver() {
+        ChangingLoader loader = new ChangingLoader();
+        IncrementalBuildCache.GroupMemo orders = memo("Orders", List.of());
+
+        IncrementalBuildCache.Plan first = IncrementalBuildCache.plan(APPLICATION, "key", loader);
+        first.record(OrderController.class, orders, Set.of(OrderController.class, OrderDto.class));
+        first.commit();
+
+        IncrementalBuildCache.Plan second = IncrementalBuildCache.plan(APPLICATION, "key", loader);
+        second.keep(OrderController.class, second.reusable(OrderController.class, List.of()));
+        second.commit();
+
+        loader.changed = OrderDto.class.getName();
+        assertNull(IncrementalBuildCache.plan(APPLICATION, "key", loader).reusable(OrderController.class, List.of()));
+    }
+
+    @Test
+    void restartedOrchestratorReusesUnchangedGroups() {
+        ApiDocument first = build(endpoints(MappedEndpoint.declared(OrderController.class)));
+        ApiDocument second = build(endpoints(MappedEndpoint.declared(OrderController.class)));
+
+        assertEquals(first.groups(), second.groups());
+        assertSame(first.groups().get(0), second.groups().get(0));
+        assertSame(first.groups().get(1), second.groups().get(1));
+
+        // A group is rebuilt once its request mappings change
+        ApiDocument remapped = build(endpoints(MappedEndpoint.declared(OrderController.class).subList(0, 1)));
+        ApiDocument.ApiGroup orders = remapped.groups().stream()
+                .filter(group -> group.name().equals("Order APIs")).findFirst().orElseThrow();
+        assertEquals(1, orders.endpoints().size());
+        assertSame(first.groups().stream().filter(group -> group.name().equals("Users")).findFirst().orElseThrow(),
+                remapped.groups().stream().filter(group -> group.name().equals("Users")).findFirst().orElseThrow());
+    }
+
+    private static Map<Class<?>, List<MappedEndpoint>> endpoints(List<MappedEndpoint> orders) {
+        Map<Class<?>, List<MappedEndpoint>> endpoints = new LinkedHashMap<>();
+        endpoints.put(OrderController.class, orders);
+        endpoints.put(UserController.class, MappedEndpoint.declared(UserController.class));
+        return endpoints;
+    }
+
+    private static ApiDocument build(Map<Class<?>, List<MappedEndpoint>> endpoints) {
+        RetreeverProperties properties = new RetreeverProperties();
+        properties.getBuild().setIncremental(true);
+        try (RetreeverOrchestrator orchestrator =
+                     new RetreeverOrchestrator(List.of("dev.retreever.sample"), List.of(), null, properties)) {
+            return orchestrator.build(SampleApplication.class, endpoints, Set.of(SampleErrorAdvice.class));
+        }
+    }
+
+    private static IncrementalBuildCache.GroupMemo memo(String name, List<String> mappings) {
+        return new IncrementalBuildCache.GroupMemo(
+                new ApiDocument.ApiGroup(name, "", false, List.of()), mappings, List.of());
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.engine;
+
+import dev.retreever.view.dto.ApiDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnapshotHolderTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final SnapshotHolder holder = new SnapshotHolder();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentRefreshesShareOneBuild() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger builds = new AtomicInteger();
+        Supplier<DocumentSnapshot> build = () -> {
+            builds.incrementAndGet();
+            await(release);
+            return snapshot("first");
+        };
+
+        CompletableFuture<DocumentSnapshot> first = holder.refresh(build, executor);
+        CompletableFuture<DocumentSnapshot> second = holder.refresh(build, executor);
+        assertSame(first, second);
+        assertTrue(holder.isRefreshing());
+        assertNull(holder.get());
+
+        release.countDown();
+        DocumentSnapshot published = first.get(5, TimeUnit.SECONDS);
+        assertEquals(1, builds.get());
+        assertEquals(1, published.version());
+        assertSame(published, holder.get());
+        assertFalse(holder.isRefreshing());
+    }
+
+    @Test
+    void rebuildIsQueuedBehindARunningRefresh() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<DocumentSnapshot> patch = holder.refresh(() -> {
+            await(release);
+            return snapshot("patched");
+        }, executor);
+
+        CompletableFuture<DocumentSnapshot> rebuild = holder.rebuild(() -> snapshot("rebuilt"), executor);
+        assertNotSame(patch, rebuild);
+        // Later requests join the queued rebuild
+        assertSame(rebuild, holder.refresh(() -> snapshot("ignored"), executor));
+        assertSame(rebuild, holder.rebuild(() -> snapshot("ignored"), executor));
+
+        release.countDown();
+        assertEquals(1, patch.get(5, TimeUnit.SECONDS).version());
+        DocumentSnapshot rebuilt = rebuild.get(5, TimeUnit.SECONDS);
+        assertEquals("rebuilt", rebuilt.document().name());
+        assertEquals(2, rebuilt.version());
+    }
+
+    @Test
+    void rebuildJoinsARunningRebuild() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<DocumentSnapshot> first = holder.rebuild(() -> {
+            await(release);
+            return snapshot("rebuilt");
+        }, executor);
+
+        assertSame(first, holder.rebuild(() -> snapshot("ignored"), executor));
+        release.countDown();
+        assertEquals("rebuilt", first.get(5, TimeUnit.SECONDS).document().name());
+    }
+
+    @Test
+    void failedBuildKeepsThePreviousSnapshot() throws Exception {
+        DocumentSnapshot published = holder.refresh(() -> snapshot("good"), Runnable::run).get();
+
+        CompletableFuture<DocumentSnapshot> failed = holder.refresh(() -> {
+            throw new IllegalStateException("boom");
+        }, Runnable::run);
+
+        ExecutionException e = assertThrows(ExecutionException.class, failed::get);
+        assertEquals("boom", e.getCause().getMessage());
+        assertSame(published, holder.get());
+        assertSame(published, holder.refresh(holder::get, Runnable::run).get());
+    }
+
+    @Test
+    void versionsKeepIncreasingAcrossEvictions() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        holder.refresh(() -> snapshot("first"), Runnable::run).get();
+        CompletableFuture<DocumentSnapshot> running = holder.refresh(() -> {
+            await(release);
+            return snapshot("second");
+        }, executor);
+
+        assertFalse(holder.evict());
+        release.countDown();
+        assertEquals(2, running.get(5, TimeUnit.SECONDS).version());
+
+        assertTrue(holder.evict());
+        assertNull(holder.get());
+        assertFalse(holder.evict());
+
+        assertEquals(3, holder.refresh(() -> snapshot("third"), Runnable::run).get().version());
+        // Versions carried by the snapshot itself, e.g. reloaded from disk, are kept
+        DocumentSnapshot reloaded = new DocumentSnapshot(7, document("reloaded"), new BuildReport(), Instant.now());
+        assertSame(reloaded, holder.refresh(() -> reloaded, Runnable::run).get());
+        assertEquals(8, holder.refresh(() -> snapshot("next"), Runnable::run).get().version());
+    }
+
+    private static DocumentSnapshot snapshot(String name) {
+        return new DocumentSnapshot(0, document(name), new BuildReport(), Instant.now());
+    }
+
+    private static ApiDocument document(String name) {
+        return new ApiDocument(name, "", "v1", "", Instant.now(), List.of());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
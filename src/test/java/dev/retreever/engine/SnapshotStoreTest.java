@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.engine;
+
+import dev.retreever.sample.OrderController;
+import dev.retreever.sample.SampleApplication;
+import dev.retreever.sample.SampleErrorAdvice;
+import dev.retreever.sample.UserController;
+import dev.retreever.schema.model.Truncation;
+import dev.retreever.view.dto.ApiDocument;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SnapshotStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripsTheSnapshot() throws Exception {
+        DocumentSnapshot snapshot = snapshot();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SnapshotStore.write(snapshot, out);
+        DocumentSnapshot read = SnapshotStore.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(snapshot.version(), read.version());
+        assertEquals(snapshot.builtAt(), read.builtAt());
+        assertEquals(snapshot.document(), read.document());
+        assertEquals(snapshot.report().getIssues(), read.report().getIssues());
+        // Read documents are frozen like freshly built ones
+        assertThrows(UnsupportedOperationException.class, () -> read.document().groups().clear());
+    }
+
+    @Test
+    void savesAndLoadsThroughTheFile() throws Exception {
+        Path file = dir.resolve("docs/snapshot.json");
+        SnapshotStore store = new SnapshotStore(file);
+        assertNull(store.load());
+
+        DocumentSnapshot snapshot = snapshot();
+        store.save(snapshot);
+        assertEquals(snapshot.document(), store.load().document());
+        try (var files = Files.list(file.getParent())) {
+            assertEquals(List.of(file), files.toList());
+        }
+    }
+
+    @Test
+    void unreadableFilesLoadAsNothing() throws Exception {
+        Path file = dir.resolve("snapshot.json");
+        Files.writeString(file, "{\"version\": 3, \"document\": [");
+
+        assertNull(new SnapshotStore(file).load());
+    }
+
+    private static DocumentSnapshot snapshot() {
+        try (RetreeverOrchestrator orchestrator = new RetreeverOrchestrator(List.of("dev.retreever.sample"), List.of())) {
+            ApiDocument document = orchestrator.build(SampleApplication.class,
+                    Set.of(OrderController.class, UserController.class), Set.of(SampleErrorAdvice.class));
+            BuildReport report = new BuildReport();
+            report.addTruncation(OrderController.class, "OrderController#get (response)",
+                    new Truncation(Truncation.Reason.MAX_DEPTH, "dev.retreever.sample.OrderDto", 32));
+            return new DocumentSnapshot(5, document, report, Instant.parse("2025-01-01T00:00:00Z"));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.repo;
+
+import dev.retreever.endpoint.model.ApiError;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ApiErrorRegistryTest {
+
+    interface ClientFault {
+    }
+
+    interface Retryable extends ClientFault {
+    }
+
+    static class ShopException extends RuntimeException {
+    }
+
+    static class NotFoundException extends ShopException {
+    }
+
+    static class OrderNotFoundException extends NotFoundException implements Retryable {
+    }
+
+    static class ThrottledException extends RuntimeException implements Retryable {
+    }
+
+    private final ApiErrorRegistry registry = new ApiErrorRegistry();
+
+    @Test
+    void fallsBackToTheNearestHandledSuperclass() {
+        ApiError shop = register(HttpStatus.INTERNAL_SERVER_ERROR, ShopException.class);
+        ApiError notFound = register(HttpStatus.NOT_FOUND, NotFoundException.class);
+
+        assertSame(notFound, registry.get(NotFoundException.class));
+        assertSame(notFound, registry.get(OrderNotFoundException.class));
+        assertSame(shop, registry.get(ShopException.class));
+        assertNull(registry.get(IllegalStateException.class));
+    }
+
+    @Test
+    void classWinsOverInterfacesAtTheSameLevel() {
+        ApiError client = register(HttpStatus.BAD_REQUEST, ClientFault.class);
+        ApiError notFound = register(HttpStatus.NOT_FOUND, NotFoundException.class);
+
+        // OrderNotFoundException declares Retryable, which beats the superclass NotFoundException
+        assertSame(client, registry.get(OrderNotFoundException.class));
+        assertSame(client, registry.get(ThrottledException.class));
+        assertSame(notFound, registry.get(NotFoundException.class));
+    }
+
+    @Test
+    void registrationsInvalidateMemoizedLookups() {
+        ApiError shop = register(HttpStatus.INTERNAL_SERVER_ERROR, ShopException.class);
+        assertSame(shop, registry.get(OrderNotFoundException.class));
+
+        ApiError notFound = register(HttpStatus.NOT_FOUND, NotFoundException.class);
+        assertSame(notFound, registry.get(OrderNotFoundException.class));
+
+        registry.clear();
+        assertNull(registry.get(OrderNotFoundException.class));
+    }
+
+    private ApiError register(HttpStatus status, Class<?> exception) {
+        ApiError error = ApiError.create(status, exception.getSimpleName(), exception);
+        registry.register(error);
+        return error;
+    }
+}
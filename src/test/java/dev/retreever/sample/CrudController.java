@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.sample;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+/**
+ * Generic base of controllers whose handlers are all inherited.
+ */
+public abstract class CrudController<T> {
+
+    @GetMapping("/{id}")
+    public ResponseEntity<T> get(@PathVariable String id) {
+        return ResponseEntity.notFound().build();
+    }
+
+    @PostMapping
+    public ResponseEntity<T> create(@RequestBody T body) {
+        return ResponseEntity.ok(body);
+    }
+}
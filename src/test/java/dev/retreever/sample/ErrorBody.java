@@ -0,0 +1,14 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.sample;
+
+public class ErrorBody {
+    private String code;
+    private String message;
+}
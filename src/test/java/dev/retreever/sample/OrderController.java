@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.sample;
+
+import dev.retreever.annotation.ApiEndpoint;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/orders")
+public class OrderController {
+
+    @GetMapping("/{id}")
+    @ApiEndpoint(errors = OrderNotFoundException.class)
+    public OrderDto get(@PathVariable String id) {
+        throw new OrderNotFoundException();
+    }
+
+    @PostMapping
+    public ResponseEntity<OrderDto> create(@RequestBody OrderDto order) {
+        return ResponseEntity.ok(order);
+    }
+}
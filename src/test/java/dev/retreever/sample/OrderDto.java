@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.sample;
+
+import jakarta.validation.constraints.NotBlank;
+
+import java.util.List;
+
+public class OrderDto {
+    @NotBlank
+    private String number;
+    private List<LineItem> items;
+
+    public static class LineItem {
+        private String sku;
+        private int quantity;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.sample;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/order-stream")
+public class OrderStreamController {
+
+    @GetMapping("/{id}")
+    public CompletableFuture<OrderDto> get(@PathVariable String id) {
+        return CompletableFuture.completedFuture(new OrderDto());
+    }
+
+    @GetMapping("/all")
+    public Flux<OrderDto> all() {
+        return Flux.empty();
+    }
+
+    @GetMapping(value = "/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<OrderDto> feed() {
+        return Flux.empty();
+    }
+
+    @GetMapping("/events")
+    public SseEmitter events() {
+        return new SseEmitter();
+    }
+}
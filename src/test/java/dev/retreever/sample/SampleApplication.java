@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.sample;
+
+import dev.retreever.annotation.ApiDoc;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Application class of the sample controllers used by the build tests.
+ */
+@SpringBootApplication
+@ApiDoc(name = "Sample", description = "Sample shop API")
+public class SampleApplication {
+}
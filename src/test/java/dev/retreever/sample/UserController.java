@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.sample;
+
+import dev.retreever.annotation.ApiGroup;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@ApiGroup(name = "Users", description = "User management")
+@RequestMapping("/users")
+public class UserController {
+
+    @GetMapping
+    public List<UserDto> list() {
+        return List.of();
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.sample;
+
+import dev.retreever.annotation.ApiGroup;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@ApiGroup(name = "User CRUD")
+@RequestMapping("/crud/users")
+public class UserCrudController extends CrudController<UserDto> {
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.schema.model;
+
+import dev.retreever.schema.model.Constraint.Kind;
+import dev.retreever.schema.resolver.util.JsonPropertyConstraint;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConstraintsTest {
+
+    @Test
+    void flagsAreSharedAndRequireNoValue() {
+        assertSame(Constraint.flag(Kind.NOT_NULL), Constraint.flag(Kind.NOT_NULL));
+        assertSame(Constraint.minValue(0), Constraint.minValue(0));
+        assertThrows(IllegalArgumentException.class, () -> Constraint.flag(Kind.MIN_LENGTH));
+    }
+
+    @Test
+    void setsAreImmutableAndDeduplicated() {
+        Constraints once = Constraints.EMPTY.with(Constraint.flag(Kind.NOT_NULL)).with(Constraint.maxLength(5));
+
+        assertSame(once, once.with(Constraint.flag(Kind.NOT_NULL)));
+        assertSame(once, once.with(Constraint.maxLength(5)));
+        assertTrue(Constraints.EMPTY.isEmpty());
+        assertEquals(2, once.size());
+        assertTrue(once.has(Kind.NOT_NULL));
+        assertTrue(once.has(Kind.MAX_LENGTH));
+        assertFalse(once.has(Kind.MIN_LENGTH));
+    }
+
+    @Test
+    void unionListsFlagsInKindOrderThenValuesInInsertionOrder() {
+        Constraints left = Constraints.EMPTY.with(Constraint.regex("^[a-z]+$")).with(Constraint.flag(Kind.EMAIL));
+        Constraints right = Constraints.EMPTY.with(Constraint.flag(Kind.NOT_NULL)).with(Constraint.maxLength(20))
+                .with(Constraint.regex("^[a-z]+$"));
+
+        assertEquals(List.of(Constraint.flag(Kind.NOT_NULL), Constraint.flag(Kind.EMAIL),
+                        Constraint.regex("^[a-z]+$"), Constraint.maxLength(20)),
+                left.with(right).toList());
+    }
+
+    @Test
+    void formatsOnlyAtRenderTime() {
+        Constraints constraints = Constraints.EMPTY
+                .with(Constraint.minLength(3))
+                .with(Constraint.exclusiveMaxValue(9.5))
+                .with(Constraint.digits(5, 2))
+                .with(Constraint.allowedValues(List.of("A", "B"), 40))
+                .with(Constraint.flag(Kind.NOT_BLANK));
+
+        assertEquals(List.of("NOT_BLANK", "MIN_LENGTH:3", "EXCLUSIVE_MAX_VALUE:9.5", "DIGITS:5,2",
+                        "ALLOWED_VALUES:[A, B, ...+40 more]"),
+                JsonPropertyConstraint.format(constraints));
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.schema.model;
+
+import dev.retreever.annotation.Description;
+import dev.retreever.schema.model.Constraint.Kind;
+import dev.retreever.schema.resolver.PropertyResolver;
+import jakarta.validation.constraints.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PropertyTest {
+
+    static class Order {
+        @NotNull
+        @Description("Order number")
+        String number;
+    }
+
+    @Test
+    void deferredMetadataIsResolvedOnFirstReadOnly() {
+        AtomicInteger runs = new AtomicInteger();
+        Property property = new Property("number", JsonPropertyType.STRING, null);
+        property.deferMetadata(p -> {
+            runs.incrementAndGet();
+            p.setDescription("Order number");
+        });
+
+        // Structure and examples never trigger enrichment
+        property.getName();
+        property.getValue();
+        property.getExample();
+        assertEquals(0, runs.get());
+
+        assertEquals("Order number", property.getDescription());
+        property.isRequired();
+        property.getConstraints();
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void explicitMutationsApplyOnTopOfDeferredMetadata() {
+        Property property = new Property("number", JsonPropertyType.STRING, null);
+        property.deferMetadata(p -> p.description("From annotation"));
+
+        property.required().description("Overridden");
+
+        assertTrue(property.isRequired());
+        assertEquals("Overridden", property.getDescription());
+    }
+
+    @Test
+    void concurrentReadersEnrichOnce() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        Property property = new Property("number", JsonPropertyType.STRING, null);
+        property.deferMetadata(p -> {
+            runs.incrementAndGet();
+            p.addConstraint(Constraint.flag(Kind.NOT_NULL));
+        });
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Constraints>> reads = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                reads.add(pool.submit(() -> {
+                    start.await();
+                    return property.getConstraints();
+                }));
+            }
+            start.countDown();
+            for (Future<Constraints> read : reads) {
+                assertTrue(read.get(5, TimeUnit.SECONDS).has(Kind.NOT_NULL));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void resolvedPropertiesReadAnnotationsLazily() throws Exception {
+        Property property = PropertyResolver.resolve(Order.class.getDeclaredField("number"));
+
+        assertEquals("Order number", property.getDescription());
+        assertTrue(property.isRequired());
+        assertTrue(property.getConstraints().has(Kind.NOT_NULL));
+    }
+}
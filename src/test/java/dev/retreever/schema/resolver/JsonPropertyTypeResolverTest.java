@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.schema.resolver;
+
+import dev.retreever.config.SchemaConfig;
+import dev.retreever.config.ScopeFilter;
+import dev.retreever.schema.model.JsonPropertyType;
+import dev.retreever.schema.model.ValueSchema;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+class JsonPropertyTypeResolverTest {
+
+    static class Money {
+        long amount;
+        String currency;
+    }
+
+    static class Euro extends Money {
+    }
+
+    @Test
+    void classifiesWithBuiltInRulesWhenUnbound() {
+        assertEquals(JsonPropertyType.OBJECT, JsonPropertyTypeResolver.resolve(Money.class));
+        assertEquals(JsonPropertyType.DATE_TIME, JsonPropertyTypeResolver.resolve(Date.class));
+        assertEquals(JsonPropertyType.BINARY, JsonPropertyTypeResolver.resolve(byte[].class));
+        assertEquals(JsonPropertyType.MAP, JsonPropertyTypeResolver.resolve(java.util.HashMap.class));
+    }
+
+    @Test
+    void handlersOverrideBuiltInRulesInRegistrationOrder() {
+        ResolutionContext context = contextWith(
+                TypeHandler.of(Euro.class, JsonPropertyType.NUMBER),
+                TypeHandler.of(Money.class, JsonPropertyType.STRING));
+
+        try (ResolutionContext.Binding ignored = context.bind()) {
+            assertEquals(JsonPropertyType.STRING, JsonPropertyTypeResolver.resolve(Money.class));
+            assertEquals(JsonPropertyType.NUMBER, JsonPropertyTypeResolver.resolve(Euro.class));
+            assertEquals(JsonPropertyType.UUID, JsonPropertyTypeResolver.resolve(java.util.UUID.class));
+
+            ValueSchema schema = assertInstanceOf(ValueSchema.class,
+                    SchemaResolver.initResolution(ResolvableType.forClass(Money.class)));
+            assertEquals(JsonPropertyType.STRING, schema.getType());
+        }
+
+        // Handlers only apply while their context is bound
+        assertEquals(JsonPropertyType.OBJECT, JsonPropertyTypeResolver.resolve(Money.class));
+    }
+
+    @Test
+    void handlerVerdictsAreMemoizedPerContext() {
+        AtomicInteger calls = new AtomicInteger();
+        ResolutionContext context = contextWith(type -> {
+            calls.incrementAndGet();
+            return null;
+        });
+
+        try (ResolutionContext.Binding ignored = context.bind()) {
+            assertEquals(JsonPropertyType.OBJECT, JsonPropertyTypeResolver.resolve(Money.class));
+            assertEquals(JsonPropertyType.OBJECT, JsonPropertyTypeResolver.resolve(Money.class));
+        }
+        assertEquals(1, calls.get());
+    }
+
+    private static ResolutionContext contextWith(TypeHandler... handlers) {
+        return new ResolutionContext(new SchemaConfig(
+                ScopeFilter.ofPackages(List.of("dev.retreever")), null, null, List.of(handlers)));
+    }
+}
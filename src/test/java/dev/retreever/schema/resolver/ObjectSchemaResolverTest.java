@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.schema.resolver;
+
+import dev.retreever.config.SchemaConfig;
+import dev.retreever.schema.model.ObjectSchema;
+import dev.retreever.schema.model.Property;
+import dev.retreever.schema.model.Schema;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ObjectSchemaResolverTest {
+
+    static class Envelope<T> {
+        String traceId;
+        Audit audit;
+        T data;
+    }
+
+    static class Audit {
+        String createdBy;
+    }
+
+    static class Order {
+        String orderId;
+    }
+
+    static class User {
+        String userName;
+    }
+
+    private final ResolutionContext context = new ResolutionContext(new SchemaConfig(List.of("dev.retreever")));
+
+    @Test
+    void sharesTypeIndependentMembersAcrossInstantiations() {
+        ObjectSchema orders = resolve(ResolvableType.forClassWithGenerics(Envelope.class, Order.class));
+        ObjectSchema users = resolve(ResolvableType.forClassWithGenerics(Envelope.class, User.class));
+
+        assertSame(orders.getProperties().get("traceId"), users.getProperties().get("traceId"));
+        assertSame(orders.getProperties().get("audit"), users.getProperties().get("audit"));
+        assertNotSame(orders.getProperties().get("data"), users.getProperties().get("data"));
+    }
+
+    @Test
+    void resolvesTypeDependentMembersPerInstantiation() {
+        ObjectSchema orders = resolve(ResolvableType.forClassWithGenerics(Envelope.class, Order.class));
+        ObjectSchema users = resolve(ResolvableType.forClassWithGenerics(Envelope.class, User.class));
+
+        assertTrue(data(orders).getProperties().containsKey("orderId"));
+        assertTrue(data(users).getProperties().containsKey("userName"));
+    }
+
+    @Test
+    void reusesTheSchemaOfNonGenericClasses() {
+        assertSame(resolve(ResolvableType.forClass(Audit.class)), resolve(ResolvableType.forClass(Audit.class)));
+    }
+
+    @Test
+    void dropsSharedLayoutsWhenTheContextIsCleared() {
+        ObjectSchema before = resolve(ResolvableType.forClass(Audit.class));
+        context.clear();
+
+        assertNotSame(before, resolve(ResolvableType.forClass(Audit.class)));
+    }
+
+    private ObjectSchema resolve(ResolvableType type) {
+        ResolutionContext.Binding binding = context.bind();
+        try {
+            return assertInstanceOf(ObjectSchema.class, SchemaResolver.initResolution(type));
+        } finally {
+            binding.close();
+        }
+    }
+
+    private static ObjectSchema data(ObjectSchema envelope) {
+        Property data = envelope.getProperties().get("data");
+        Schema value = data.getValue();
+        return assertInstanceOf(ObjectSchema.class, value);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.schema.resolver;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import dev.retreever.config.SchemaConfig;
+import dev.retreever.schema.model.ObjectSchema;
+import dev.retreever.schema.model.PolymorphicSchema;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PolymorphicSchemaResolverTest {
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "kind")
+    @JsonSubTypes({
+            @JsonSubTypes.Type(value = Card.class, name = "card"),
+            @JsonSubTypes.Type(value = Transfer.class)
+    })
+    abstract static class Payment {
+        String reference;
+    }
+
+    static class Card extends Payment {
+        String last4;
+    }
+
+    @JsonTypeName("bank_transfer")
+    static class Transfer extends Payment {
+        String iban;
+    }
+
+    sealed interface Shape permits Circle, Square {
+    }
+
+    record Circle(double radius) implements Shape {
+    }
+
+    record Square(double side) implements Shape {
+    }
+
+    private final ResolutionContext context = new ResolutionContext(new SchemaConfig(List.of("dev.retreever")));
+
+    @Test
+    void documentsJsonSubTypesWithTheirTypeIds() {
+        PolymorphicSchema schema = resolve(Payment.class);
+
+        assertEquals("kind", schema.getDiscriminator());
+        assertEquals(Set.of("card", "bank_transfer"), schema.getSubtypes().keySet());
+        ObjectSchema card = assertInstanceOf(ObjectSchema.class, schema.getSubtypes().get("card"));
+        assertTrue(card.getProperties().containsKey("last4"));
+        assertTrue(card.getProperties().containsKey("reference"));
+    }
+
+    @Test
+    void documentsPermittedSubclassesOfSealedTypes() {
+        PolymorphicSchema schema = resolve(Shape.class);
+
+        assertNull(schema.getDiscriminator());
+        assertEquals(Set.of("Circle", "Square"), schema.getSubtypes().keySet());
+    }
+
+    @Test
+    void sharesSubtypeSchemasWithinAContext() {
+        PolymorphicSchema first = resolve(Payment.class);
+        PolymorphicSchema second = resolve(Payment.class);
+
+        assertSame(first.getSubtypes().get("card"), second.getSubtypes().get("card"));
+    }
+
+    private PolymorphicSchema resolve(Class<?> type) {
+        ResolutionContext.Binding binding = context.bind();
+        try {
+            return assertInstanceOf(PolymorphicSchema.class, SchemaResolver.initResolution(ResolvableType.forClass(type)));
+        } finally {
+            binding.close();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.schema.resolver;
+
+import dev.retreever.config.RetreeverProperties;
+import dev.retreever.config.SchemaConfig;
+import dev.retreever.engine.BuildReport;
+import dev.retreever.engine.RetreeverOrchestrator;
+import dev.retreever.sample.OrderController;
+import dev.retreever.sample.SampleApplication;
+import dev.retreever.sample.SampleErrorAdvice;
+import dev.retreever.sample.UserController;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResolutionContextTest {
+
+    @Test
+    void bindingRestoresThePreviousContext() {
+        ResolutionContext outer = new ResolutionContext(new SchemaConfig(List.of("com.outer")));
+        ResolutionContext inner = new ResolutionContext(new SchemaConfig(List.of("com.inner")));
+
+        assertFalse(ResolutionContext.isBound());
+        assertSame(SchemaConfig.DEFAULT, ResolutionContext.currentConfig());
+
+        try (ResolutionContext.Binding ignored = outer.bind()) {
+            try (ResolutionContext.Binding nested = inner.bind()) {
+                assertSame(inner, ResolutionContext.current());
+            }
+            assertSame(outer, ResolutionContext.current());
+        }
+
+        assertFalse(ResolutionContext.isBound());
+    }
+
+    @Test
+    void bindingIsConfinedToItsThread() throws Exception {
+        ResolutionContext context = new ResolutionContext(new SchemaConfig(List.of("com.acme")));
+
+        try (ResolutionContext.Binding ignored = context.bind()) {
+            SchemaConfig seenElsewhere = CompletableFuture.supplyAsync(ResolutionContext::currentConfig)
+                    .get(5, TimeUnit.SECONDS);
+            assertSame(SchemaConfig.DEFAULT, seenElsewhere);
+            assertSame(context.getConfig(), ResolutionContext.currentConfig());
+        }
+    }
+
+    @Test
+    void concurrentOrchestratorsKeepTheirOwnConfiguration() throws Exception {
+        RetreeverProperties limited = new RetreeverProperties();
+        limited.getSchema().setMaxProperties(1);
+
+        try (RetreeverOrchestrator narrow = new RetreeverOrchestrator(List.of("dev.retreever.sample"), List.of(), null, limited);
+             RetreeverOrchestrator wide = new RetreeverOrchestrator(List.of("dev.retreever.sample"), List.of())) {
+
+            for (int round = 0; round < 10; round++) {
+                CompletableFuture<BuildReport> first = CompletableFuture.supplyAsync(() -> build(narrow));
+                CompletableFuture<BuildReport> second = CompletableFuture.supplyAsync(() -> build(wide));
+
+                assertTrue(first.get(30, TimeUnit.SECONDS).getIssues().stream()
+                        .anyMatch(issue -> issue.kind() == BuildReport.Kind.TRUNCATED));
+                assertEquals(List.of(), second.get(30, TimeUnit.SECONDS).getIssues());
+            }
+        }
+        assertFalse(ResolutionContext.isBound());
+    }
+
+    private static BuildReport build(RetreeverOrchestrator orchestrator) {
+        orchestrator.build(SampleApplication.class,
+                Set.of(OrderController.class, UserController.class), Set.of(SampleErrorAdvice.class));
+        return orchestrator.getLastReport();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.schema.resolver;
+
+import dev.retreever.config.SchemaConfig;
+import dev.retreever.config.SchemaLimits;
+import dev.retreever.config.ScopeFilter;
+import dev.retreever.schema.model.Constraint;
+import dev.retreever.schema.model.ObjectSchema;
+import dev.retreever.schema.model.Schema;
+import dev.retreever.schema.model.TruncatedSchema;
+import dev.retreever.schema.model.Truncation;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+class SchemaLimitsTest {
+
+    static class Level1 {
+        Level2 next;
+    }
+
+    static class Level2 {
+        Level3 next;
+    }
+
+    static class Level3 {
+        String leaf;
+    }
+
+    static class Wide {
+        String a;
+        String b;
+        String c;
+    }
+
+    enum Status {NEW, PAID, SHIPPED}
+
+    static class Order {
+        Status status;
+    }
+
+    @Test
+    void cutsNestingBeyondMaxDepth() {
+        List<Truncation> truncations = new ArrayList<>();
+        ObjectSchema root = resolve(Level1.class, new SchemaLimits(2, 256, 10_000, 100), truncations);
+
+        ObjectSchema level2 = assertInstanceOf(ObjectSchema.class, root.getProperties().get("next").getValue());
+        TruncatedSchema cut = assertInstanceOf(TruncatedSchema.class, level2.getProperties().get("next").getValue());
+        assertEquals(Truncation.Reason.MAX_DEPTH, cut.getTruncation().reason());
+        assertEquals(List.of(cut.getTruncation()), truncations);
+    }
+
+    @Test
+    void keepsTheFirstPropertiesBeyondMaxProperties() {
+        List<Truncation> truncations = new ArrayList<>();
+        ObjectSchema wide = resolve(Wide.class, new SchemaLimits(32, 2, 10_000, 100), truncations);
+
+        assertEquals(List.of("a", "b"), List.copyOf(wide.getProperties().keySet()));
+        Truncation expected = new Truncation(Truncation.Reason.MAX_PROPERTIES, Wide.class.getName(), 2);
+        assertEquals(expected, wide.getTruncation());
+        assertEquals(List.of(expected), truncations);
+    }
+
+    @Test
+    void stopsAfterMaxNodes() {
+        List<Truncation> truncations = new ArrayList<>();
+        ObjectSchema wide = resolve(Wide.class, new SchemaLimits(32, 256, 3, 100), truncations);
+
+        assertInstanceOf(TruncatedSchema.class, wide.getProperties().get("c").getValue());
+        assertEquals(Truncation.Reason.MAX_NODES, truncations.get(0).reason());
+    }
+
+    @Test
+    void listsOversizedEnumsPartially() {
+        List<Truncation> truncations = new ArrayList<>();
+        ObjectSchema order = resolve(Order.class, new SchemaLimits(32, 256, 10_000, 2), truncations);
+
+        assertEquals(Truncation.Reason.MAX_ENUM_VALUES, truncations.get(0).reason());
+        Constraint allowed = order.getProperties().get("status").getConstraints().stream()
+                .filter(c -> c.getKind() == Constraint.Kind.ALLOWED_VALUES)
+                .findFirst().orElseThrow();
+        assertEquals(List.of("NEW", "PAID"), allowed.getAllowedValues());
+        assertEquals(1, (int) allowed.getValue());
+    }
+
+    @Test
+    void reportsTruncationsAgainWhenCachedLayoutsAreReused() {
+        ResolutionContext context = contextWith(new SchemaLimits(32, 2, 10_000, 100));
+        List<Truncation> first = new ArrayList<>();
+        List<Truncation> second = new ArrayList<>();
+
+        try (ResolutionContext.Binding ignored = context.bind()) {
+            SchemaResolver.initResolution(ResolvableType.forClass(Wide.class), first);
+            SchemaResolver.initResolution(ResolvableType.forClass(Wide.class), second);
+        }
+
+        assertEquals(1, first.size());
+        assertEquals(first, second);
+    }
+
+    private static ObjectSchema resolve(Class<?> type, SchemaLimits limits, List<Truncation> truncations) {
+        try (ResolutionContext.Binding ignored = contextWith(limits).bind()) {
+            Schema schema = SchemaResolver.initResolution(ResolvableType.forClass(type), truncations);
+            return assertInstanceOf(ObjectSchema.class, schema);
+        }
+    }
+
+    private static ResolutionContext contextWith(SchemaLimits limits) {
+        return new ResolutionContext(new SchemaConfig(
+                ScopeFilter.ofPackages(List.of("dev.retreever")), null, limits, List.of()));
+    }
+}
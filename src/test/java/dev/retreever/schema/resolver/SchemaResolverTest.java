@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.schema.resolver;
+
+import dev.retreever.config.SchemaConfig;
+import dev.retreever.schema.model.ArraySchema;
+import dev.retreever.schema.model.MapSchema;
+import dev.retreever.schema.model.ObjectSchema;
+import dev.retreever.schema.model.Schema;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SchemaResolverTest {
+
+    static class Page<T> {
+        List<T> items;
+        Map<String, T> byId;
+        T[] pinned;
+        List<? extends T> recent;
+    }
+
+    static class OrderPage extends Page<Order> {
+    }
+
+    static class Order {
+        String orderId;
+    }
+
+    private final ResolutionContext context = new ResolutionContext(new SchemaConfig(List.of("dev.retreever")));
+
+    @Test
+    void resolvesTypeVariablesInsideContainers() {
+        ObjectSchema page = resolve(ResolvableType.forClassWithGenerics(Page.class, Order.class));
+
+        assertOrder(assertInstanceOf(ArraySchema.class, value(page, "items")).getElementSchema());
+        assertOrder(assertInstanceOf(MapSchema.class, value(page, "byId")).getValueSchema());
+    }
+
+    @Test
+    void resolvesInheritedTypeVariables() {
+        ObjectSchema page = resolve(ResolvableType.forClass(OrderPage.class));
+
+        assertOrder(assertInstanceOf(ArraySchema.class, value(page, "items")).getElementSchema());
+    }
+
+    @Test
+    void resolvesGenericArraysAndWildcards() {
+        ObjectSchema page = resolve(ResolvableType.forClassWithGenerics(Page.class, Order.class));
+
+        assertOrder(assertInstanceOf(ArraySchema.class, value(page, "pinned")).getElementSchema());
+        assertOrder(assertInstanceOf(ArraySchema.class, value(page, "recent")).getElementSchema());
+    }
+
+    private ObjectSchema resolve(ResolvableType type) {
+        ResolutionContext.Binding binding = context.bind();
+        try {
+            return assertInstanceOf(ObjectSchema.class, SchemaResolver.initResolution(type));
+        } finally {
+            binding.close();
+        }
+    }
+
+    private static Schema value(ObjectSchema schema, String property) {
+        return schema.getProperties().get(property).getValue();
+    }
+
+    private static void assertOrder(Schema schema) {
+        assertTrue(assertInstanceOf(ObjectSchema.class, schema).getProperties().containsKey("orderId"));
+    }
+}
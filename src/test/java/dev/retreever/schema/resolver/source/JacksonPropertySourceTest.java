@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.schema.resolver.source;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import jakarta.validation.constraints.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JacksonPropertySourceTest {
+
+    static class Customer {
+        @NotNull
+        private String fullName;
+
+        @JsonProperty("email_address")
+        public String email;
+
+        @JsonIgnore
+        public String password;
+
+        public String getFullName() {
+            return fullName;
+        }
+
+        public int getOrderCount() {
+            return 0;
+        }
+    }
+
+    @Test
+    void reportsPropertiesAsSerialized() {
+        List<String> names = names(new JacksonPropertySource(new ObjectMapper()).properties(Customer.class));
+
+        assertTrue(names.contains("fullName"));
+        assertTrue(names.contains("email_address"));
+        assertTrue(names.contains("orderCount"));
+        assertFalse(names.contains("password"));
+        assertFalse(names.contains("email"));
+    }
+
+    @Test
+    void appliesTheNamingStrategy() {
+        ObjectMapper mapper = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        List<String> names = names(new JacksonPropertySource(mapper).properties(Customer.class));
+
+        assertTrue(names.contains("full_name"));
+        assertTrue(names.contains("order_count"));
+    }
+
+    @Test
+    void readsAnnotationsFromTheBackingField() {
+        SourceProperty fullName = new JacksonPropertySource(new ObjectMapper()).properties(Customer.class).stream()
+                .filter(property -> property.name().equals("fullName"))
+                .findFirst()
+                .orElseThrow();
+
+        assertInstanceOf(Method.class, fullName.member());
+        assertTrue(assertInstanceOf(Field.class, fullName.annotations()).isAnnotationPresent(NotNull.class));
+        assertEquals(String.class, fullName.rawType());
+    }
+
+    private static List<String> names(List<SourceProperty> properties) {
+        return properties.stream().map(SourceProperty::name).toList();
+    }
+}
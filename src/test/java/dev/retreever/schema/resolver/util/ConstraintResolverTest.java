@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.schema.resolver.util;
+
+import dev.retreever.schema.model.Constraint;
+import dev.retreever.schema.model.Constraint.Kind;
+import jakarta.validation.OverridesAttribute;
+import jakarta.validation.Payload;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConstraintResolverTest {
+
+    @jakarta.validation.Constraint(validatedBy = {})
+    @NotBlank
+    @Size(min = 3, max = 10)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.FIELD, ElementType.ANNOTATION_TYPE})
+    @interface Code {
+        String message() default "";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+        @OverridesAttribute(constraint = Size.class, name = "max")
+        int maxLength() default 10;
+    }
+
+    @jakarta.validation.Constraint(validatedBy = {})
+    @Code(maxLength = 6)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.FIELD)
+    @interface ShortCode {
+        String message() default "";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.FIELD)
+    @interface Unrelated {
+    }
+
+    static class Form {
+        @NotBlank @Size(min = 2, max = 40) String name;
+        @Email(regexp = ".+@acme\\.com") String email;
+        @Positive @DecimalMax(value = "99.5", inclusive = false) double price;
+        @Code(maxLength = 8) String code;
+        @ShortCode String shortCode;
+        @Unrelated String plain;
+    }
+
+    @Test
+    void mapsBuiltInAnnotationsToTypedConstraints() throws Exception {
+        ConstraintResolver.Result name = resolve("name");
+        assertTrue(name.required());
+        assertEquals(List.of(Constraint.flag(Kind.NOT_BLANK), Constraint.minLength(2), Constraint.maxLength(40)),
+                name.constraints().toList());
+
+        ConstraintResolver.Result email = resolve("email");
+        assertFalse(email.required());
+        assertEquals(List.of(Constraint.flag(Kind.EMAIL), Constraint.regex(".+@acme\\.com")),
+                email.constraints().toList());
+
+        assertEquals(List.of(Constraint.exclusiveMinValue(0), Constraint.exclusiveMaxValue(99.5)),
+                resolve("price").constraints().toList());
+    }
+
+    @Test
+    void expandsComposedConstraintsHonouringOverrides() throws Exception {
+        ConstraintResolver.Result code = resolve("code");
+        assertTrue(code.required());
+        assertEquals(List.of(Constraint.flag(Kind.NOT_BLANK), Constraint.minLength(3), Constraint.maxLength(8)),
+                code.constraints().toList());
+
+        // Nested composition applies the outer override to the inner composing constraint
+        assertEquals(List.of(Constraint.flag(Kind.NOT_BLANK), Constraint.minLength(3), Constraint.maxLength(6)),
+                resolve("shortCode").constraints().toList());
+    }
+
+    @Test
+    void ignoresNonConstraintAnnotations() throws Exception {
+        ConstraintResolver.Result plain = resolve("plain");
+        assertFalse(plain.required());
+        assertTrue(plain.constraints().isEmpty());
+    }
+
+    private static ConstraintResolver.Result resolve(String field) throws Exception {
+        Annotation[] annotations = Form.class.getDeclaredField(field).getAnnotations();
+        return ConstraintResolver.resolve(annotations);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.view;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.retreever.engine.RetreeverOrchestrator;
+import dev.retreever.sample.OrderController;
+import dev.retreever.sample.SampleApplication;
+import dev.retreever.sample.SampleErrorAdvice;
+import dev.retreever.view.dto.ApiDocument;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DocumentFreezerTest {
+
+    @Test
+    void frozenGroupsAreImmutableCopies() {
+        Map<String, Object> model = new LinkedHashMap<>();
+        model.put("number", "string");
+        model.put("items", new ArrayList<>(List.of(new LinkedHashMap<>(Map.of("sku", "string")))));
+        List<String> produces = new ArrayList<>(List.of("application/json"));
+        ApiDocument.ApiGroup group = group(endpoint(produces, new LinkedHashMap<>(Map.of("model", model))));
+
+        ApiDocument.ApiGroup frozen = DocumentFreezer.freeze(group);
+        assertEquals(group, frozen);
+
+        ApiDocument.Endpoint endpoint = frozen.endpoints().get(0);
+        assertThrows(UnsupportedOperationException.class, () -> frozen.endpoints().add(endpoint));
+        assertThrows(UnsupportedOperationException.class, () -> endpoint.produces().set(0, "text/plain"));
+        assertThrows(UnsupportedOperationException.class, () -> endpoint.response().put("example_model", "x"));
+
+        // Later changes to the assembled structures do not leak into the frozen copy
+        produces.add("application/xml");
+        model.put("total", "number");
+        assertEquals(List.of("application/json"), endpoint.produces());
+        assertEquals(List.of("number", "items"), List.copyOf(((Map<?, ?>) endpoint.response().get("model")).keySet()));
+    }
+
+    @Test
+    void renderedSchemasKeepTheirOrderAndNullValues() throws Exception {
+        Map<String, Object> model = new LinkedHashMap<>();
+        model.put("zeta", "string");
+        model.put("alpha", null);
+        model.put("tags", Arrays.asList("a", null));
+        ApiDocument.ApiGroup frozen = DocumentFreezer.freeze(group(endpoint(List.of(), model)));
+
+        Map<String, Object> response = frozen.endpoints().get(0).response();
+        assertEquals(List.of("zeta", "alpha", "tags"), List.copyOf(response.keySet()));
+        assertNull(response.get("alpha"));
+        assertEquals("{\"zeta\":\"string\",\"alpha\":null,\"tags\":[\"a\",null]}",
+                new ObjectMapper().writeValueAsString(response));
+    }
+
+    @Test
+    void stringsAreInternedAndFrozenGroupsShared() {
+        ApiDocument.ApiGroup frozen = DocumentFreezer.freeze(group(endpoint(List.of(), null)));
+        assertSame("Orders", frozen.name());
+        assertSame("/orders", frozen.endpoints().get(0).path());
+
+        ApiDocument document = DocumentFreezer.freezeDocument(new ApiDocument(
+                new String("Shop"), "", "v1", null, Instant.now(), new ArrayList<>(List.of(frozen))));
+        assertSame("Shop", document.name());
+        assertSame(frozen, document.groups().get(0));
+        assertThrows(UnsupportedOperationException.class, () -> document.groups().clear());
+    }
+
+    @Test
+    void builtDocumentsAreFrozen() {
+        try (RetreeverOrchestrator orchestrator = new RetreeverOrchestrator(List.of("dev.retreever.sample"), List.of())) {
+            ApiDocument document = orchestrator.build(SampleApplication.class,
+                    Set.of(OrderController.class), Set.of(SampleErrorAdvice.class));
+
+            ApiDocument.Endpoint endpoint = document.groups().get(0).endpoints().get(0);
+            assertThrows(UnsupportedOperationException.class, () -> document.groups().remove(0));
+            assertThrows(UnsupportedOperationException.class, () -> endpoint.response().clear());
+        }
+    }
+
+    private static ApiDocument.ApiGroup group(ApiDocument.Endpoint endpoint) {
+        return new ApiDocument.ApiGroup(new String("Orders"), "", false, new ArrayList<>(List.of(endpoint)));
+    }
+
+    private static ApiDocument.Endpoint endpoint(List<String> produces, Map<String, Object> response) {
+        return new ApiDocument.Endpoint(new String("Get"), false, null, false, "GET", new String("/orders"),
+                "OK", 200, List.of(), produces, "SYNC", List.of(), List.of(), List.of(), null, response, List.of());
+    }
+}